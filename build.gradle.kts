@@ -81,6 +81,21 @@ tasks {
     }
 
     test {
-        useJUnitPlatform()
+        useJUnitPlatform {
+            excludeTags("benchmark")
+        }
+    }
+
+    register<Test>("benchmark") {
+        description = "Runs the benchmarks tagged with 'benchmark'."
+        group = "verification"
+        testClassesDirs = sourceSets.test.get().output.classesDirs
+        classpath = sourceSets.test.get().runtimeClasspath
+        useJUnitPlatform {
+            includeTags("benchmark")
+        }
+        testLogging {
+            showStandardStreams = true
+        }
     }
 }
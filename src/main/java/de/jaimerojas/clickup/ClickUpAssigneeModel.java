@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup;
+
+import de.jaimerojas.clickup.model.ClickUpMemberDirectory;
+import de.jaimerojas.clickup.model.ClickUpUser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.util.List;
+
+/**
+ * Combo box model over a {@link ClickUpMemberDirectory}, showing a placeholder followed by the
+ * members that match the current search.
+ * <p>
+ * The model exposes the directory's lists as they are instead of copying members into the combo box,
+ * so switching workspaces or searching costs no more than the search itself.
+ */
+final class ClickUpAssigneeModel extends AbstractListModel<ClickUpUser> implements ComboBoxModel<ClickUpUser> {
+    private ClickUpUser placeholder;
+    private ClickUpMemberDirectory directory = ClickUpMemberDirectory.EMPTY;
+    private List<ClickUpUser> visibleUsers = List.of();
+    private Object selectedItem;
+
+    ClickUpAssigneeModel(@NotNull ClickUpUser placeholder) {
+        this.placeholder = placeholder;
+        this.selectedItem = placeholder;
+    }
+
+    /**
+     * Shows only the placeholder, e.g. while the members are loading.
+     */
+    void showPlaceholder(@NotNull ClickUpUser placeholder) {
+        this.placeholder = placeholder;
+        setDirectory(ClickUpMemberDirectory.EMPTY, null);
+    }
+
+    /**
+     * Shows all members of the directory and selects the given one, or the placeholder if it is not a member.
+     */
+    void setDirectory(@NotNull ClickUpMemberDirectory directory, @Nullable String selectedUserId) {
+        this.directory = directory;
+        ClickUpUser selected = directory.findById(selectedUserId);
+        selectedItem = selected != null ? selected : placeholder;
+        replaceVisibleUsers(directory.getUsers());
+    }
+
+    /**
+     * Restricts the visible members to those matching the prefix. The selection is kept.
+     */
+    void search(@Nullable String prefix) {
+        replaceVisibleUsers(directory.search(prefix));
+    }
+
+    private void replaceVisibleUsers(List<ClickUpUser> users) {
+        int oldSize = getSize();
+        visibleUsers = users;
+        fireIntervalRemoved(this, 0, oldSize - 1);
+        fireIntervalAdded(this, 0, getSize() - 1);
+        fireContentsChanged(this, -1, -1);
+    }
+
+    @Override
+    public int getSize() {
+        return visibleUsers.size() + 1;
+    }
+
+    @Override
+    public ClickUpUser getElementAt(int index) {
+        return index == 0 ? placeholder : visibleUsers.get(index - 1);
+    }
+
+    @Override
+    public void setSelectedItem(Object item) {
+        if (item != selectedItem) {
+            selectedItem = item;
+            fireContentsChanged(this, -1, -1);
+        }
+    }
+
+    @Override
+    public Object getSelectedItem() {
+        return selectedItem;
+    }
+}
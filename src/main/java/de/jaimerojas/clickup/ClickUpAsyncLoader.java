@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import de.jaimerojas.clickup.api.ClickUpCancellation;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Loads editor data in the background and delivers it on the UI thread.
+ * <p>
+ * Only the latest load counts: starting a load cancels the one in progress, and results of
+ * canceled loads are dropped. All methods have to be called on the UI thread.
+ */
+final class ClickUpAsyncLoader implements Disposable {
+    private final Executor backgroundExecutor;
+    private final Executor uiExecutor;
+    private ProgressIndicator current;
+
+    /**
+     * @param backgroundExecutor runs the loads
+     * @param uiExecutor         delivers the results, on the UI thread
+     */
+    ClickUpAsyncLoader(@NotNull Executor backgroundExecutor, @NotNull Executor uiExecutor) {
+        this.backgroundExecutor = backgroundExecutor;
+        this.uiExecutor = uiExecutor;
+    }
+
+    /**
+     * Cancels the load in progress and starts the given one.
+     *
+     * @param onLoaded called with the result unless the load was canceled
+     * @param onFailed called with the failure unless the load was canceled
+     */
+    <T> void load(
+            @NotNull ClickUpCancellation.IOComputable<T> computation,
+            @NotNull Consumer<T> onLoaded,
+            @NotNull Consumer<IOException> onFailed
+    ) {
+        cancel();
+        ProgressIndicator indicator = new EmptyProgressIndicator();
+        current = indicator;
+        backgroundExecutor.execute(() -> {
+            Runnable delivery;
+            try {
+                T result = ClickUpCancellation.computeUnder(indicator, computation);
+                delivery = () -> onLoaded.accept(result);
+            } catch (IOException e) {
+                delivery = () -> onFailed.accept(e);
+            } catch (ProcessCanceledException e) {
+                return;
+            }
+            Runnable deliver = delivery;
+            uiExecutor.execute(() -> {
+                if (current != indicator) {
+                    return;
+                }
+                current = null;
+                deliver.run();
+            });
+        });
+    }
+
+    /**
+     * @return whether a load is in progress
+     */
+    boolean isLoading() {
+        return current != null;
+    }
+
+    /**
+     * Cancels the load in progress, if any.
+     */
+    void cancel() {
+        if (current != null) {
+            current.cancel();
+            current = null;
+        }
+    }
+
+    @Override
+    public void dispose() {
+        cancel();
+    }
+}
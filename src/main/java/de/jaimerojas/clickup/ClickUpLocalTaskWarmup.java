@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup;
+
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.startup.ProjectActivity;
+import com.intellij.tasks.LocalTask;
+import com.intellij.tasks.TaskManager;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import kotlin.Unit;
+import kotlin.coroutines.Continuation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the ClickUp tasks linked to the local tasks of a project in one bulk call per repository
+ * when the project is opened, so that the lookups the IDE makes while restoring them are answered
+ * from memory.
+ */
+public final class ClickUpLocalTaskWarmup implements ProjectActivity {
+    private static final Logger LOG = Logger.getInstance(ClickUpLocalTaskWarmup.class);
+
+    @Override
+    public @Nullable Object execute(@NotNull Project project, @NotNull Continuation<? super Unit> continuation) {
+        Map<ClickUpRepository, List<String>> taskIdsByRepository = new IdentityHashMap<>();
+        for (LocalTask task : TaskManager.getManager(project).getLocalTasks()) {
+            if (task.isIssue() && task.getRepository() instanceof ClickUpRepository repository) {
+                taskIdsByRepository.computeIfAbsent(repository, r -> new ArrayList<>()).add(task.getId());
+            }
+        }
+        // the lookups block, so they must not hold up the other startup activities
+        taskIdsByRepository.forEach((repository, taskIds) -> AppExecutorUtil.getAppExecutorService().execute(() -> {
+            Map<String, ?> resolved = repository.findTasks(taskIds);
+            LOG.debug("Resolved " + resolved.size() + " of " + taskIds.size() + " local ClickUp tasks");
+        }));
+        return Unit.INSTANCE;
+    }
+}
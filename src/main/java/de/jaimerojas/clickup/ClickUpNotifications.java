@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup;
+
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.application.ApplicationManager;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Shows balloon notifications in the "ClickUp" notification group.
+ */
+public final class ClickUpNotifications {
+    private static final String GROUP_ID = "ClickUp";
+
+    private ClickUpNotifications() {
+    }
+
+    public static void notifyWarning(@NotNull String title, @NotNull String content) {
+        notify(title, content, NotificationType.WARNING);
+    }
+
+    public static void notifyInfo(@NotNull String title, @NotNull String content) {
+        notify(title, content, NotificationType.INFORMATION);
+    }
+
+    private static void notify(String title, String content, NotificationType type) {
+        // repositories are used without application in unit tests
+        if (ApplicationManager.getApplication() == null) {
+            return;
+        }
+        NotificationGroupManager.getInstance()
+                .getNotificationGroup(GROUP_ID)
+                .createNotification(title, content, type)
+                .notify(null);
+    }
+}
@@ -16,6 +16,9 @@
 package de.jaimerojas.clickup;
 
 import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task.Backgroundable;
 import com.intellij.tasks.CustomTaskState;
 import com.intellij.tasks.LocalTask;
 import com.intellij.tasks.Task;
@@ -23,33 +26,71 @@ import com.intellij.tasks.TaskRepositoryType;
 import com.intellij.tasks.impl.BaseRepository;
 import com.intellij.tasks.impl.httpclient.NewBaseRepositoryImpl;
 import com.intellij.util.xmlb.annotations.Attribute;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.intellij.util.xmlb.annotations.Tag;
+import com.intellij.util.xmlb.annotations.Transient;
 import de.jaimerojas.clickup.api.ClickUpApiClient;
 import de.jaimerojas.clickup.api.ClickUpApiClientImpl;
-import de.jaimerojas.clickup.model.ClickUpCustomItem;
+import de.jaimerojas.clickup.api.ClickUpCancellation;
+import de.jaimerojas.clickup.api.ClickUpEdtGuard;
+import de.jaimerojas.clickup.api.ClickUpNotFoundException;
+import de.jaimerojas.clickup.api.ClickUpTimeoutException;
+import de.jaimerojas.clickup.api.ClickUpUnavailableException;
+import de.jaimerojas.clickup.extensions.ClickUpCommitTemplate;
+import de.jaimerojas.clickup.extensions.ClickUpMarkdownText;
 import de.jaimerojas.clickup.model.ClickUpSpace;
+import de.jaimerojas.clickup.model.ClickUpSpaceIdOnly;
 import de.jaimerojas.clickup.model.ClickUpTask;
+import de.jaimerojas.clickup.model.ClickUpTaskSource;
+import de.jaimerojas.clickup.model.ClickUpTaskTypeClassifier;
 import de.jaimerojas.clickup.model.ClickUpWorkspace;
+import de.jaimerojas.clickup.query.ClickUpTaskQuery;
+import de.jaimerojas.clickup.query.ClickUpTaskQueryParser;
+import de.jaimerojas.clickup.service.ClickUpServiceRegistry;
 import de.jaimerojas.clickup.service.ClickUpTaskService;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Tag("ClickUp")
 public class ClickUpRepository extends NewBaseRepositoryImpl {
     private static final Logger LOG = Logger.getInstance(ClickUpRepository.class);
+    private static final Cleaner CLEANER = Cleaner.create();
+    // the longest the IDE waits for ClickUp when it asks for a task or its states
+    private static final long BLOCKING_CALL_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    // tasks read per round while looking for tasks matching the terms evaluated locally, a ClickUp page
+    private static final int MATCH_PAGE_SIZE = 100;
 
     private String selectedWorkspaceId;
     private String selectedAssigneeId;
     private boolean useCustomTaskIds = false;
+    private String additionalTaskSources = "";
+    private String taskTypeMapping = ClickUpTaskTypeClassifier.DEFAULT_MAPPING;
+    private ClickUpTaskTypeClassifier taskTypeClassifier = ClickUpTaskTypeClassifier.DEFAULT;
+    private ClickUpCommitTemplate commitTemplate = ClickUpCommitTemplate.EMPTY;
+    private int commitBodyMaxChars = ClickUpMarkdownText.DEFAULT_MAX_CHARS;
+    private int commitBodyMaxLines = ClickUpMarkdownText.DEFAULT_MAX_LINES;
 
     // Service layer for business logic - can be injected for testing
     private ClickUpTaskService taskService;
+    // releases the shared service when this repository is garbage collected, null for injected services
+    private Cleaner.Cleanable serviceLease;
+    // loads started in the background for calls made on the event dispatch thread, by what they load
+    private final Set<String> backgroundLoads = ConcurrentHashMap.newKeySet();
 
     /**
      * Serialization constructor
@@ -69,7 +110,13 @@ public class ClickUpRepository extends NewBaseRepositoryImpl {
         setSelectedWorkspaceId(other.getSelectedWorkspaceId());
         setSelectedAssigneeId(other.getSelectedAssigneeId());
         setUseCustomTaskIds(other.isUseCustomTaskIds());
-        this.taskService = other.taskService;
+        setTaskTypeMapping(other.getTaskTypeMapping());
+        setAdditionalTaskSources(other.getAdditionalTaskSources());
+        this.commitTemplate = other.commitTemplate;
+        setCommitBodyMaxChars(other.getCommitBodyMaxChars());
+        setCommitBodyMaxLines(other.getCommitBodyMaxLines());
+        // shared services are leased by each copy on its own, injected ones are passed on
+        this.taskService = other.serviceLease == null ? other.taskService : null;
     }
 
     /**
@@ -82,24 +129,42 @@ public class ClickUpRepository extends NewBaseRepositoryImpl {
 
     /**
      * Gets or creates the task service.
-     * Lazily initializes the service with the API client.
+     * Repositories with the same API token and workspace share one service, see {@link ClickUpServiceRegistry}.
      */
     @NotNull
     protected ClickUpTaskService getTaskService() {
         if (taskService == null) {
-            ClickUpApiClient apiClient = new ClickUpApiClientImpl(getHttpClient(), myPassword);
-            taskService = new ClickUpTaskService(apiClient);
+            String apiToken = Objects.toString(myPassword, "");
+            ClickUpServiceRegistry registry = ClickUpServiceRegistry.getInstance();
+            ClickUpTaskService leased = registry.acquire(apiToken, selectedWorkspaceId, () -> {
+                ClickUpApiClient apiClient = new ClickUpApiClientImpl(getHttpClient(), apiToken);
+                ClickUpTaskService service = new ClickUpTaskService(apiClient, System::currentTimeMillis, AppExecutorUtil.getAppExecutorService());
+                service.addConnectivityListener(new ConnectivityNotifier());
+                return service;
+            });
+            taskService = leased;
+            serviceLease = CLEANER.register(this, () -> registry.release(leased));
         }
         return taskService;
     }
 
     /**
-     * For testing - allows setting a custom task service
+     * For testing - allows setting a custom task service.
+     * Setting null releases the current service, so the next call creates or leases a new one.
      */
     void setTaskService(ClickUpTaskService taskService) {
+        releaseTaskService();
         this.taskService = taskService;
     }
 
+    private void releaseTaskService() {
+        if (serviceLease != null) {
+            serviceLease.clean();
+            serviceLease = null;
+        }
+        taskService = null;
+    }
+
     @Override
     public String getUrl() {
         return "https://api.clickup.com/api/v2";
@@ -112,7 +177,12 @@ public class ClickUpRepository extends NewBaseRepositoryImpl {
 
         return Objects.equals(selectedWorkspaceId, that.selectedWorkspaceId)
                 && Objects.equals(selectedAssigneeId, that.selectedAssigneeId)
-                && useCustomTaskIds == that.useCustomTaskIds;
+                && useCustomTaskIds == that.useCustomTaskIds
+                && Objects.equals(taskTypeMapping, that.taskTypeMapping)
+                && Objects.equals(additionalTaskSources, that.additionalTaskSources)
+                && Objects.equals(commitTemplate.getSource(), that.commitTemplate.getSource())
+                && commitBodyMaxChars == that.commitBodyMaxChars
+                && commitBodyMaxLines == that.commitBodyMaxLines;
     }
 
     @Override
@@ -120,6 +190,11 @@ public class ClickUpRepository extends NewBaseRepositoryImpl {
         int result = Objects.hashCode(selectedWorkspaceId);
         result = 31 * result + Objects.hashCode(selectedAssigneeId);
         result = 31 * result + Boolean.hashCode(useCustomTaskIds);
+        result = 31 * result + Objects.hashCode(taskTypeMapping);
+        result = 31 * result + Objects.hashCode(additionalTaskSources);
+        result = 31 * result + commitTemplate.getSource().hashCode();
+        result = 31 * result + commitBodyMaxChars;
+        result = 31 * result + commitBodyMaxLines;
         return result;
     }
 
@@ -129,24 +204,118 @@ public class ClickUpRepository extends NewBaseRepositoryImpl {
         return new ClickUpRepository(this);
     }
 
+    /**
+     * Finds a task, waiting at most ten seconds for ClickUp. Without an API token, no task is found.
+     * On the event dispatch thread, only cached tasks are returned; an unknown task is loaded in the
+     * background, so a later call finds it.
+     */
     @Nullable
     @Override
     public Task findTask(@NotNull String taskId) {
-        try {
-            ClickUpTask task = getTaskService().getTask(taskId, useCustomTaskIds, selectedWorkspaceId);
-            ClickUpCustomItem customItem = getTaskService().getCustomItem(selectedWorkspaceId, task.getCustom_item_id());
-            task.setCustomItem(customItem);
-
-            if (task != null) {
-                task.setRepository(this);
+        if (myPassword == null || myPassword.trim().isEmpty()) {
+            return null;
+        }
+        if (ClickUpEdtGuard.isDispatchThread()) {
+            ClickUpTask cached = getTaskService().findCachedTask(taskId);
+            if (cached == null) {
+                loadInBackground("task " + taskId, ClickUpBundle.message("progress.loading.task", taskId), () -> loadTask(taskId));
+                return null;
             }
-            return task;
+            return cached.withRepository(this);
+        }
+        try {
+            return ClickUpCancellation.computeWithin(BLOCKING_CALL_TIMEOUT_MILLIS, () -> loadTask(taskId));
+        } catch (ClickUpTimeoutException e) {
+            LOG.warn("ClickUp did not answer in time, task " + taskId + " is not available: " + e.getMessage());
+        } catch (ClickUpUnavailableException e) {
+            LOG.warn("ClickUp is unreachable, task " + taskId + " is not available offline: " + e.getMessage());
         } catch (IOException e) {
             LOG.error("Error fetching task with ID: " + taskId, e);
         }
         return null;
     }
 
+    private @Nullable ClickUpTask loadTask(@NotNull String taskId) throws IOException {
+        // answered from the task index when the task was returned by a recent getIssues call
+        ClickUpTask task = getTaskService().getTask(taskId, useCustomTaskIds, workspaceOf(taskId));
+        if (task == null) {
+            return null;
+        }
+
+        if (task.getCustomItem() == null) {
+            try {
+                task.setCustomItem(getTaskService().getCustomItem(workspaceOf(task), task.getCustom_item_id()));
+            } catch (ClickUpNotFoundException e) {
+                // already logged by the service, the task is shown without its custom item
+                LOG.debug("Custom item of task " + taskId + " is unknown: " + e.getMessage());
+            }
+        }
+        return task.withRepository(this);
+    }
+
+    /**
+     * Returns the workspace the task was fetched from, which for tasks of additional task sources is not
+     * the selected one.
+     *
+     * @return the workspace of the task, or the selected workspace if the task is not known
+     */
+    private String workspaceOf(@NotNull Task task) {
+        if (task instanceof ClickUpTask clickUpTask && clickUpTask.getTeam_id() != null) {
+            return clickUpTask.getTeam_id();
+        }
+        return workspaceOf(task.getId());
+    }
+
+    private String workspaceOf(@NotNull String taskId) {
+        ClickUpTask cached = getTaskService().findCachedTask(taskId);
+        return cached != null && cached.getTeam_id() != null ? cached.getTeam_id() : selectedWorkspaceId;
+    }
+
+    /**
+     * Runs the load in a background task with progress in the status bar, unless the same load is
+     * running already.
+     *
+     * @param key   identifies what is loaded
+     * @param title the title of the progress
+     */
+    private void loadInBackground(@NotNull String key, @NotNull String title, @NotNull ClickUpCancellation.IOComputable<?> load) {
+        if (!backgroundLoads.add(key)) {
+            return;
+        }
+        new Backgroundable(null, title, true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                try {
+                    ClickUpCancellation.computeWithin(BLOCKING_CALL_TIMEOUT_MILLIS, load);
+                } catch (IOException e) {
+                    LOG.warn("Could not load " + key + " in the background: " + e.getMessage());
+                }
+            }
+
+            @Override
+            public void onFinished() {
+                backgroundLoads.remove(key);
+            }
+        }.queue();
+    }
+
+    /**
+     * Resolves several tasks at once, e.g. the local tasks restored when a project is opened.
+     * Cached tasks are served from memory and the others are fetched concurrently,
+     * see {@link ClickUpTaskService#resolveTasks}.
+     *
+     * @return the tasks found, by the requested ID
+     */
+    public @NotNull Map<String, ClickUpTask> findTasks(@NotNull Collection<String> taskIds) {
+        if (myPassword == null || myPassword.trim().isEmpty()) {
+            return Map.of();
+        }
+        Map<String, ClickUpTask> tasks = new LinkedHashMap<>();
+        getTaskService().resolveTasks(taskIds, useCustomTaskIds, selectedWorkspaceId)
+                .forEach((taskId, task) -> tasks.put(taskId, task.withRepository(this)));
+        return tasks;
+    }
+
     @Override
     public Task[] getIssues(@Nullable String query, int offset, int limit, boolean withClosed) {
         if (myPassword == null || myPassword.trim().isEmpty())
@@ -155,26 +324,16 @@ public class ClickUpRepository extends NewBaseRepositoryImpl {
         LOG.debug("getIssues called with offset: " + offset);
         LOG.debug("getIssues called with limit: " + limit);
 
+        ClickUpTaskQuery taskQuery = ClickUpTaskQueryParser.parse(query);
         try {
-            List<ClickUpTask> tasks = getTaskService().getTasks(
-                    selectedWorkspaceId,
-                    selectedAssigneeId,
-                    offset,
-                    useCustomTaskIds
-            );
-
-            // set repo to each task - necessary to enable status update on open task dialog
-            tasks.forEach(task -> {
-                task.setRepository(this);
-                ClickUpCustomItem customItem = null;
-                try {
-                    customItem = getTaskService().getCustomItem(selectedWorkspaceId, task.getCustom_item_id());
-                } catch (IOException e) {
-                    LOG.error("Error fetching custom item for task ID: " + task.getId(), e);
-                }
-                task.setCustomItem(customItem);
-            });
-            return tasks.toArray(new ClickUpTask[0]);
+            // sources are fetched concurrently, spaces and custom items are resolved before the tasks are returned
+            List<ClickUpTask> tasks = taskQuery.hasLocalPredicates()
+                    ? getMatchingTasks(taskQuery, offset, limit, withClosed)
+                    : getTaskService().getTasks(getTaskSources(), offset, limit, useCustomTaskIds, taskQuery.getFilter(), withClosed);
+            // bind each task to this repository - necessary to enable status update on open task dialog
+            return tasks.stream().map(task -> task.withRepository(this)).toArray(ClickUpTask[]::new);
+        } catch (ClickUpUnavailableException e) {
+            LOG.warn("ClickUp is unreachable and no tasks are known for query: " + query);
         } catch (IOException e) {
             LOG.error("Error fetching tasks with query: " + query, e);
         }
@@ -182,12 +341,35 @@ public class ClickUpRepository extends NewBaseRepositoryImpl {
     }
 
 
+    /**
+     * Pages through the tasks from the start until {@code offset + limit} of them match the terms the API
+     * cannot filter on. The offset and limit count matching tasks, since the terms are evaluated only after
+     * the custom items of the tasks are known.
+     *
+     * @return the matching tasks from the offset on, at most {@code limit}
+     */
+    private List<ClickUpTask> getMatchingTasks(ClickUpTaskQuery taskQuery, int offset, int limit, boolean withClosed) throws IOException {
+        List<ClickUpTaskSource> sources = getTaskSources();
+        boolean openOnly = !withClosed && !taskQuery.getFilter().isIncludeClosed();
+        long end = (long) offset + limit;
+        List<ClickUpTask> matches = new ArrayList<>();
+        for (int from = 0; matches.size() < end; from += MATCH_PAGE_SIZE) {
+            List<ClickUpTask> page = getTaskService().getTasks(sources, from, MATCH_PAGE_SIZE, useCustomTaskIds, taskQuery.getFilter(), withClosed);
+            page.stream().filter(taskQuery::matches).forEach(matches::add);
+            // with closed tasks, a page past the last open tasks may still hold closed ones
+            if (page.size() < MATCH_PAGE_SIZE && (openOnly || page.isEmpty())) {
+                break;
+            }
+        }
+        return offset < matches.size() ? matches.subList(offset, (int) Math.min(matches.size(), end)) : List.of();
+    }
+
     @Override
     public void updateTimeSpent(@NotNull LocalTask task, @NotNull String timeSpent, @NotNull String comment) throws Exception {
         String taskId = task.getId();
         LOG.warn("Updating time spent for task ID: " + taskId);
         try {
-            getTaskService().updateTimeSpent(taskId, timeSpent, selectedWorkspaceId, useCustomTaskIds);
+            getTaskService().updateTimeSpent(taskId, timeSpent, workspaceOf(task), useCustomTaskIds);
             LOG.warn("Time spent updated for task ID: " + taskId);
         } catch (IOException e) {
             LOG.error("Error updating time spent for task ID: " + taskId, e);
@@ -196,42 +378,84 @@ public class ClickUpRepository extends NewBaseRepositoryImpl {
     }
 
     @Override
-    public void setTaskState(@NotNull Task task, @NotNull CustomTaskState state) throws Exception {
+    public void setTaskState(@NotNull Task task, @NotNull CustomTaskState state) {
         String taskId = task.getId();
-        LOG.warn("Updating task state for task ID: " + taskId);
-        try {
-            getTaskService().updateTaskStatus(taskId, state.getPresentableName(), selectedWorkspaceId, useCustomTaskIds);
-        } catch (IOException e) {
-            LOG.debug("Error updating task state for task ID: " + taskId, e);
-            throw new Exception("Failed to update task state", e);
-        }
+        String statusName = state.getPresentableName();
+        LOG.debug("Updating task state for task ID: " + taskId);
+        // applied to the cached task right away, ClickUp is updated in the background
+        getTaskService().updateTaskStatus(taskId, statusName, workspaceOf(task), useCustomTaskIds)
+                .whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        ClickUpNotifications.notifyWarning(
+                                ClickUpBundle.message("notification.status.update.failed.title"),
+                                ClickUpBundle.message("notification.status.update.failed.content",
+                                        task.getPresentableId(), statusName, cause.getMessage()));
+                    }
+                });
     }
 
+    /**
+     * Returns the statuses of the task's space, waiting at most ten seconds for ClickUp.
+     * On the event dispatch thread, only a cached space is used; otherwise no states are returned
+     * and the space is loaded in the background, so a later call finds it.
+     */
     @Override
     public @NotNull Set<CustomTaskState> getAvailableTaskStates(@NotNull Task task) throws Exception {
-        Set<CustomTaskState> taskStatuses = new HashSet<>();
         LOG.warn("Fetching available task states for task ID: " + task.getId());
 
+        if (ClickUpEdtGuard.isDispatchThread()) {
+            ClickUpTask cached = getTaskService().findCachedTask(task.getId());
+            ClickUpSpace space = cached != null && cached.getSpace() != null ? getTaskService().findCachedSpace(cached.getSpace().getId()) : null;
+            if (space == null) {
+                loadInBackground("states of task " + task.getId(), ClickUpBundle.message("progress.loading.task.states", task.getPresentableId()),
+                        () -> loadTaskStates(task));
+                return new HashSet<>();
+            }
+            return toTaskStates(space);
+        }
         try {
-            ClickUpTask clickUpTask = getTaskService().getTask(task.getId(), useCustomTaskIds, selectedWorkspaceId);
-            String spaceId = clickUpTask.getSpace().getId();
-            ClickUpSpace space = getTaskService().getSpace(spaceId);
-
-            space.getStatuses().forEach(state ->
-                    taskStatuses.add(new CustomTaskState(state.getId(), state.getStatus())));
-
-            LOG.warn("Available task states: " + taskStatuses.stream()
-                    .map(CustomTaskState::getPresentableName)
-                    .reduce((a, b) -> a + ", " + b)
-                    .orElse(""));
-
-            return taskStatuses;
+            return ClickUpCancellation.computeWithin(BLOCKING_CALL_TIMEOUT_MILLIS, () -> loadTaskStates(task));
+        } catch (ClickUpNotFoundException e) {
+            // already logged by the service, no stack trace for a space that does not exist
+            throw new Exception("Failed to fetch task states: " + e.getMessage(), e);
+        } catch (ClickUpTimeoutException e) {
+            LOG.warn("ClickUp did not answer in time, no task states for task ID " + task.getId() + ": " + e.getMessage());
+            throw new Exception("Failed to fetch task states: " + e.getMessage(), e);
+        } catch (ClickUpUnavailableException e) {
+            LOG.warn("ClickUp is unreachable, no task states for task ID " + task.getId() + ": " + e.getMessage());
+            throw new Exception("Failed to fetch task states: " + e.getMessage(), e);
         } catch (IOException e) {
             LOG.error("Error fetching task states for task ID: " + task.getId(), e);
             throw new Exception("Failed to fetch task states", e);
         }
     }
 
+    private Set<CustomTaskState> loadTaskStates(@NotNull Task task) throws IOException {
+        ClickUpTask clickUpTask = getTaskService().getTask(task.getId(), useCustomTaskIds, workspaceOf(task));
+        if (clickUpTask == null) {
+            throw new ClickUpNotFoundException("Task not found: " + task.getId());
+        }
+        ClickUpSpaceIdOnly space = clickUpTask.getSpace();
+        if (space == null || space.getId() == null) {
+            throw new ClickUpNotFoundException("Task " + task.getId() + " has no space");
+        }
+        return toTaskStates(getTaskService().getSpace(space.getId()));
+    }
+
+    private static Set<CustomTaskState> toTaskStates(@NotNull ClickUpSpace space) {
+        Set<CustomTaskState> taskStatuses = new HashSet<>();
+        space.getStatuses().forEach(state ->
+                taskStatuses.add(new CustomTaskState(state.getId(), state.getStatus())));
+
+        LOG.warn("Available task states: " + taskStatuses.stream()
+                .map(CustomTaskState::getPresentableName)
+                .reduce((a, b) -> a + ", " + b)
+                .orElse(""));
+
+        return taskStatuses;
+    }
+
     @Override
     protected int getFeatures() {
         return /*super.getFeatures() |*/ STATE_UPDATING | TIME_MANAGEMENT;
@@ -240,24 +464,55 @@ public class ClickUpRepository extends NewBaseRepositoryImpl {
     @Override
     public @Nullable CancellableConnection createCancellableConnection() {
         return new CancellableConnection() {
+            private volatile ProgressIndicator indicator;
+            private volatile boolean canceled;
+
             @Override
             public void cancel() {
-                // do nothing
+                canceled = true;
+                ProgressIndicator current = indicator;
+                if (current != null) {
+                    current.cancel();
+                }
             }
 
             @Override
             protected void doTest() throws Exception {
-                getTaskService().testConnection();
+                // the test runs under its own indicator, so canceling aborts the request instead of waiting for it
+                ProgressIndicator current = new EmptyProgressIndicator();
+                indicator = current;
+                if (canceled) {
+                    current.cancel();
+                }
+                ClickUpCancellation.computeUnder(current, () -> {
+                    getTaskService().testConnection();
+                    return null;
+                });
             }
         };
     }
 
+    /**
+     * Sets the API token. A changed token releases the service leased for the old one, so the next call
+     * leases the service of the new token.
+     */
+    @Override
+    public void setPassword(String password) {
+        if (serviceLease != null && !Objects.equals(myPassword, password)) {
+            releaseTaskService();
+        }
+        super.setPassword(password);
+    }
+
     @Attribute("SelectedWorkspaceId")
     public String getSelectedWorkspaceId() {
         return selectedWorkspaceId;
     }
 
     public void setSelectedWorkspaceId(String selectedWorkspaceId) {
+        if (serviceLease != null && !Objects.equals(this.selectedWorkspaceId, selectedWorkspaceId)) {
+            releaseTaskService();
+        }
         this.selectedWorkspaceId = selectedWorkspaceId;
     }
 
@@ -279,6 +534,123 @@ public class ClickUpRepository extends NewBaseRepositoryImpl {
         this.useCustomTaskIds = selected;
     }
 
+    /**
+     * @return the selected workspace and assignee, followed by the additional sources
+     */
+    public @NotNull List<ClickUpTaskSource> getTaskSources() {
+        Set<ClickUpTaskSource> sources = new LinkedHashSet<>();
+        sources.add(new ClickUpTaskSource(selectedWorkspaceId, selectedAssigneeId));
+        sources.addAll(ClickUpTaskSource.parseAll(additionalTaskSources));
+        return List.copyOf(sources);
+    }
+
+    /**
+     * Further workspaces and assignees to fetch tasks from, in the format described by {@link ClickUpTaskSource}.
+     */
+    @Attribute("AdditionalTaskSources")
+    public String getAdditionalTaskSources() {
+        return additionalTaskSources;
+    }
+
+    public void setAdditionalTaskSources(String additionalTaskSources) {
+        this.additionalTaskSources = additionalTaskSources != null ? additionalTaskSources : "";
+    }
+
+    @Attribute("TaskTypeMapping")
+    public String getTaskTypeMapping() {
+        return taskTypeMapping;
+    }
+
+    /**
+     * Sets the mapping from custom item names to task types, see {@link ClickUpTaskTypeClassifier}.
+     * An invalid mapping is logged and not applied, the current mapping is kept.
+     */
+    public void setTaskTypeMapping(String taskTypeMapping) {
+        if (taskTypeMapping == null || taskTypeMapping.isBlank()
+                || ClickUpTaskTypeClassifier.DEFAULT_MAPPING.equals(taskTypeMapping)) {
+            this.taskTypeMapping = ClickUpTaskTypeClassifier.DEFAULT_MAPPING;
+            this.taskTypeClassifier = ClickUpTaskTypeClassifier.DEFAULT;
+            return;
+        }
+        try {
+            this.taskTypeClassifier = new ClickUpTaskTypeClassifier(taskTypeMapping);
+            this.taskTypeMapping = taskTypeMapping;
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Invalid task type mapping, keeping " + this.taskTypeMapping + ": " + e.getMessage());
+        }
+    }
+
+    @Transient
+    public @NotNull ClickUpTaskTypeClassifier getTaskTypeClassifier() {
+        return taskTypeClassifier;
+    }
+
+    /**
+     * Template rendered by the {@code template} commit placeholder, see {@link ClickUpCommitTemplate}.
+     */
+    @Attribute("CommitMessageTemplate")
+    public String getCommitMessageTemplate() {
+        return commitTemplate.getSource();
+    }
+
+    /**
+     * Sets the commit template, which is compiled once here rather than on every render of the commit dialog.
+     */
+    public void setCommitMessageTemplate(String commitMessageTemplate) {
+        if (!commitTemplate.getSource().equals(commitMessageTemplate)) {
+            this.commitTemplate = commitMessageTemplate == null || commitMessageTemplate.isEmpty()
+                    ? ClickUpCommitTemplate.EMPTY
+                    : ClickUpCommitTemplate.compile(commitMessageTemplate);
+        }
+    }
+
+    @Transient
+    public @NotNull ClickUpCommitTemplate getCommitTemplate() {
+        return commitTemplate;
+    }
+
+    /**
+     * Maximum number of characters of the {@code body} commit placeholder, see {@link ClickUpMarkdownText}.
+     */
+    @Attribute("CommitBodyMaxChars")
+    public int getCommitBodyMaxChars() {
+        return commitBodyMaxChars;
+    }
+
+    public void setCommitBodyMaxChars(int commitBodyMaxChars) {
+        this.commitBodyMaxChars = Math.max(commitBodyMaxChars, 0);
+    }
+
+    /**
+     * Maximum number of lines of the {@code body} commit placeholder.
+     */
+    @Attribute("CommitBodyMaxLines")
+    public int getCommitBodyMaxLines() {
+        return commitBodyMaxLines;
+    }
+
+    public void setCommitBodyMaxLines(int commitBodyMaxLines) {
+        this.commitBodyMaxLines = Math.max(commitBodyMaxLines, 1);
+    }
+
+    /**
+     * Looks the task up in the caches of the task service without fetching it, for callers
+     * that must not block, like the commit dialog.
+     *
+     * @return the cached task, or null if it has not been fetched recently
+     */
+    public @Nullable ClickUpTask findCachedTask(@NotNull String taskId) {
+        ClickUpTask task = getTaskService().findCachedTask(taskId);
+        return task != null ? task.withRepository(this) : null;
+    }
+
+    /**
+     * @return whether ClickUp is unreachable, so the tasks of this repository are the last known ones
+     */
+    public boolean isOffline() {
+        return getTaskService().isOffline();
+    }
+
     public void getHttpClientForTest() {
         getHttpClient();
     }
@@ -286,4 +658,24 @@ public class ClickUpRepository extends NewBaseRepositoryImpl {
     public List<ClickUpWorkspace> fetchWorkspaces() throws IOException {
         return getTaskService().getWorkspaces();
     }
-}
\ No newline at end of file
+
+    /**
+     * Tells the user when the shared service goes offline and comes back. It must not reference a
+     * repository, since the service outlives the repositories using it.
+     */
+    private static final class ConnectivityNotifier implements ClickUpTaskService.ConnectivityListener {
+        @Override
+        public void wentOffline(@NotNull IOException cause) {
+            ClickUpNotifications.notifyWarning(
+                    ClickUpBundle.message("notification.offline.title"),
+                    ClickUpBundle.message("notification.offline.content", cause.getMessage()));
+        }
+
+        @Override
+        public void backOnline(int sentChanges) {
+            ClickUpNotifications.notifyInfo(
+                    ClickUpBundle.message("notification.online.title"),
+                    ClickUpBundle.message("notification.online.content", sentChanges));
+        }
+    }
+}
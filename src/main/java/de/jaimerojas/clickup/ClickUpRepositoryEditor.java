@@ -15,32 +15,67 @@
  */
 package de.jaimerojas.clickup;
 
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.ComboBox;
+import com.intellij.openapi.ui.ComponentValidator;
+import com.intellij.openapi.ui.ValidationInfo;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.tasks.config.BaseRepositoryEditor;
+import com.intellij.ui.DocumentAdapter;
+import com.intellij.ui.JBIntSpinner;
 import com.intellij.ui.components.JBLabel;
 import com.intellij.ui.components.JBPasswordField;
+import com.intellij.ui.components.JBTextField;
 import com.intellij.util.Consumer;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.intellij.util.ui.FormBuilder;
-import de.jaimerojas.clickup.model.ClickUpTeamMember;
+import de.jaimerojas.clickup.model.ClickUpTaskTypeClassifier;
 import de.jaimerojas.clickup.model.ClickUpUser;
 import de.jaimerojas.clickup.model.ClickUpWorkspace;
+import de.jaimerojas.clickup.service.ClickUpTaskService;
+import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
 import java.awt.*;
 import java.awt.event.FocusAdapter;
 import java.awt.event.FocusEvent;
 import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
 
 public class ClickUpRepositoryEditor extends BaseRepositoryEditor<ClickUpRepository> {
     private static final Logger LOG = Logger.getInstance(ClickUpRepositoryEditor.class);
+    // wait for the user to stop typing before the token is checked
+    private static final int TOKEN_DEBOUNCE_MILLIS = 600;
+    private static final int ASSIGNEE_ROWS = 15;
+    private static final int MAX_COMMIT_BODY_CHARS = 100_000;
+    private static final int MAX_COMMIT_BODY_LINES = 1_000;
 
     private JBPasswordField myApiTokenField;
     private ComboBox<ClickUpWorkspace> myWorkspaceDropdown;
+    private ClickUpWorkspaceModel myWorkspaceModel;
     private ComboBox<ClickUpUser> myAssigneeDropdown;
+    private ClickUpAssigneeModel myAssigneeModel;
+    private JBTextField myAssigneeSearchField;
     private JCheckBox myUseCustomTaskIdsCheckBox;
+    private JBTextField myAdditionalSourcesField;
+    private JBTextField myTaskTypeMappingField;
+    private JBTextField myCommitTemplateField;
+    private JBIntSpinner myCommitBodyMaxCharsSpinner;
+    private JBIntSpinner myCommitBodyMaxLinesSpinner;
+
+    private ClickUpAsyncLoader myWorkspaceLoader;
+    private ClickUpAsyncLoader myAssigneeLoader;
+    // service the workspaces were loaded with, it caches the member directories too
+    private ClickUpTaskService myTaskService;
+    private Timer myTokenDebounce;
+    // token the workspaces were last requested for
+    private String myLoadedToken;
+    private boolean myAssigneesLoaded;
 
     public ClickUpRepositoryEditor(
             Project project,
@@ -73,51 +108,103 @@ public class ClickUpRepositoryEditor extends BaseRepositoryEditor<ClickUpReposit
         JPanel myApiTokenPanel = new JPanel(new BorderLayout(5, 0));
         myApiTokenPanel.add(myApiTokenField, BorderLayout.CENTER);
 
-        myWorkspaceDropdown = new ComboBox<>();
+        myWorkspaceModel = new ClickUpWorkspaceModel(workspacePlaceholder("<Workspace>"));
+        myWorkspaceDropdown = new ComboBox<>(myWorkspaceModel);
         JPanel myWorkspacePanel = new JPanel(new BorderLayout(5, 0));
         myWorkspacePanel.add(myWorkspaceDropdown, BorderLayout.CENTER);
 
-        myAssigneeDropdown = new ComboBox<>();
+        myAssigneeModel = new ClickUpAssigneeModel(assigneePlaceholder("<Assignee>"));
+        myAssigneeDropdown = new ComboBox<>(myAssigneeModel);
+        // a prototype spares the popup from measuring every member, so only visible rows are rendered
+        myAssigneeDropdown.setPrototypeDisplayValue(assigneePlaceholder("Firstname Lastname (first.last@example.com)"));
+        myAssigneeDropdown.setMaximumRowCount(ASSIGNEE_ROWS);
+        myAssigneeSearchField = new JBTextField(12);
+        myAssigneeSearchField.getEmptyText().setText(ClickUpBundle.message("label.assignee.search.hint"));
+        myAssigneeSearchField.setToolTipText(ClickUpBundle.message("label.assignee.search.hint"));
         JPanel myAssigneePanel = new JPanel(new BorderLayout(5, 5));
+        myAssigneePanel.add(myAssigneeSearchField, BorderLayout.WEST);
         myAssigneePanel.add(myAssigneeDropdown, BorderLayout.CENTER);
 
         myUseCustomTaskIdsCheckBox = new JCheckBox(ClickUpBundle.message("label.use.custom.task.ids"));
         myAssigneePanel.add(myUseCustomTaskIdsCheckBox, BorderLayout.EAST);
 
-        if (myRepository.isConfigured() && canConnectToClickUp()) {
+        myAdditionalSourcesField = new JBTextField(myRepository.getAdditionalTaskSources());
+        myAdditionalSourcesField.getEmptyText().setText(ClickUpBundle.message("label.additional.sources.hint"));
+        myAdditionalSourcesField.setToolTipText(ClickUpBundle.message("label.additional.sources.hint"));
+
+        myTaskTypeMappingField = new JBTextField(myRepository.getTaskTypeMapping());
+        myTaskTypeMappingField.getEmptyText().setText(ClickUpBundle.message("label.task.type.mapping.hint"));
+        myTaskTypeMappingField.setToolTipText(ClickUpBundle.message("label.task.type.mapping.hint"));
+
+        myCommitTemplateField = new JBTextField(myRepository.getCommitMessageTemplate());
+        myCommitTemplateField.getEmptyText().setText(ClickUpBundle.message("label.commit.template.hint"));
+        myCommitTemplateField.setToolTipText(ClickUpBundle.message("label.commit.template.hint"));
+
+        myCommitBodyMaxCharsSpinner = new JBIntSpinner(myRepository.getCommitBodyMaxChars(), 0, MAX_COMMIT_BODY_CHARS);
+        myCommitBodyMaxLinesSpinner = new JBIntSpinner(myRepository.getCommitBodyMaxLines(), 1, MAX_COMMIT_BODY_LINES);
+        JPanel myCommitBodyPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+        myCommitBodyPanel.add(myCommitBodyMaxCharsSpinner);
+        myCommitBodyPanel.add(new JBLabel(ClickUpBundle.message("label.commit.body.chars")));
+        myCommitBodyPanel.add(myCommitBodyMaxLinesSpinner);
+        myCommitBodyPanel.add(new JBLabel(ClickUpBundle.message("label.commit.body.lines")));
+
+        myWorkspaceLoader = new ClickUpAsyncLoader(
+                AppExecutorUtil.getAppExecutorService(),
+                runnable -> ApplicationManager.getApplication().invokeLater(runnable, ModalityState.stateForComponent(myApiTokenField)));
+        myAssigneeLoader = new ClickUpAsyncLoader(
+                AppExecutorUtil.getAppExecutorService(),
+                runnable -> ApplicationManager.getApplication().invokeLater(runnable, ModalityState.stateForComponent(myAssigneeDropdown)));
+        myTokenDebounce = new Timer(TOKEN_DEBOUNCE_MILLIS, e -> tokenChanged());
+        myTokenDebounce.setRepeats(false);
+
+        loadUseCustomTaskIds();
+        if (myRepository.isConfigured()) {
             loadWorkspaces();
-            loadAssignees();
-            loadUseCustomTaskIds();
+        } else {
+            myWorkspaceDropdown.setEnabled(false);
+            setAssigneesEnabled(false);
         }
 
+        myAssigneeSearchField.getDocument().addDocumentListener(new DocumentAdapter() {
+            @Override
+            protected void textChanged(@NotNull DocumentEvent e) {
+                myAssigneeModel.search(myAssigneeSearchField.getText());
+            }
+        });
+        myApiTokenField.getDocument().addDocumentListener(new DocumentAdapter() {
+            @Override
+            protected void textChanged(@NotNull DocumentEvent e) {
+                myTokenDebounce.restart();
+            }
+        });
         myApiTokenField.addFocusListener(new FocusAdapter() {
             @Override
             public void focusLost(FocusEvent e) {
-                // update password in repository with new myApiTokenField value
-                char[] apiToken = myApiTokenField.getPassword();
-                myRepository.setPassword(apiToken != null && apiToken.length > 0 ? String.valueOf(apiToken) : null);
-                myRepository.setTaskService(null);
-                if (myRepository.isConfigured() && canConnectToClickUp()) {
-                    myWorkspaceDropdown.setEnabled(true);
-                    myAssigneeDropdown.setEnabled(true);
-                    loadWorkspaces();
-                    loadAssignees();
-                    loadUseCustomTaskIds();
-                } else {
-                    myWorkspaceDropdown.setEnabled(false);
-                    myAssigneeDropdown.setEnabled(false);
-                }
-                if (StringUtil.isNotEmpty(myRepository.getPassword())) {
-                    myTestButton.setEnabled(true);
+                // don't keep the user waiting for the debounce when they leave the field
+                if (myTokenDebounce.isRunning()) {
+                    myTokenDebounce.stop();
+                    tokenChanged();
                 }
             }
         });
         myWorkspaceDropdown.addActionListener(e -> loadAssignees());
+        new ComponentValidator(this).withValidator(this::validateTaskTypeMapping).installOn(myTaskTypeMappingField);
+        myTaskTypeMappingField.getDocument().addDocumentListener(new DocumentAdapter() {
+            @Override
+            protected void textChanged(@NotNull DocumentEvent e) {
+                ComponentValidator.getInstance(myTaskTypeMappingField).ifPresent(ComponentValidator::revalidate);
+            }
+        });
 
         installListener(myApiTokenField);
         installListener(myWorkspaceDropdown);
         installListener(myAssigneeDropdown);
         installListener(myUseCustomTaskIdsCheckBox);
+        installListener(myAdditionalSourcesField);
+        installListener(myTaskTypeMappingField);
+        installListener(myCommitTemplateField);
+        myCommitBodyMaxCharsSpinner.addChangeListener(e -> doApply());
+        myCommitBodyMaxLinesSpinner.addChangeListener(e -> doApply());
 
         // Use FormBuilder to create the panel
         return FormBuilder.createFormBuilder()
@@ -125,19 +212,35 @@ public class ClickUpRepositoryEditor extends BaseRepositoryEditor<ClickUpReposit
                 .addLabeledComponent(new JBLabel(ClickUpBundle.message("label.clickup.api.token"), SwingConstants.RIGHT), myApiTokenPanel)
                 .addLabeledComponent(new JBLabel(ClickUpBundle.message("label.clickup.workspace"), SwingConstants.RIGHT), myWorkspacePanel)
                 .addLabeledComponent(new JBLabel(ClickUpBundle.message("label.clickup.assignedTo"), SwingConstants.RIGHT), myAssigneePanel)
+                .addLabeledComponent(new JBLabel(ClickUpBundle.message("label.clickup.additional.sources"), SwingConstants.RIGHT), myAdditionalSourcesField)
+                .addLabeledComponent(new JBLabel(ClickUpBundle.message("label.clickup.task.type.mapping"), SwingConstants.RIGHT), myTaskTypeMappingField)
+                .addLabeledComponent(new JBLabel(ClickUpBundle.message("label.clickup.commit.template"), SwingConstants.RIGHT), myCommitTemplateField)
+                .addLabeledComponent(new JBLabel(ClickUpBundle.message("label.clickup.commit.body.limit"), SwingConstants.RIGHT), myCommitBodyPanel)
                 .getPanel();
     }
 
-    private boolean canConnectToClickUp() {
-        boolean canConnect;
-        try {
-            myRepository.getTaskService().testConnection();
-            canConnect = true;
-        } catch (IOException e) {
-            canConnect = false;
-            LOG.warn("Connection test failed", e);
+    /**
+     * Checks the token entered by the user by loading its workspaces.
+     */
+    private void tokenChanged() {
+        char[] apiToken = myApiTokenField.getPassword();
+        String token = apiToken != null && apiToken.length > 0 ? String.valueOf(apiToken) : null;
+        if (Objects.equals(token, myLoadedToken)) {
+            return;
+        }
+        myRepository.setPassword(token);
+        myRepository.setTaskService(null);
+        myTaskService = null;
+        myTestButton.setEnabled(StringUtil.isNotEmpty(token));
+        if (myRepository.isConfigured()) {
+            loadWorkspaces();
+        } else {
+            myLoadedToken = token;
+            myWorkspaceLoader.cancel();
+            showWorkspacePlaceholder("<Workspace>");
+            myWorkspaceDropdown.setEnabled(false);
+            setAssigneesEnabled(false);
         }
-        return canConnect;
     }
 
     @Override
@@ -148,64 +251,128 @@ public class ClickUpRepositoryEditor extends BaseRepositoryEditor<ClickUpReposit
             char[] apiToken = myApiTokenField.getPassword();
             myRepository.setPassword(apiToken != null && apiToken.length > 0 ? String.valueOf(apiToken) : null);
 
-            ClickUpWorkspace clickUpWorkspace = (ClickUpWorkspace) myWorkspaceDropdown.getSelectedItem();
-            if (clickUpWorkspace != null) {
-                LOG.info("Selected workspace: " + clickUpWorkspace.getId());
-                myRepository.setSelectedWorkspaceId(clickUpWorkspace.getId());
+            // keep the saved selection while the workspaces are loading or failed to load
+            if (myWorkspaceModel.isLoaded()) {
+                ClickUpWorkspace clickUpWorkspace = (ClickUpWorkspace) myWorkspaceDropdown.getSelectedItem();
+                if (clickUpWorkspace != null) {
+                    LOG.info("Selected workspace: " + clickUpWorkspace.getId());
+                    myRepository.setSelectedWorkspaceId(clickUpWorkspace.getId());
+                }
             }
-            ClickUpUser user = (ClickUpUser) myAssigneeDropdown.getSelectedItem();
-            if (user != null) {
-                LOG.info("Selected assignee: " + user.getId());
-                myRepository.setSelectedAssigneeId(user.getId());
+            if (myAssigneesLoaded) {
+                ClickUpUser user = (ClickUpUser) myAssigneeDropdown.getSelectedItem();
+                if (user != null) {
+                    LOG.info("Selected assignee: " + user.getId());
+                    myRepository.setSelectedAssigneeId(user.getId());
+                }
             }
             myRepository.setUseCustomTaskIds(myUseCustomTaskIdsCheckBox.isSelected());
+            myRepository.setAdditionalTaskSources(myAdditionalSourcesField.getText().trim());
+            // an invalid mapping is shown as an error at the field and not applied
+            if (validateTaskTypeMapping() == null) {
+                myRepository.setTaskTypeMapping(myTaskTypeMappingField.getText().trim());
+            }
+            myRepository.setCommitMessageTemplate(myCommitTemplateField.getText());
+            myRepository.setCommitBodyMaxChars(myCommitBodyMaxCharsSpinner.getNumber());
+            myRepository.setCommitBodyMaxLines(myCommitBodyMaxLinesSpinner.getNumber());
         }
     }
 
+    private ValidationInfo validateTaskTypeMapping() {
+        String error = ClickUpTaskTypeClassifier.validate(myTaskTypeMappingField.getText().trim());
+        return error != null
+                ? new ValidationInfo(ClickUpBundle.message("error.task.type.mapping.invalid", error), myTaskTypeMappingField)
+                : null;
+    }
+
+    /**
+     * Loads the workspaces in the background. The same response validates the token,
+     * so no separate connection test is needed.
+     */
     private void loadWorkspaces() {
-        try {
-            myWorkspaceDropdown.removeAllItems();
-            myWorkspaceDropdown.addItem(new ClickUpWorkspace("-1", "<Workspace>"));
-            if (StringUtil.isEmpty(myRepository.getPassword())) return;
-            for (ClickUpWorkspace workspace : myRepository.fetchWorkspaces()) {
-                myWorkspaceDropdown.addItem(workspace);
-                if (workspace.getId().equals(myRepository.getSelectedWorkspaceId()))
-                    myWorkspaceDropdown.setSelectedItem(workspace);
-            }
-        } catch (IOException e) {
-            LOG.error("Failed to fetch ClickUp data", e);
-            //create an error label and add below myPasswordTest
-            myApiTokenField.add(new JLabel("Failed to fetch ClickUp data"));
-            // remove automatically after 5 seconds
-            new java.util.Timer().schedule(
-                    new java.util.TimerTask() {
-                        @Override
-                        public void run() {
-                            myApiTokenField.remove(0);
-                        }
-                    },
-                    5000
-            );
-        }
+        myLoadedToken = myRepository.getPassword();
+        myTaskService = myRepository.getTaskService();
+        myWorkspaceLoader.load(myTaskService::getWorkspaces, this::showWorkspaces, this::showLoadFailure);
+        showWorkspacePlaceholder(ClickUpBundle.message("label.clickup.loading"));
+        myWorkspaceDropdown.setEnabled(false);
+        setAssigneesEnabled(false);
+    }
+
+    private void showWorkspaces(List<ClickUpWorkspace> workspaces) {
+        // the saved workspace is selected before the combo box notifies its listeners, so apply doesn't overwrite it
+        myWorkspaceModel.setWorkspaces(workspacePlaceholder("<Workspace>"), workspaces, myRepository.getSelectedWorkspaceId());
+        myWorkspaceDropdown.setEnabled(true);
+    }
+
+    private void showLoadFailure(IOException e) {
+        LOG.warn("Failed to fetch ClickUp data", e);
+        showWorkspacePlaceholder(ClickUpBundle.message("label.clickup.loading.failed"));
+        myWorkspaceDropdown.setEnabled(false);
+        setAssigneesEnabled(false);
+    }
+
+    private void showWorkspacePlaceholder(String text) {
+        myWorkspaceModel.showPlaceholder(workspacePlaceholder(text));
     }
 
+    /**
+     * Loads the member directory of the selected workspace in the background.
+     * Directories are cached by the task service, so reopening the editor doesn't rebuild them.
+     */
     private void loadAssignees() {
         ClickUpWorkspace selectedClickUpWorkspace = (ClickUpWorkspace) myWorkspaceDropdown.getSelectedItem();
-        myAssigneeDropdown.removeAllItems();
-        myAssigneeDropdown.addItem(new ClickUpUser("-1", "<Assignee>", "-"));
-        if (selectedClickUpWorkspace == null || selectedClickUpWorkspace.getId().equals("-1")) {
-            myAssigneeDropdown.setEnabled(false);
+        myAssigneeLoader.cancel();
+        setAssigneesEnabled(false);
+        if (selectedClickUpWorkspace == null || selectedClickUpWorkspace.getId().equals("-1") || myTaskService == null) {
+            myAssigneeModel.showPlaceholder(assigneePlaceholder("<Assignee>"));
+            myAssigneesLoaded = myWorkspaceModel.isLoaded();
             return;
         }
-        myAssigneeDropdown.setEnabled(true);
-        for (ClickUpTeamMember member : selectedClickUpWorkspace.getMembers()) {
-            myAssigneeDropdown.addItem(member.getUser());
-            if (member.getUser().getId().equals(myRepository.getSelectedAssigneeId()))
-                myAssigneeDropdown.setSelectedItem(member.getUser());
-        }
+        myAssigneesLoaded = false;
+        myAssigneeModel.showPlaceholder(assigneePlaceholder(ClickUpBundle.message("label.clickup.loading")));
+        ClickUpTaskService taskService = myTaskService;
+        String workspaceId = selectedClickUpWorkspace.getId();
+        myAssigneeLoader.load(() -> taskService.getMemberDirectory(workspaceId), directory -> {
+            myAssigneeModel.showPlaceholder(assigneePlaceholder("<Assignee>"));
+            myAssigneeModel.setDirectory(directory, myRepository.getSelectedAssigneeId());
+            myAssigneeModel.search(myAssigneeSearchField.getText());
+            // only now, so the events of filling the combo box don't save over the saved assignee
+            myAssigneesLoaded = true;
+            setAssigneesEnabled(true);
+        }, e -> {
+            LOG.warn("Failed to fetch ClickUp workspace members", e);
+            myAssigneeModel.showPlaceholder(assigneePlaceholder(ClickUpBundle.message("label.clickup.members.loading.failed")));
+        });
+    }
+
+    private void setAssigneesEnabled(boolean enabled) {
+        myAssigneeDropdown.setEnabled(enabled);
+        myAssigneeSearchField.setEnabled(enabled);
+    }
+
+    private static ClickUpWorkspace workspacePlaceholder(String text) {
+        return new ClickUpWorkspace("-1", text);
+    }
+
+    private static ClickUpUser assigneePlaceholder(String text) {
+        return new ClickUpUser("-1", text, "-");
     }
 
     private void loadUseCustomTaskIds() {
         myUseCustomTaskIdsCheckBox.setSelected(myRepository.isUseCustomTaskIds());
     }
+
+    @Override
+    public void dispose() {
+        if (myTokenDebounce != null) {
+            myTokenDebounce.stop();
+        }
+        if (myWorkspaceLoader != null) {
+            myWorkspaceLoader.dispose();
+        }
+        if (myAssigneeLoader != null) {
+            myAssigneeLoader.dispose();
+        }
+        super.dispose();
+    }
 }
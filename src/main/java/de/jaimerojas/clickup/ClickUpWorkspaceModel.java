@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup;
+
+import de.jaimerojas.clickup.model.ClickUpWorkspace;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.util.List;
+
+/**
+ * Combo box model showing a placeholder followed by the user's workspaces.
+ * <p>
+ * The workspaces and the saved selection are replaced together and announced with a single event,
+ * so listeners never see the placeholder selected in a loaded model while it is being filled.
+ */
+final class ClickUpWorkspaceModel extends AbstractListModel<ClickUpWorkspace> implements ComboBoxModel<ClickUpWorkspace> {
+    private ClickUpWorkspace placeholder;
+    private List<ClickUpWorkspace> workspaces = List.of();
+    private Object selectedItem;
+    private boolean loaded;
+
+    ClickUpWorkspaceModel(@NotNull ClickUpWorkspace placeholder) {
+        this.placeholder = placeholder;
+        this.selectedItem = placeholder;
+    }
+
+    /**
+     * Shows only the placeholder, e.g. while the workspaces are loading.
+     */
+    void showPlaceholder(@NotNull ClickUpWorkspace placeholder) {
+        this.placeholder = placeholder;
+        replaceWorkspaces(List.of(), placeholder, false);
+    }
+
+    /**
+     * Shows the placeholder followed by the workspaces and selects the given one,
+     * or the placeholder if it is not among them.
+     */
+    void setWorkspaces(
+            @NotNull ClickUpWorkspace placeholder,
+            @NotNull List<ClickUpWorkspace> workspaces,
+            @Nullable String selectedWorkspaceId
+    ) {
+        this.placeholder = placeholder;
+        ClickUpWorkspace selected = workspaces.stream()
+                .filter(workspace -> workspace.getId().equals(selectedWorkspaceId))
+                .findFirst()
+                .orElse(placeholder);
+        replaceWorkspaces(List.copyOf(workspaces), selected, true);
+    }
+
+    /**
+     * Whether the workspaces are shown, so the selection is the user's choice and not a placeholder.
+     */
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    private void replaceWorkspaces(List<ClickUpWorkspace> workspaces, ClickUpWorkspace selected, boolean loaded) {
+        int oldSize = getSize();
+        this.workspaces = workspaces;
+        this.selectedItem = selected;
+        this.loaded = loaded;
+        fireIntervalRemoved(this, 0, oldSize - 1);
+        fireIntervalAdded(this, 0, getSize() - 1);
+        fireContentsChanged(this, -1, -1);
+    }
+
+    @Override
+    public int getSize() {
+        return workspaces.size() + 1;
+    }
+
+    @Override
+    public ClickUpWorkspace getElementAt(int index) {
+        return index == 0 ? placeholder : workspaces.get(index - 1);
+    }
+
+    @Override
+    public void setSelectedItem(Object item) {
+        if (item != selectedItem) {
+            selectedItem = item;
+            fireContentsChanged(this, -1, -1);
+        }
+    }
+
+    @Override
+    public Object getSelectedItem() {
+        return selectedItem;
+    }
+}
@@ -24,6 +24,9 @@ import java.util.List;
 /**
  * Interface for ClickUp API operations.
  * This abstraction allows for easier testing by enabling mock implementations.
+ * <p>
+ * Calls made under an IDE progress indicator are aborted when the indicator is canceled,
+ * and then fail with a {@link com.intellij.openapi.progress.ProcessCanceledException}.
  */
 public interface ClickUpApiClient {
 
@@ -34,6 +37,7 @@ public interface ClickUpApiClient {
      * @param useCustomTaskIds Whether to use custom task IDs
      * @param workspaceId The workspace ID (required when using custom task IDs)
      * @return The task, or null if not found
+     * @throws ClickUpRejectedException if ClickUp answers with an error status, e.g. for an invalid token
      * @throws IOException if the request fails
      */
     ClickUpTask fetchTask(@NotNull String taskId, boolean useCustomTaskIds, String workspaceId) throws IOException;
@@ -49,15 +53,60 @@ public interface ClickUpApiClient {
      * @throws IOException if the request fails
      */
     @NotNull
-    List<ClickUpTask> fetchTasks(
+    default List<ClickUpTask> fetchTasks(
             @NotNull String workspaceId,
             String assigneeId,
             int page,
             boolean useCustomTaskIds
+    ) throws IOException {
+        return fetchTasks(workspaceId, assigneeId, page, useCustomTaskIds, ClickUpTaskFilter.EMPTY);
+    }
+
+    /**
+     * Fetches tasks from a workspace, letting the API apply the given filter.
+     *
+     * @param workspaceId The workspace ID
+     * @param assigneeId Optional assignee ID to filter by
+     * @param page The page number for pagination
+     * @param useCustomTaskIds Whether to use custom task IDs
+     * @param filter Criteria evaluated server-side
+     * @return List of tasks
+     * @throws ClickUpRejectedException if ClickUp answers with an error status, e.g. for an invalid token
+     * @throws IOException if the request fails
+     */
+    @NotNull
+    List<ClickUpTask> fetchTasks(
+            @NotNull String workspaceId,
+            String assigneeId,
+            int page,
+            boolean useCustomTaskIds,
+            @NotNull ClickUpTaskFilter filter
     ) throws IOException;
 
+    /**
+     * Fetches the first tasks of a page, letting the API apply the given filter. The rest of the
+     * page is skipped without being decoded.
+     *
+     * @param limit The maximum number of tasks to return
+     * @return List of at most {@code limit} tasks, fewer only if the page has no more
+     * @throws IOException if the request fails
+     */
+    @NotNull
+    default List<ClickUpTask> fetchTasks(
+            @NotNull String workspaceId,
+            String assigneeId,
+            int page,
+            boolean useCustomTaskIds,
+            @NotNull ClickUpTaskFilter filter,
+            int limit
+    ) throws IOException {
+        List<ClickUpTask> tasks = fetchTasks(workspaceId, assigneeId, page, useCustomTaskIds, filter);
+        return tasks.size() > limit ? tasks.subList(0, limit) : tasks;
+    }
+
     /**
      * Fetches all authorized workspaces.
+     * Also serves as connection test, since it fails for tokens that are not authorized.
      *
      * @return List of workspaces
      * @throws IOException if the request fails
@@ -70,6 +119,7 @@ public interface ClickUpApiClient {
      *
      * @param spaceId The space ID
      * @return The space
+     * @throws ClickUpNotFoundException if ClickUp does not know the space
      * @throws IOException if the request fails
      */
     @NotNull
@@ -80,6 +130,7 @@ public interface ClickUpApiClient {
      *
      * @param workspaceId The workspace ID
      * @return List of custom items
+     * @throws ClickUpRejectedException if ClickUp answers with an error status, e.g. for an invalid token
      * @throws IOException if the request fails
      */
     @NotNull
@@ -91,6 +142,7 @@ public interface ClickUpApiClient {
      * @param customItemId The custom item ID
      * @param workspaceId The workspace ID
      * @return The custom item
+     * @throws ClickUpNotFoundException if the workspace has no such custom item
      * @throws IOException if the request fails
      */
     @NotNull
@@ -103,6 +155,7 @@ public interface ClickUpApiClient {
      * @param timeSpentMillis Time spent in milliseconds
      * @param workspaceId The workspace ID
      * @param useCustomTaskIds Whether to use custom task IDs
+     * @throws ClickUpRejectedException if ClickUp rejects the change
      * @throws IOException if the request fails
      */
     void trackTimeSpent(
@@ -119,6 +172,7 @@ public interface ClickUpApiClient {
      * @param statusName The new status name
      * @param workspaceId The workspace ID
      * @param useCustomTaskIds Whether to use custom task IDs
+     * @throws ClickUpRejectedException if ClickUp rejects the change
      * @throws IOException if the request fails
      */
     void updateTaskStatus(
@@ -134,5 +188,10 @@ public interface ClickUpApiClient {
      * @throws IOException if the connection test fails
      */
     void testConnection() throws IOException;
+
+    /**
+     * Aborts all requests that are in flight. The aborted calls fail with an {@link IOException}.
+     */
+    void abortAll();
 }
 
@@ -18,28 +18,47 @@ package de.jaimerojas.clickup.api;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import de.jaimerojas.clickup.model.*;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.HttpClient;
+import org.apache.http.client.ResponseHandler;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.util.EntityUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Default implementation of ClickUpApiClient using Apache HttpClient.
  */
 public class ClickUpApiClientImpl implements ClickUpApiClient {
     private static final String BASE_URL = "https://api.clickup.com/api/v2";
+    private static final long CANCELLATION_POLL_MILLIS = 100;
 
     private final HttpClient httpClient;
     private final String apiToken;
     private final Gson gson;
+    private final Set<HttpUriRequest> inFlight = ConcurrentHashMap.newKeySet();
 
     public ClickUpApiClientImpl(@NotNull HttpClient httpClient, @NotNull String apiToken) {
         this(httpClient, apiToken, new Gson());
@@ -61,7 +80,13 @@ public class ClickUpApiClientImpl implements ClickUpApiClient {
         HttpGet httpGet = new HttpGet(uri.toString());
         httpGet.addHeader("Authorization", apiToken);
 
-        return httpClient.execute(httpGet, response -> {
+        return execute(httpGet, response -> {
+            if (response.getStatusLine().getStatusCode() == HttpStatus.SC_NOT_FOUND) {
+                EntityUtils.consume(response.getEntity());
+                return null;
+            }
+            // an error body would decode to a task without an id
+            checkAccepted(response);
             String responseBody = EntityUtils.toString(response.getEntity());
             return gson.fromJson(responseBody, ClickUpTask.class);
         });
@@ -72,28 +97,45 @@ public class ClickUpApiClientImpl implements ClickUpApiClient {
             @NotNull String workspaceId,
             String assigneeId,
             int page,
-            boolean useCustomTaskIds
+            boolean useCustomTaskIds,
+            @NotNull ClickUpTaskFilter filter
+    ) throws IOException {
+        return fetchTasks(workspaceId, assigneeId, page, useCustomTaskIds, filter, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public @NotNull List<ClickUpTask> fetchTasks(
+            @NotNull String workspaceId,
+            String assigneeId,
+            int page,
+            boolean useCustomTaskIds,
+            @NotNull ClickUpTaskFilter filter,
+            int limit
     ) throws IOException {
         StringBuilder url = new StringBuilder(BASE_URL)
                 .append("/team/").append(workspaceId)
-                .append("/task?subtasks=true&archived=false");
+                .append("/task?subtasks=true&archived=false")
+                // most recently updated first, the order in which pages of several sources are merged
+                .append("&order_by=updated")
+                .append("&page=").append(page);
 
         if (assigneeId != null && !assigneeId.isEmpty()) {
-            url.append("&page=").append(page).append("&assignees[]=").append(assigneeId);
+            url.append("&assignees[]=").append(assigneeId);
         }
 
         if (useCustomTaskIds) {
             url.append("&custom_task_ids=true");
         }
 
+        filter.appendTo(url);
+
         HttpGet httpGet = new HttpGet(url.toString());
         httpGet.addHeader("Authorization", apiToken);
 
-        return httpClient.execute(httpGet, response -> {
-            String responseBody = EntityUtils.toString(response.getEntity());
-            Type listType = new TypeToken<GetTasks>() {}.getType();
-            GetTasks getTasks = gson.fromJson(responseBody, listType);
-            return getTasks.getTasks();
+        return execute(httpGet, response -> {
+            // an error body would decode to an empty page and replace the last known tasks
+            checkAccepted(response);
+            return decodeTasks(response.getEntity(), limit);
         });
     }
 
@@ -102,7 +144,9 @@ public class ClickUpApiClientImpl implements ClickUpApiClient {
         HttpGet httpGet = new HttpGet(BASE_URL + "/team");
         httpGet.addHeader("Authorization", apiToken);
 
-        return httpClient.execute(httpGet, response -> {
+        return execute(httpGet, response -> {
+            // the editor validates the token with this response, so it must not pass for an error body
+            checkConnected(response.getStatusLine().getStatusCode());
             String responseBody = EntityUtils.toString(response.getEntity());
             Type listType = new TypeToken<GetAuthorizedWorkspaces>() {}.getType();
             GetAuthorizedWorkspaces workspaces = gson.fromJson(responseBody, listType);
@@ -115,7 +159,12 @@ public class ClickUpApiClientImpl implements ClickUpApiClient {
         HttpGet httpGet = new HttpGet(BASE_URL + "/space/" + spaceId);
         httpGet.addHeader("Authorization", apiToken);
 
-        return httpClient.execute(httpGet, response -> {
+        return execute(httpGet, response -> {
+            if (response.getStatusLine().getStatusCode() == HttpStatus.SC_NOT_FOUND) {
+                EntityUtils.consume(response.getEntity());
+                throw new ClickUpNotFoundException("Space not found: " + spaceId);
+            }
+            checkAccepted(response);
             String responseBody = EntityUtils.toString(response.getEntity());
             Type listType = new TypeToken<ClickUpSpace>() {}.getType();
             return gson.fromJson(responseBody, listType);
@@ -127,7 +176,8 @@ public class ClickUpApiClientImpl implements ClickUpApiClient {
         HttpGet httpGet = new HttpGet(BASE_URL + "/team/" + workspaceId + "/custom_item");
         httpGet.addHeader("Authorization", apiToken);
 
-        return httpClient.execute(httpGet, response -> {
+        return execute(httpGet, response -> {
+            checkAccepted(response);
             String responseBody = EntityUtils.toString(response.getEntity());
             Type listType = new TypeToken<GetCustomItems>() {
             }.getType();
@@ -138,14 +188,14 @@ public class ClickUpApiClientImpl implements ClickUpApiClient {
 
     @Override
     public @NotNull ClickUpCustomItem fetchCustomItem(@NotNull String customItemId, @NotNull String workspaceId) throws IOException {
-        if (customItemId.equals("0")) {
-            return new ClickUpCustomItem("0", "Task", "Tasks", "Default ClickUp task type", null);
+        if (customItemId.equals(ClickUpCustomItem.DEFAULT_TASK_ID)) {
+            return ClickUpCustomItem.defaultTaskItem();
         }
 
         return fetchCustomItems(workspaceId).stream()
                 .filter(item -> item.getId().equals(customItemId))
                 .findFirst()
-                .orElseThrow(() -> new IOException("Custom item not found: " + customItemId));
+                .orElseThrow(() -> new ClickUpNotFoundException("Custom item not found: " + customItemId));
     }
 
     @Override
@@ -169,8 +219,8 @@ public class ClickUpApiClientImpl implements ClickUpApiClient {
 
         httpPost.setEntity(new StringEntity(requestBody.toString()));
 
-        httpClient.execute(httpPost, response -> {
-            // Just consume the response
+        execute(httpPost, response -> {
+            checkAccepted(response);
             EntityUtils.consume(response.getEntity());
             return null;
         });
@@ -200,23 +250,129 @@ public class ClickUpApiClientImpl implements ClickUpApiClient {
 
         httpPut.setEntity(new StringEntity(requestBody.toString()));
 
-        httpClient.execute(httpPut, response -> {
+        execute(httpPut, response -> {
+            // an unknown status name is rejected, the change must not count as confirmed then
+            checkAccepted(response);
             EntityUtils.consume(response.getEntity());
             return null;
         });
     }
 
+    @Override
+    public void abortAll() {
+        for (HttpUriRequest request : inFlight) {
+            request.abort();
+        }
+    }
+
+    /**
+     * Decodes the task page while streaming it, checking for cancellation between tasks.
+     * Tasks past the limit are skipped token by token, without building objects for them.
+     */
+    private List<ClickUpTask> decodeTasks(HttpEntity entity, int limit) throws IOException {
+        List<ClickUpTask> tasks = new ArrayList<>(Math.min(limit, 100));
+        try (JsonReader reader = new JsonReader(new InputStreamReader(entity.getContent(), StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("tasks".equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        if (tasks.size() >= limit) {
+                            reader.skipValue();
+                            continue;
+                        }
+                        ClickUpCancellation.checkCanceled();
+                        tasks.add(gson.fromJson(reader, ClickUpTask.class));
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+        return tasks;
+    }
+
+    /**
+     * Executes the request so that it can be aborted, either by {@link #abortAll()} or by canceling
+     * the progress indicator of the calling thread. Failures to reach ClickUp and server errors are
+     * reported as {@link ClickUpUnavailableException}, a request aborted at the deadline of the calling
+     * thread as {@link ClickUpTimeoutException}.
+     */
+    private <T> T execute(HttpUriRequest request, ResponseHandler<T> handler) throws IOException {
+        ClickUpEdtGuard.checkRequest(request.getMethod() + " " + request.getURI().getPath());
+        ClickUpCancellation.checkCanceled();
+        ProgressIndicator indicator = ClickUpCancellation.currentIndicator();
+        Long deadline = ClickUpCancellation.currentDeadline();
+        ScheduledFuture<?> watchdog = indicator == null && deadline == null ? null : AppExecutorUtil.getAppScheduledExecutorService().scheduleWithFixedDelay(() -> {
+            if (indicator != null && indicator.isCanceled() || deadline != null && ClickUpCancellation.isPast(deadline)) {
+                request.abort();
+            }
+        }, CANCELLATION_POLL_MILLIS, CANCELLATION_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        inFlight.add(request);
+        try {
+            return httpClient.execute(request, response -> {
+                int statusCode = response.getStatusLine().getStatusCode();
+                if (statusCode >= 500) {
+                    EntityUtils.consume(response.getEntity());
+                    throw new ClickUpUnavailableException("ClickUp is unavailable.\nStatus code: " + statusCode);
+                }
+                try {
+                    return handler.handleResponse(response);
+                } catch (RuntimeException e) {
+                    // abort before HttpClient consumes the rest of a response nobody will read
+                    request.abort();
+                    throw e;
+                }
+            });
+        } catch (IOException e) {
+            if (request.isAborted()) {
+                if (deadline != null && ClickUpCancellation.isPast(deadline) && (indicator == null || !indicator.isCanceled())) {
+                    // the caller stopped waiting, which does not mean that ClickUp is unreachable
+                    throw new ClickUpTimeoutException("ClickUp did not answer in time: " + request.getURI().getPath());
+                }
+                ClickUpCancellation.checkCanceled();
+                throw new InterruptedIOException("Request aborted: " + request.getURI().getPath());
+            }
+            if (!(e instanceof ClickUpUnavailableException) && ClickUpUnavailableException.isUnreachable(e)) {
+                throw new ClickUpUnavailableException("Cannot reach ClickUp: " + e.getMessage(), e);
+            }
+            throw e;
+        } finally {
+            inFlight.remove(request);
+            if (watchdog != null) {
+                watchdog.cancel(false);
+            }
+        }
+    }
+
     @Override
     public void testConnection() throws IOException {
         HttpGet httpGet = new HttpGet(BASE_URL + "/team");
         httpGet.addHeader("Authorization", apiToken);
-        httpClient.execute(httpGet, response -> {
-            int statusCode = response.getStatusLine().getStatusCode();
-            if (statusCode < 200 || statusCode >= 300) {
-                throw new IOException("Cannot connect to ClickUp API.\nStatus code: " + statusCode);
-            }
+        execute(httpGet, response -> {
+            checkConnected(response.getStatusLine().getStatusCode());
             return null;
         });
     }
+
+    /**
+     * @throws ClickUpRejectedException if ClickUp answered with an error status; server errors are reported
+     *                                  as {@link ClickUpUnavailableException} by {@link #execute} already
+     */
+    private static void checkAccepted(HttpResponse response) throws IOException {
+        int statusCode = response.getStatusLine().getStatusCode();
+        if (statusCode < 200 || statusCode >= 300) {
+            HttpEntity entity = response.getEntity();
+            throw new ClickUpRejectedException(statusCode, entity != null ? EntityUtils.toString(entity) : "");
+        }
+    }
+
+    private static void checkConnected(int statusCode) throws IOException {
+        if (statusCode < 200 || statusCode >= 300) {
+            throw new IOException("Cannot connect to ClickUp API.\nStatus code: " + statusCode);
+        }
+    }
 }
 
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.api;
+
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Propagates cancellation of the IDE progress indicator to ClickUp API calls.
+ * <p>
+ * Requests check the indicator of the calling thread; work that is handed to another thread has to
+ * be run with {@link #computeUnder(ProgressIndicator, IOComputable)}, and callers waiting for it
+ * should use {@link #await(Future)} so that they stop waiting when the user cancels.
+ * <p>
+ * Work run with {@link #computeWithin(long, IOComputable)} is canceled the same way once its deadline
+ * has passed.
+ */
+public final class ClickUpCancellation {
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    // the deadline of the work running on a thread, in System.nanoTime(), unset without one
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private ClickUpCancellation() {
+    }
+
+    /**
+     * @throws ProcessCanceledException if the progress indicator of the current thread was canceled,
+     *                                  or the deadline of the current thread has passed
+     */
+    public static void checkCanceled() {
+        ProgressManager.checkCanceled();
+        Long deadline = DEADLINE.get();
+        if (deadline != null && isPast(deadline)) {
+            throw new ProcessCanceledException();
+        }
+    }
+
+    /**
+     * @return the progress indicator of the current thread, or null if it runs without progress
+     */
+    public static @Nullable ProgressIndicator currentIndicator() {
+        return ProgressManager.getGlobalProgressIndicator();
+    }
+
+    /**
+     * @return the deadline of the current thread in {@link System#nanoTime()}, or null without one
+     */
+    static @Nullable Long currentDeadline() {
+        return DEADLINE.get();
+    }
+
+    static boolean isPast(long deadline) {
+        return System.nanoTime() - deadline >= 0;
+    }
+
+    /**
+     * Runs the computation on the current thread and cancels it once the timeout has passed: requests
+     * in flight are aborted and waiting for other threads stops, see {@link #await(Future)}. Work the
+     * computation handed to other threads goes on and may still fill the caches.
+     * A deadline of an enclosing call that passes earlier is kept.
+     *
+     * @throws ClickUpTimeoutException if the computation did not finish in time
+     */
+    public static <T> T computeWithin(long timeoutMillis, @NotNull IOComputable<T> computable) throws IOException {
+        Long outer = DEADLINE.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        if (outer != null && outer - deadline < 0) {
+            deadline = outer;
+        }
+        DEADLINE.set(deadline);
+        try {
+            return computable.compute();
+        } catch (ProcessCanceledException e) {
+            ProgressIndicator indicator = currentIndicator();
+            if (isPast(deadline) && (indicator == null || !indicator.isCanceled())) {
+                throw new ClickUpTimeoutException("ClickUp did not answer within " + timeoutMillis + " ms");
+            }
+            throw e;
+        } finally {
+            if (outer == null) {
+                DEADLINE.remove();
+            } else {
+                DEADLINE.set(outer);
+            }
+        }
+    }
+
+    /**
+     * Runs the computation with the given indicator as the progress indicator of the current thread.
+     */
+    public static <T> T computeUnder(@Nullable ProgressIndicator indicator, @NotNull IOComputable<T> computable) throws IOException {
+        if (indicator == null) {
+            return computable.compute();
+        }
+        Object[] result = new Object[1];
+        IOException[] failure = new IOException[1];
+        ProgressManager.getInstance().executeProcessUnderProgress(() -> {
+            try {
+                result[0] = computable.compute();
+            } catch (IOException e) {
+                failure[0] = e;
+            }
+        }, indicator);
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        @SuppressWarnings("unchecked")
+        T value = (T) result[0];
+        return value;
+    }
+
+    /**
+     * Waits for the future while checking the progress indicator and the deadline of the current thread.
+     * The future is canceled if the indicator is, or the deadline passes.
+     *
+     * @throws CompletionException if the future completed exceptionally
+     */
+    public static <T> T await(@NotNull Future<T> future) {
+        try {
+            while (true) {
+                try {
+                    checkCanceled();
+                    return future.get(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException ignored) {
+                    // poll the indicator again
+                }
+            }
+        } catch (ProcessCanceledException | CancellationException e) {
+            future.cancel(true);
+            throw e;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ProcessCanceledException(e);
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * A computation that may fail with an {@link IOException}.
+     */
+    @FunctionalInterface
+    public interface IOComputable<T> {
+        T compute() throws IOException;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.api;
+
+import com.intellij.openapi.application.Application;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.diagnostic.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import java.awt.EventQueue;
+
+/**
+ * Flags ClickUp requests made on the event dispatch thread, where they would freeze the IDE for as
+ * long as ClickUp takes to answer. In tests the request fails instead, so such a call path cannot go
+ * unnoticed.
+ */
+public final class ClickUpEdtGuard {
+    private static final Logger LOG = Logger.getInstance(ClickUpEdtGuard.class);
+
+    private ClickUpEdtGuard() {
+    }
+
+    /**
+     * @return true if the current thread is the event dispatch thread
+     */
+    public static boolean isDispatchThread() {
+        Application application = ApplicationManager.getApplication();
+        return application != null ? application.isDispatchThread() : EventQueue.isDispatchThread();
+    }
+
+    /**
+     * Flags the request if it is made on the event dispatch thread.
+     *
+     * @param request the method and path of the request, for the report
+     * @throws IllegalStateException on the event dispatch thread, in tests
+     */
+    static void checkRequest(@NotNull String request) {
+        if (!isDispatchThread()) {
+            return;
+        }
+        IllegalStateException e = new IllegalStateException("ClickUp request on the event dispatch thread: " + request);
+        Application application = ApplicationManager.getApplication();
+        if (application == null || application.isUnitTestMode()) {
+            throw e;
+        }
+        LOG.warn(e);
+    }
+}
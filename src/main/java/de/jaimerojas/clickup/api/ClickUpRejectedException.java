@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.api;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Signals that ClickUp answered a request with an error status other than a server error, e.g. because
+ * the status name is unknown, the token is not valid or the rate limit was exceeded. The change or
+ * the data asked for has not been applied or returned.
+ */
+public class ClickUpRejectedException extends IOException {
+    private final int statusCode;
+    private final String responseBody;
+
+    public ClickUpRejectedException(int statusCode, @NotNull String responseBody) {
+        super("ClickUp rejected the request.\nStatus code: " + statusCode + "\nResponse: " + responseBody);
+        this.statusCode = statusCode;
+        this.responseBody = responseBody;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public @NotNull String getResponseBody() {
+        return responseBody;
+    }
+}
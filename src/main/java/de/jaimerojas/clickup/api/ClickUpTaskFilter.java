@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.api;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Server-side filter for the "get filtered team tasks" endpoint.
+ * Only contains criteria that the ClickUp API can evaluate itself; everything else
+ * is evaluated locally by {@link de.jaimerojas.clickup.query.ClickUpTaskQuery}.
+ */
+public final class ClickUpTaskFilter {
+    public static final ClickUpTaskFilter EMPTY = new ClickUpTaskFilter(List.of(), List.of(), null, null, false);
+
+    private final List<String> statuses;
+    private final List<String> listIds;
+    private final Long dateUpdatedGt;
+    private final Long dateUpdatedLt;
+    private final boolean includeClosed;
+    private final boolean doneOnly;
+
+    public ClickUpTaskFilter(
+            @NotNull List<String> statuses,
+            @NotNull List<String> listIds,
+            @Nullable Long dateUpdatedGt,
+            @Nullable Long dateUpdatedLt,
+            boolean includeClosed
+    ) {
+        this(statuses, listIds, dateUpdatedGt, dateUpdatedLt, includeClosed, false);
+    }
+
+    private ClickUpTaskFilter(
+            List<String> statuses,
+            List<String> listIds,
+            Long dateUpdatedGt,
+            Long dateUpdatedLt,
+            boolean includeClosed,
+            boolean doneOnly
+    ) {
+        this.statuses = List.copyOf(statuses);
+        this.listIds = List.copyOf(listIds);
+        this.dateUpdatedGt = dateUpdatedGt;
+        this.dateUpdatedLt = dateUpdatedLt;
+        this.includeClosed = includeClosed;
+        this.doneOnly = doneOnly;
+    }
+
+    public @NotNull List<String> getStatuses() {
+        return statuses;
+    }
+
+    public @NotNull List<String> getListIds() {
+        return listIds;
+    }
+
+    public @Nullable Long getDateUpdatedGt() {
+        return dateUpdatedGt;
+    }
+
+    public @Nullable Long getDateUpdatedLt() {
+        return dateUpdatedLt;
+    }
+
+    public boolean isIncludeClosed() {
+        return includeClosed;
+    }
+
+    public boolean isDoneOnly() {
+        return doneOnly;
+    }
+
+    /**
+     * @return a copy of this filter with the given {@code include_closed} value
+     */
+    public @NotNull ClickUpTaskFilter withIncludeClosed(boolean includeClosed) {
+        if (this.includeClosed == includeClosed) {
+            return this;
+        }
+        return new ClickUpTaskFilter(statuses, listIds, dateUpdatedGt, dateUpdatedLt, includeClosed, includeClosed && doneOnly);
+    }
+
+    /**
+     * Narrows the filter to tasks that have a done date, which ClickUp sets when a task is moved into a
+     * done or closed status, so that closed tasks can be paged without the open ones.
+     *
+     * @return a copy of this filter that includes closed tasks and only matches done ones
+     */
+    public @NotNull ClickUpTaskFilter withDoneOnly() {
+        if (includeClosed && doneOnly) {
+            return this;
+        }
+        return new ClickUpTaskFilter(statuses, listIds, dateUpdatedGt, dateUpdatedLt, true, true);
+    }
+
+    /**
+     * Appends the filter as query parameters to a URL that already contains a query string.
+     *
+     * @param url the URL being built
+     */
+    public void appendTo(@NotNull StringBuilder url) {
+        for (String status : statuses) {
+            url.append("&statuses[]=").append(encode(status));
+        }
+        for (String listId : listIds) {
+            url.append("&list_ids[]=").append(encode(listId));
+        }
+        if (dateUpdatedGt != null) {
+            url.append("&date_updated_gt=").append(dateUpdatedGt);
+        }
+        if (dateUpdatedLt != null) {
+            url.append("&date_updated_lt=").append(dateUpdatedLt);
+        }
+        if (includeClosed) {
+            url.append("&include_closed=true");
+        }
+        if (doneOnly) {
+            url.append("&date_done_gt=0");
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof ClickUpTaskFilter that)) return false;
+
+        return includeClosed == that.includeClosed
+                && doneOnly == that.doneOnly
+                && statuses.equals(that.statuses)
+                && listIds.equals(that.listIds)
+                && Objects.equals(dateUpdatedGt, that.dateUpdatedGt)
+                && Objects.equals(dateUpdatedLt, that.dateUpdatedLt);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = statuses.hashCode();
+        result = 31 * result + listIds.hashCode();
+        result = 31 * result + Objects.hashCode(dateUpdatedGt);
+        result = 31 * result + Objects.hashCode(dateUpdatedLt);
+        result = 31 * result + Boolean.hashCode(includeClosed);
+        result = 31 * result + Boolean.hashCode(doneOnly);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        appendTo(builder);
+        return builder.toString();
+    }
+}
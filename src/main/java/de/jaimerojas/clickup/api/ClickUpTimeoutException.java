@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.api;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Signals that a call did not finish before the deadline it was given, see
+ * {@link ClickUpCancellation#computeWithin(long, ClickUpCancellation.IOComputable)}. The caller gave up
+ * waiting, which says nothing about whether ClickUp is reachable, so it does not switch to offline mode.
+ */
+public class ClickUpTimeoutException extends IOException {
+
+    public ClickUpTimeoutException(@NotNull String message) {
+        super(message);
+    }
+}
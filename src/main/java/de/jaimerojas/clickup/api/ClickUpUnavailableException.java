@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.api;
+
+import org.apache.http.NoHttpResponseException;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+
+/**
+ * Signals that ClickUp could not be reached, or answered with a server error, as opposed to
+ * rejecting the request. Callers may retry later or fall back to data they loaded before.
+ */
+public class ClickUpUnavailableException extends IOException {
+
+    public ClickUpUnavailableException(@NotNull String message) {
+        super(message);
+    }
+
+    public ClickUpUnavailableException(@NotNull String message, @Nullable Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * @return whether the failure of a request means that ClickUp is unreachable, e.g. because the
+     * host cannot be resolved or the connection timed out
+     */
+    public static boolean isUnreachable(@NotNull IOException e) {
+        return e instanceof ClickUpUnavailableException
+                || e instanceof UnknownHostException
+                || e instanceof ConnectException
+                || e instanceof NoRouteToHostException
+                || e instanceof SocketTimeoutException
+                || e instanceof ConnectTimeoutException
+                || e instanceof NoHttpResponseException;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.cache;
+
+import de.jaimerojas.clickup.model.ClickUpTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Resolves task IDs, internal or custom, to cached {@link ClickUpTask} objects.
+ * <p>
+ * The mapping from custom IDs (e.g. {@code PROJ-123}) to internal IDs outlives the cached
+ * task objects, so a task whose copy has expired can still be re-fetched by its internal ID
+ * without the {@code custom_task_ids=true&team_id=} lookup.
+ */
+public class ClickUpTaskIndex {
+    private final ConcurrentMap<String, String> internalIdsByCustomId = new ConcurrentHashMap<>();
+    private final ExpiringCache<String, ClickUpTask> tasksById;
+
+    /**
+     * @param ttlMillis time in milliseconds after which a cached task is considered stale
+     * @param clock     source of the current time in epoch milliseconds
+     */
+    public ClickUpTaskIndex(long ttlMillis, @NotNull LongSupplier clock) {
+        this.tasksById = new ExpiringCache<>(ttlMillis, clock);
+    }
+
+    /**
+     * Caches the task and records its ID mapping.
+     */
+    public void index(@NotNull ClickUpTask task) {
+        remember(task);
+        tasksById.put(task.getId(), task);
+    }
+
+    /**
+     * Records the ID mapping of the task without caching the task itself.
+     */
+    public void remember(@NotNull ClickUpTask task) {
+        String customId = task.getCustom_id();
+        if (customId != null && !customId.isEmpty()) {
+            internalIdsByCustomId.put(customId, task.getId());
+        }
+    }
+
+    /**
+     * @param taskId an internal or custom task ID
+     * @return the internal ID, or null if the ID has never been seen
+     */
+    public @Nullable String resolveInternalId(@NotNull String taskId) {
+        String internalId = internalIdsByCustomId.get(taskId);
+        if (internalId != null) {
+            return internalId;
+        }
+        return tasksById.getEntry(taskId) != null ? taskId : null;
+    }
+
+    /**
+     * @param taskId an internal or custom task ID
+     * @return the cached task if it is fresh, null otherwise
+     */
+    public @Nullable ClickUpTask getIfFresh(@NotNull String taskId) {
+        String internalId = internalIdsByCustomId.getOrDefault(taskId, taskId);
+        return tasksById.getIfFresh(internalId);
+    }
+
+    /**
+     * @param taskId an internal or custom task ID
+     * @return the cached task, fresh or stale, or null if it is not cached
+     */
+    public @Nullable ClickUpTask getCached(@NotNull String taskId) {
+        ExpiringCache.Entry<ClickUpTask> entry = tasksById.getEntry(internalIdsByCustomId.getOrDefault(taskId, taskId));
+        return entry != null ? entry.getValue() : null;
+    }
+
+    public void invalidate(@NotNull String taskId) {
+        tasksById.invalidate(internalIdsByCustomId.getOrDefault(taskId, taskId));
+    }
+
+    /**
+     * Drops cached tasks that have not been read for the given time. ID mappings are kept.
+     */
+    public void evictIdle(long idleMillis) {
+        tasksById.evictIdle(idleMillis);
+    }
+
+    public void clear() {
+        tasksById.clear();
+        internalIdsByCustomId.clear();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.cache;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Thread-safe key/value cache whose entries become stale after a fixed time to live.
+ * Stale entries are kept until they are replaced or invalidated, so callers can still
+ * decide to serve them.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class ExpiringCache<K, V> {
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    /**
+     * @param ttlMillis time in milliseconds after which an entry is considered stale
+     * @param clock     source of the current time in epoch milliseconds
+     */
+    public ExpiringCache(long ttlMillis, @NotNull LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the cached value if present and not stale, null otherwise
+     */
+    public @Nullable V getIfFresh(@NotNull K key) {
+        Entry<V> entry = getEntry(key);
+        return entry != null && isFresh(entry) ? entry.value : null;
+    }
+
+    /**
+     * @return the cached entry, fresh or stale, or null if absent
+     */
+    public @Nullable Entry<V> getEntry(@NotNull K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            entry.lastAccessedAt = clock.getAsLong();
+        }
+        return entry;
+    }
+
+    /**
+     * @return the cached entry, fresh or stale, or null if absent, without marking it as read
+     */
+    public @Nullable Entry<V> peekEntry(@NotNull K key) {
+        return entries.get(key);
+    }
+
+    public boolean isFresh(@NotNull Entry<V> entry) {
+        return clock.getAsLong() - entry.storedAt < ttlMillis;
+    }
+
+    public void put(@NotNull K key, @NotNull V value) {
+        long now = clock.getAsLong();
+        Entry<V> previous = entries.get(key);
+        // refreshing an entry must not make it look recently used
+        entries.put(key, new Entry<>(value, now, previous != null ? previous.lastAccessedAt : now));
+    }
+
+    /**
+     * Puts a value that is known to be outdated, e.g. a copy kept from an earlier fetch,
+     * so that it is served as stale until it is replaced.
+     */
+    public void putStale(@NotNull K key, @NotNull V value) {
+        long now = clock.getAsLong();
+        entries.put(key, new Entry<>(value, now - ttlMillis, now));
+    }
+
+    public void invalidate(@NotNull K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public @NotNull Set<K> keys() {
+        return entries.keySet();
+    }
+
+    /**
+     * Removes entries that have not been read for the given time.
+     *
+     * @param idleMillis maximum time in milliseconds since the last read
+     */
+    public void evictIdle(long idleMillis) {
+        long now = clock.getAsLong();
+        entries.values().removeIf(entry -> now - entry.lastAccessedAt >= idleMillis);
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    /**
+     * A cached value together with the time it was stored.
+     */
+    public static final class Entry<V> {
+        private final V value;
+        private final long storedAt;
+        private volatile long lastAccessedAt;
+
+        Entry(V value, long storedAt, long lastAccessedAt) {
+            this.value = value;
+            this.storedAt = storedAt;
+            this.lastAccessedAt = lastAccessedAt;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public long getStoredAt() {
+            return storedAt;
+        }
+
+        public long getLastAccessedAt() {
+            return lastAccessedAt;
+        }
+    }
+}
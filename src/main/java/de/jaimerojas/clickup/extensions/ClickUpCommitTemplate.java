@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.extensions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A commit message template, compiled once into alternating literals and placeholders so that
+ * rendering is a single pass over them.
+ * <p>
+ * Placeholders are written in braces like in the IDE's commit message format, e.g. {@code {type}({scope}): {description}}.
+ * Custom fields of the ClickUp task are referenced by name with {@code {field:Sprint}}. Braces that
+ * don't enclose a placeholder name are kept as they are.
+ */
+public final class ClickUpCommitTemplate {
+    public static final ClickUpCommitTemplate EMPTY = compile("");
+
+    private static final String FIELD_PREFIX = "field:";
+
+    private final String source;
+    // literals[i] is followed by slots[i], the last literal ends the template
+    private final String[] literals;
+    private final Slot[] slots;
+
+    private ClickUpCommitTemplate(String source, List<String> literals, List<Slot> slots) {
+        this.source = source;
+        this.literals = literals.toArray(new String[0]);
+        this.slots = slots.toArray(new Slot[0]);
+    }
+
+    /**
+     * Parses the template.
+     */
+    public static @NotNull ClickUpCommitTemplate compile(@Nullable String template) {
+        String source = template != null ? template : "";
+        List<String> literals = new ArrayList<>();
+        List<Slot> slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < source.length()) {
+            char c = source.charAt(position);
+            int end = c == '{' ? placeholderEnd(source, position + 1) : -1;
+            if (end < 0) {
+                literal.append(c);
+                position++;
+                continue;
+            }
+            String name = source.substring(position + 1, end).trim();
+            literals.add(literal.toString());
+            literal.setLength(0);
+            slots.add(name.startsWith(FIELD_PREFIX)
+                    ? new Slot(source.substring(position, end + 1), name.substring(FIELD_PREFIX.length()).trim(), true)
+                    : new Slot(source.substring(position, end + 1), name, false));
+            position = end + 1;
+        }
+        literals.add(literal.toString());
+        return new ClickUpCommitTemplate(source, literals, slots);
+    }
+
+    /**
+     * @return the index of the closing brace of a non-empty placeholder starting at the index, or -1
+     */
+    private static int placeholderEnd(String source, int start) {
+        for (int i = start; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '}') {
+                return i > start ? i : -1;
+            }
+            if (c == '{' || c == '\n') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    public @NotNull String getSource() {
+        return source;
+    }
+
+    public boolean isEmpty() {
+        return source.isEmpty();
+    }
+
+    /**
+     * Renders the template. Placeholders without value are kept as they are written.
+     */
+    public @NotNull String render(@NotNull Values values) {
+        StringBuilder result = new StringBuilder(source.length() + 64);
+        for (int i = 0; i < slots.length; i++) {
+            result.append(literals[i]);
+            Slot slot = slots[i];
+            String value = slot.customField() ? values.getCustomField(slot.name()) : values.get(slot.name());
+            result.append(value != null ? value : slot.text());
+        }
+        return result.append(literals[slots.length]).toString();
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    /**
+     * Supplies the values of the placeholders while rendering.
+     */
+    public interface Values {
+        /**
+         * @return the value of the placeholder, or null if it is unknown
+         */
+        @Nullable String get(@NotNull String placeholder);
+
+        /**
+         * @return the value of the task's custom field with the name, or null if the task has no such field
+         */
+        @Nullable String getCustomField(@NotNull String name);
+    }
+
+    /**
+     * @param text        the placeholder as written in the template
+     * @param name        the placeholder or custom field name
+     * @param customField whether it refers to a custom field
+     */
+    private record Slot(String text, String name, boolean customField) {
+    }
+}
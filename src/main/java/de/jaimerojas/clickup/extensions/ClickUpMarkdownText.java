@@ -0,0 +1,301 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.extensions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Converts ClickUp task descriptions from markdown to plain text for commit messages.
+ * <p>
+ * The description is read line by line and conversion stops as soon as the character or line budget
+ * is used up, so huge descriptions cost no more than the part that ends up in the commit message.
+ * Images and attachment links are dropped, other links are replaced by their text, and headings,
+ * quotes, code fences and emphasis markers are removed.
+ */
+public final class ClickUpMarkdownText {
+    public static final int DEFAULT_MAX_CHARS = 1000;
+    public static final int DEFAULT_MAX_LINES = 20;
+
+    private static final char ELLIPSIS = '\u2026';
+    // ClickUp serves uploaded files from this host
+    private static final String ATTACHMENT_HOST = "clickup-attachments.com";
+    // lines are looked at through a window, so a single huge line is not read to its end
+    private static final int MIN_LINE_WINDOW = 64 * 1024;
+
+    private ClickUpMarkdownText() {
+    }
+
+    /**
+     * @param markdown the markdown text, may be null
+     * @param maxChars maximum number of characters of the result, not counting the trailing ellipsis
+     * @param maxLines maximum number of lines of the result
+     * @return the plain text, ending with an ellipsis if it was cut
+     */
+    public static @NotNull String toPlainText(@Nullable CharSequence markdown, int maxChars, int maxLines) {
+        if (markdown == null || markdown.isEmpty()) {
+            return "";
+        }
+        Output output = new Output(Math.max(maxChars, 0), Math.max(maxLines, 1));
+        int lineWindow = Math.max(MIN_LINE_WINDOW, maxChars * 4);
+        boolean inCodeBlock = false;
+        int position = 0;
+        while (position < markdown.length() && !output.full) {
+            int windowEnd = (int) Math.min(markdown.length(), (long) position + lineWindow);
+            int newline = indexOf(markdown, '\n', position, windowEnd);
+            int end = newline >= 0 ? newline : windowEnd;
+            inCodeBlock = convertLine(markdown, position, end, inCodeBlock, output);
+            if (newline < 0 && windowEnd < markdown.length()) {
+                // a line longer than the budget could ever use, e.g. an inlined image, ends the text
+                output.full = true;
+            }
+            position = end + 1;
+        }
+        return output.finish();
+    }
+
+    /**
+     * @return whether a code block is open after the line
+     */
+    private static boolean convertLine(CharSequence markdown, int lineStart, int lineEnd, boolean inCodeBlock, Output output) {
+        int start = skipSpaces(markdown, lineStart, lineEnd);
+        int end = trimEnd(markdown, start, lineEnd);
+        if (startsWith(markdown, start, end, "```") || startsWith(markdown, start, end, "~~~")) {
+            return !inCodeBlock;
+        }
+        if (inCodeBlock) {
+            output.startLine();
+            output.append(markdown, start, end);
+        } else if (start == end) {
+            output.blankLine();
+        } else if (!isRule(markdown, start, end)) {
+            convertInline(markdown, stripBlockMarkers(markdown, start, end, output), end, output);
+        }
+        return inCodeBlock;
+    }
+
+    /**
+     * Strips heading and quote markers and starts the output line; list items keep a "- " marker.
+     *
+     * @return the start of the line's content
+     */
+    private static int stripBlockMarkers(CharSequence text, int start, int end, Output output) {
+        while (start < end && text.charAt(start) == '>') {
+            start = skipSpaces(text, start + 1, end);
+        }
+        int hashes = start;
+        while (hashes < end && text.charAt(hashes) == '#') {
+            hashes++;
+        }
+        if (hashes > start && (hashes == end || text.charAt(hashes) == ' ')) {
+            start = skipSpaces(text, hashes, end);
+        }
+        output.startLine();
+        if (start + 1 < end && (text.charAt(start) == '*' || text.charAt(start) == '+') && text.charAt(start + 1) == ' ') {
+            output.append('-');
+            start++;
+        }
+        return start;
+    }
+
+    private static void convertInline(CharSequence text, int start, int end, Output output) {
+        int position = start;
+        while (position < end && !output.full) {
+            char c = text.charAt(position);
+            if (c == '!' && position + 1 < end && text.charAt(position + 1) == '[') {
+                // images are dropped with their alternative text, unclosed ones with the rest of the line
+                int linkEnd = linkEnd(text, position + 1, end);
+                position = linkEnd > 0 ? linkEnd : end;
+                continue;
+            } else if (c == '[') {
+                int linkEnd = linkEnd(text, position, end);
+                if (linkEnd > 0) {
+                    int textEnd = indexOf(text, ']', position + 1, end);
+                    if (!isAttachment(text, textEnd + 2, linkEnd - 1)) {
+                        convertInline(text, position + 1, textEnd, output);
+                    }
+                    position = linkEnd;
+                    continue;
+                }
+            } else if (c == '`') {
+                position++;
+                continue;
+            } else if ((c == '*' || c == '_' || c == '~') && position + 1 < end && text.charAt(position + 1) == c) {
+                position += 2;
+                continue;
+            }
+            output.append(c);
+            position++;
+        }
+    }
+
+    /**
+     * @return the index after the closing parenthesis of a link {@code [text](url)} starting at the bracket, or -1
+     */
+    private static int linkEnd(CharSequence text, int bracket, int end) {
+        int textEnd = indexOf(text, ']', bracket + 1, end);
+        if (textEnd < 0 || textEnd + 1 >= end || text.charAt(textEnd + 1) != '(') {
+            return -1;
+        }
+        int urlEnd = indexOf(text, ')', textEnd + 2, end);
+        return urlEnd < 0 ? -1 : urlEnd + 1;
+    }
+
+    private static boolean isAttachment(CharSequence text, int start, int end) {
+        int length = ATTACHMENT_HOST.length();
+        for (int i = start; i + length <= end; i++) {
+            if (startsWith(text, i, end, ATTACHMENT_HOST)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether the line is a horizontal rule like {@code ---} or {@code * * *}
+     */
+    private static boolean isRule(CharSequence text, int start, int end) {
+        char marker = text.charAt(start);
+        if (marker != '-' && marker != '*' && marker != '_') {
+            return false;
+        }
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == marker) {
+                count++;
+            } else if (c != ' ') {
+                return false;
+            }
+        }
+        return count >= 3;
+    }
+
+    private static int indexOf(CharSequence text, char c, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipSpaces(CharSequence text, int start, int end) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(CharSequence text, int start, int end) {
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean startsWith(CharSequence text, int start, int end, String prefix) {
+        if (end - start < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text.charAt(start + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects the converted text within the budget. Consecutive blank lines and spaces are collapsed into one.
+     */
+    private static final class Output {
+        private final StringBuilder text = new StringBuilder();
+        private final int maxChars;
+        private final int maxLines;
+        private int lines;
+        // line breaks are written with the first character of a line, so lines that convert to nothing vanish
+        private boolean lineOpen;
+        private boolean blankLinePending;
+        private boolean full;
+
+        Output(int maxChars, int maxLines) {
+            this.maxChars = maxChars;
+            this.maxLines = maxLines;
+        }
+
+        void blankLine() {
+            blankLinePending = lines > 0;
+        }
+
+        void startLine() {
+            lineOpen = false;
+        }
+
+        void append(CharSequence source, int start, int end) {
+            for (int i = start; i < end && !full; i++) {
+                append(source.charAt(i));
+            }
+        }
+
+        void append(char c) {
+            if (full) {
+                return;
+            }
+            if (!lineOpen) {
+                // dropped images and markers must not leave leading spaces behind
+                if (c == ' ' || !openLine()) {
+                    return;
+                }
+            } else if (c == ' ' && text.charAt(text.length() - 1) == ' ') {
+                return;
+            }
+            if (text.length() >= maxChars) {
+                full = true;
+                return;
+            }
+            text.append(c);
+        }
+
+        private boolean openLine() {
+            int breaks = lines == 0 ? 0 : blankLinePending ? 2 : 1;
+            if (lines + Math.max(breaks, 1) > maxLines) {
+                full = true;
+                return false;
+            }
+            lines += Math.max(breaks, 1);
+            trimTrailingSpace();
+            text.append("\n".repeat(breaks));
+            blankLinePending = false;
+            lineOpen = true;
+            return true;
+        }
+
+        private void trimTrailingSpace() {
+            if (!text.isEmpty() && text.charAt(text.length() - 1) == ' ') {
+                text.setLength(text.length() - 1);
+            }
+        }
+
+        String finish() {
+            trimTrailingSpace();
+            if (full) {
+                text.append(ELLIPSIS);
+            }
+            return text.toString();
+        }
+    }
+}
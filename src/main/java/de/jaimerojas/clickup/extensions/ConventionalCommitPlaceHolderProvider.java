@@ -21,92 +21,65 @@ import com.intellij.tasks.LocalTask;
 import com.intellij.tasks.TaskRepository;
 import com.intellij.tasks.TaskType;
 import de.jaimerojas.clickup.ClickUpRepository;
+import de.jaimerojas.clickup.model.ClickUpCustomField;
+import de.jaimerojas.clickup.model.ClickUpTask;
+import de.jaimerojas.clickup.model.ClickUpTaskState;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
 /**
  * Provides commit message placeholders based on Conventional Commits specification.
+ * <p>
+ * The commit dialog asks for every placeholder on each re-render, so the values are computed once per
+ * task and kept until the task is updated. Values taken from the cached ClickUp task are kept until
+ * another copy of it is cached or its status changes, and are looked up again while it is not cached. Besides the standard and Conventional Commits placeholders,
+ * the {@code template} placeholder renders the repository's {@link ClickUpCommitTemplate}, which may
+ * also use the task's ClickUp status, custom ID and custom fields.
  *
  * @see <a href="https://www.conventionalcommits.org/en/v1.0.0/">Conventional Commits</a>
  */
 public class ConventionalCommitPlaceHolderProvider implements CommitPlaceholderProvider {
 
+    private volatile TaskValues lastValues;
+
     @Override
     public String @NotNull [] getPlaceholders(@Nullable TaskRepository taskRepository) {
-        return new String[]{
-                // Standard task placeholders
-                "id",
-                "number",
-                "summary",
-                "project",
-                "taskType",
-                // Conventional Commits placeholders
-                "type",
-                "scope",
-                "description",
-                "body",
-                "footer",
-                "breaking"
-        };
+        return Placeholder.NAMES.clone();
     }
 
     @Override
     public @Nullable String getPlaceholderValue(LocalTask task, String placeholder) {
-        if ("id".equals(placeholder)) {
-            return task.getPresentableId();
-        }
-        if ("number".equals(placeholder)) {
-            return task.getNumber();
-        }
-        if ("summary".equals(placeholder)) {
-            return task.getSummary();
-        }
-        if ("project".equals(placeholder)) {
-            return StringUtil.notNullize(task.getProject());
-        }
-        if ("taskType".equals(placeholder)) {
-            return task.getType().name();
-        }
-
-        // Conventional Commits placeholders
-        if ("type".equals(placeholder)) {
-            return getConventionalCommitType(task);
-        }
-        if ("scope".equals(placeholder)) {
-            return getConventionalCommitScope(task);
-        }
-        if ("description".equals(placeholder)) {
-            return getConventionalCommitDescription(task);
+        Placeholder known = Placeholder.BY_NAME.get(placeholder);
+        if (known == null) {
+            throw new IllegalArgumentException("Unknown placeholder: " + placeholder);
         }
-        if ("body".equals(placeholder)) {
-            return getConventionalCommitBody(task);
-        }
-        if ("footer".equals(placeholder)) {
-            return getConventionalCommitFooter(task);
-        }
-        if ("breaking".equals(placeholder)) {
-            return ""; // Can be used for breaking change indicator
-        }
-
-        throw new IllegalArgumentException("Unknown placeholder: " + placeholder);
+        return valuesOf(task).get(known);
     }
 
     @Override
     public String getPlaceholderDescription(String placeholder) {
-        return switch (placeholder) {
-            case "id" -> "Task ID";
-            case "number" -> "Task number";
-            case "summary" -> "Task summary";
-            case "project" -> "Project name";
-            case "taskType" -> "Task type";
-            case "type" -> "Conventional commit type (feat, fix, etc.)";
-            case "scope" -> "Conventional commit scope (project or custom)";
-            case "description" -> "Conventional commit description (task summary)";
-            case "body" -> "Conventional commit body (task description)";
-            case "footer" -> "Conventional commit footer (task reference)";
-            case "breaking" -> "Breaking change indicator (!)";
-            default -> null;
-        };
+        Placeholder known = Placeholder.BY_NAME.get(placeholder);
+        return known != null ? known.description : null;
+    }
+
+    /**
+     * @return the memoized values of the task, recreated when another task is asked for or the task was updated
+     */
+    private TaskValues valuesOf(LocalTask task) {
+        Date updated = task.getUpdated();
+        TaskValues values = lastValues;
+        if (values == null || values.task != task || !Objects.equals(values.updated, updated)) {
+            values = new TaskValues(task, updated);
+            lastValues = values;
+        }
+        return values;
     }
 
     /**
@@ -115,7 +88,7 @@ public class ConventionalCommitPlaceHolderProvider implements CommitPlaceholderP
      * @param task the task
      * @return conventional commit type string
      */
-    private String getConventionalCommitType(LocalTask task) {
+    private static String getConventionalCommitType(LocalTask task) {
         TaskType taskType = task.getType();
         return switch (taskType) {
             case FEATURE -> "feat";
@@ -132,15 +105,35 @@ public class ConventionalCommitPlaceHolderProvider implements CommitPlaceholderP
      * @param task the task
      * @return scope string or empty string
      */
-    private String getConventionalCommitScope(LocalTask task) {
+    private static String getConventionalCommitScope(LocalTask task) {
         String project = task.getProject();
         if (project != null && !project.isEmpty()) {
             // Clean up project name for scope (lowercase, no spaces)
-            return project.toLowerCase().replaceAll("\\s+", "-");
+            return toScope(project.toLowerCase());
         }
         return "";
     }
 
+    /**
+     * Replaces every run of whitespace by a single hyphen.
+     */
+    static String toScope(String project) {
+        StringBuilder scope = new StringBuilder(project.length());
+        boolean inWhitespace = false;
+        for (int i = 0; i < project.length(); i++) {
+            char c = project.charAt(i);
+            // the whitespace characters of \s in Java regular expressions
+            boolean whitespace = c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+            if (!whitespace) {
+                scope.append(c);
+            } else if (!inWhitespace) {
+                scope.append('-');
+            }
+            inWhitespace = whitespace;
+        }
+        return scope.toString();
+    }
+
     /**
      * Gets the description for conventional commits.
      * Uses the task summary.
@@ -148,7 +141,7 @@ public class ConventionalCommitPlaceHolderProvider implements CommitPlaceholderP
      * @param task the task
      * @return description string
      */
-    private String getConventionalCommitDescription(LocalTask task) {
+    private static String getConventionalCommitDescription(LocalTask task) {
         String summary = task.getSummary();
         if (!summary.isEmpty()) {
             // Ensure description starts with lowercase (conventional commits style)
@@ -159,14 +152,20 @@ public class ConventionalCommitPlaceHolderProvider implements CommitPlaceholderP
 
     /**
      * Gets the body for conventional commits.
-     * Uses the task description if available.
+     * Uses the task description if available, converted to plain text within the repository's budget.
      *
      * @param task the task
      * @return body string or empty string
      */
-    private String getConventionalCommitBody(LocalTask task) {
+    private static String getConventionalCommitBody(LocalTask task) {
         String description = task.getDescription();
-        return StringUtil.notNullize(description);
+        if (StringUtil.isEmpty(description)) {
+            return "";
+        }
+        if (task.getRepository() instanceof ClickUpRepository repository) {
+            return ClickUpMarkdownText.toPlainText(description, repository.getCommitBodyMaxChars(), repository.getCommitBodyMaxLines());
+        }
+        return ClickUpMarkdownText.toPlainText(description, ClickUpMarkdownText.DEFAULT_MAX_CHARS, ClickUpMarkdownText.DEFAULT_MAX_LINES);
     }
 
     /**
@@ -176,7 +175,7 @@ public class ConventionalCommitPlaceHolderProvider implements CommitPlaceholderP
      * @param task the task
      * @return footer string with task reference
      */
-    private String getConventionalCommitFooter(LocalTask task) {
+    private static String getConventionalCommitFooter(LocalTask task) {
         String taskId = task.getPresentableId();
         if (!taskId.isEmpty()) {
             TaskRepository repository = task.getRepository();
@@ -187,4 +186,151 @@ public class ConventionalCommitPlaceHolderProvider implements CommitPlaceholderP
         }
         return "";
     }
+
+    private enum Placeholder {
+        // Standard task placeholders
+        ID("id", "Task ID"),
+        NUMBER("number", "Task number"),
+        SUMMARY("summary", "Task summary"),
+        PROJECT("project", "Project name"),
+        TASK_TYPE("taskType", "Task type"),
+        // Conventional Commits placeholders
+        TYPE("type", "Conventional commit type (feat, fix, etc.)"),
+        SCOPE("scope", "Conventional commit scope (project or custom)"),
+        DESCRIPTION("description", "Conventional commit description (task summary)"),
+        BODY("body", "Conventional commit body (task description as plain text, shortened)"),
+        FOOTER("footer", "Conventional commit footer (task reference)"),
+        BREAKING("breaking", "Breaking change indicator (!)"),
+        // ClickUp placeholders
+        STATUS("status", "ClickUp task status"),
+        CUSTOM_ID("customId", "ClickUp custom task ID"),
+        TEMPLATE("template", "Commit template of the ClickUp repository");
+
+        private static final String[] NAMES;
+        private static final Map<String, Placeholder> BY_NAME = new HashMap<>();
+
+        static {
+            Placeholder[] placeholders = values();
+            NAMES = new String[placeholders.length];
+            for (Placeholder placeholder : placeholders) {
+                NAMES[placeholder.ordinal()] = placeholder.name;
+                BY_NAME.put(placeholder.name, placeholder);
+            }
+        }
+
+        private final String name;
+        private final String description;
+
+        Placeholder(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+    }
+
+    /**
+     * Placeholder values of one task, each computed on first use.
+     */
+    private static final class TaskValues implements ClickUpCommitTemplate.Values {
+        private final LocalTask task;
+        private final Date updated;
+        private final String[] values = new String[Placeholder.NAMES.length];
+        private final boolean[] computed = new boolean[Placeholder.NAMES.length];
+        // the cached ClickUp task and its status the ClickUp values were computed from
+        private ClickUpTask clickUpTask;
+        private ClickUpTaskState clickUpStatus;
+        private Map<String, String> customFields;
+        // the template the memoized template value was rendered from
+        private ClickUpCommitTemplate renderedTemplate;
+
+        TaskValues(LocalTask task, Date updated) {
+            this.task = task;
+            this.updated = updated;
+        }
+
+        synchronized String get(Placeholder placeholder) {
+            int index = placeholder.ordinal();
+            syncClickUpTask();
+            if (placeholder == Placeholder.TEMPLATE) {
+                ClickUpCommitTemplate template = getTemplate();
+                if (template != renderedTemplate) {
+                    values[index] = template.render(this);
+                    renderedTemplate = template;
+                }
+                return values[index];
+            }
+            if (!computed[index]) {
+                values[index] = compute(placeholder);
+                computed[index] = true;
+            }
+            return values[index];
+        }
+
+        private String compute(Placeholder placeholder) {
+            return switch (placeholder) {
+                case ID -> task.getPresentableId();
+                case NUMBER -> task.getNumber();
+                case SUMMARY -> task.getSummary();
+                case PROJECT -> StringUtil.notNullize(task.getProject());
+                case TASK_TYPE -> task.getType().name();
+                case TYPE -> getConventionalCommitType(task);
+                case SCOPE -> getConventionalCommitScope(task);
+                case DESCRIPTION -> getConventionalCommitDescription(task);
+                case BODY -> getConventionalCommitBody(task);
+                case FOOTER -> getConventionalCommitFooter(task);
+                case BREAKING -> ""; // Can be used for breaking change indicator
+                case STATUS -> clickUpStatus != null ? StringUtil.notNullize(clickUpStatus.getStatus()) : "";
+                case CUSTOM_ID -> clickUpTask != null ? StringUtil.notNullize(clickUpTask.getCustom_id()) : "";
+                case TEMPLATE -> throw new IllegalStateException("The template is rendered on demand");
+            };
+        }
+
+        @Override
+        public synchronized @Nullable String get(@NotNull String placeholder) {
+            Placeholder known = Placeholder.BY_NAME.get(placeholder);
+            // a template referring to itself renders the reference as written
+            return known != null && known != Placeholder.TEMPLATE ? get(known) : null;
+        }
+
+        @Override
+        public synchronized @Nullable String getCustomField(@NotNull String name) {
+            syncClickUpTask();
+            if (customFields == null) {
+                customFields = new HashMap<>();
+                List<ClickUpCustomField> fields = clickUpTask != null ? clickUpTask.getCustom_fields() : null;
+                if (fields != null) {
+                    for (ClickUpCustomField field : fields) {
+                        if (field.getName() != null) {
+                            customFields.putIfAbsent(field.getName().toLowerCase(Locale.ROOT), field.getDisplayValue());
+                        }
+                    }
+                }
+            }
+            return customFields.get(name.toLowerCase(Locale.ROOT));
+        }
+
+        private ClickUpCommitTemplate getTemplate() {
+            return task.getRepository() instanceof ClickUpRepository repository
+                    ? repository.getCommitTemplate()
+                    : ClickUpCommitTemplate.EMPTY;
+        }
+
+        /**
+         * Looks the ClickUp task up in the repository's cache, which is a map lookup; the commit dialog must not
+         * wait for the network. The values taken from it are dropped when another task or status is found.
+         */
+        private void syncClickUpTask() {
+            ClickUpTask cached = task.getRepository() instanceof ClickUpRepository repository
+                    ? repository.findCachedTask(task.getId())
+                    : null;
+            ClickUpTaskState status = cached != null ? cached.getStatus() : null;
+            if (cached != clickUpTask || status != clickUpStatus) {
+                clickUpTask = cached;
+                clickUpStatus = status;
+                computed[Placeholder.STATUS.ordinal()] = false;
+                computed[Placeholder.CUSTOM_ID.ordinal()] = false;
+                customFields = null;
+                renderedTemplate = null;
+            }
+        }
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.model;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * A custom field of a task, as returned with the task.
+ */
+public class ClickUpCustomField {
+    private static final String[] NAME_KEYS = {"name", "label", "username", "title", "email"};
+
+    private String id;
+    private String name;
+    private String type;
+    private TypeConfig type_config;
+    // shape depends on the type: text, number, option index, option IDs, users, ...
+    private JsonElement value;
+
+    public ClickUpCustomField(String id, String name, String type, JsonElement value) {
+        this.id = id;
+        this.name = name;
+        this.type = type;
+        this.value = value;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public TypeConfig getType_config() {
+        return type_config;
+    }
+
+    public void setType_config(TypeConfig type_config) {
+        this.type_config = type_config;
+    }
+
+    public JsonElement getValue() {
+        return value;
+    }
+
+    /**
+     * Formats the value for commit messages: drop-down and label options by their names,
+     * users and other objects by their name, lists comma separated.
+     *
+     * @return the formatted value, or an empty string if the field is not set
+     */
+    public @NotNull String getDisplayValue() {
+        if (value == null || value.isJsonNull()) {
+            return "";
+        }
+        if (value.isJsonArray()) {
+            StringBuilder result = new StringBuilder();
+            for (JsonElement element : value.getAsJsonArray()) {
+                String item = format(element);
+                if (!item.isEmpty()) {
+                    if (!result.isEmpty()) {
+                        result.append(", ");
+                    }
+                    result.append(item);
+                }
+            }
+            return result.toString();
+        }
+        return format(value);
+    }
+
+    private String format(JsonElement element) {
+        if (element.isJsonPrimitive()) {
+            String text = element.getAsString();
+            Option option = findOption(text);
+            return option != null ? option.getDisplayName() : text;
+        }
+        if (element.isJsonObject()) {
+            JsonObject object = element.getAsJsonObject();
+            for (String key : NAME_KEYS) {
+                JsonElement name = object.get(key);
+                if (name != null && name.isJsonPrimitive()) {
+                    return name.getAsString();
+                }
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Drop-downs store the option's order index as value, labels the option IDs.
+     */
+    private @Nullable Option findOption(String optionValue) {
+        if (type_config == null || type_config.options == null) {
+            return null;
+        }
+        for (Option option : type_config.options) {
+            if (optionValue.equals(option.id) || optionValue.equals(option.orderindex)) {
+                return option;
+            }
+        }
+        return null;
+    }
+
+    public static class TypeConfig {
+        private List<Option> options;
+
+        public List<Option> getOptions() {
+            return options;
+        }
+
+        public void setOptions(List<Option> options) {
+            this.options = options;
+        }
+    }
+
+    public static class Option {
+        private String id;
+        private String name;
+        private String label;
+        private String orderindex;
+
+        public Option(String id, String name, String label, String orderindex) {
+            this.id = id;
+            this.name = name;
+            this.label = label;
+            this.orderindex = orderindex;
+        }
+
+        public String getDisplayName() {
+            return name != null ? name : label != null ? label : "";
+        }
+    }
+}
@@ -16,6 +16,11 @@
 package de.jaimerojas.clickup.model;
 
 public class ClickUpCustomItem {
+    /**
+     * ID that ClickUp uses for the built-in "Task" type, which is not returned by the custom item endpoint.
+     */
+    public static final String DEFAULT_TASK_ID = "0";
+
     private String id;
     private String name;
     private String name_plural;
@@ -29,6 +34,18 @@ public class ClickUpCustomItem {
             String description,
             ClickUpAvatar avatar
     ) {
+        this.id = id;
+        this.name = name;
+        this.name_plural = name_plural;
+        this.description = description;
+        this.avatar = avatar;
+    }
+
+    /**
+     * @return the built-in ClickUp "Task" type
+     */
+    public static ClickUpCustomItem defaultTaskItem() {
+        return new ClickUpCustomItem(DEFAULT_TASK_ID, "Task", "Tasks", "Default ClickUp task type", null);
     }
 
     public String getId() {
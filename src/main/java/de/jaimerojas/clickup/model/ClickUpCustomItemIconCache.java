@@ -0,0 +1,228 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.model;
+
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.io.HttpRequests;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static de.jaimerojas.clickup.model.ClickUpTaskIconHolder.CLICKUP_ICON;
+
+/**
+ * Bounded LRU cache of the icons shown for ClickUp custom items.
+ * <p>
+ * Icons are created from the custom item avatar: avatars that point to an image are downloaded,
+ * icon-font avatars (e.g. {@code fas:bug}) are drawn as a colored badge with the initial of the icon name.
+ * Downloads go through the IDE's HTTP settings, so its proxy is used, and give up after a few seconds.
+ * Each icon is rasterized once per screen scale on the loader executor, and paints the ClickUp logo
+ * until its image is ready.
+ */
+public class ClickUpCustomItemIconCache {
+    private static final Logger LOG = Logger.getInstance(ClickUpCustomItemIconCache.class);
+
+    static final int ICON_SIZE = 16;
+    private static final int MAX_ICONS = 128;
+    private static final int DOWNLOAD_TIMEOUT_MILLIS = (int) TimeUnit.SECONDS.toMillis(5);
+    private static final Color[] BADGE_COLORS = {
+            new Color(0x7B68EE), new Color(0x1E90FF), new Color(0x49CCF9), new Color(0x2ECD6F),
+            new Color(0xF8AE00), new Color(0xFD7E14), new Color(0xE44332), new Color(0x9B59B6)
+    };
+
+    private final Map<String, AvatarIcon> icons;
+    private final Icon placeholder;
+    private final Executor loader;
+
+    /**
+     * @param maxIcons    maximum number of avatars to keep
+     * @param placeholder icon shown for items without avatar and while an avatar is loading
+     * @param loader      executor that loads and rasterizes the icons
+     */
+    public ClickUpCustomItemIconCache(int maxIcons, @NotNull Icon placeholder, @NotNull Executor loader) {
+        this.icons = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, AvatarIcon> eldest) {
+                return size() > maxIcons;
+            }
+        };
+        this.placeholder = placeholder;
+        this.loader = loader;
+    }
+
+    public static ClickUpCustomItemIconCache getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * @return the icon of the custom item, or the placeholder if it has no avatar
+     */
+    public @NotNull Icon getIcon(@Nullable ClickUpCustomItem customItem) {
+        ClickUpCustomItem.ClickUpAvatar avatar = customItem != null ? customItem.getAvatar() : null;
+        if (avatar == null || avatar.getValue() == null || avatar.getValue().isEmpty()) {
+            return placeholder;
+        }
+        String key = avatar.getSource() + ':' + avatar.getValue();
+        synchronized (icons) {
+            return icons.computeIfAbsent(key, k -> new AvatarIcon(avatar.getSource(), avatar.getValue()));
+        }
+    }
+
+    int size() {
+        synchronized (icons) {
+            return icons.size();
+        }
+    }
+
+    private static BufferedImage rasterize(@Nullable String source, @NotNull String value, double scale) {
+        int size = (int) Math.ceil(ICON_SIZE * scale);
+        if (isImageUrl(source, value)) {
+            try {
+                BufferedImage image = HttpRequests.request(value)
+                        .connectTimeout(DOWNLOAD_TIMEOUT_MILLIS)
+                        .readTimeout(DOWNLOAD_TIMEOUT_MILLIS)
+                        .productNameAsUserAgent()
+                        .connect(request -> ImageIO.read(request.getInputStream()));
+                if (image != null) {
+                    BufferedImage scaled = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+                    Graphics2D g = scaled.createGraphics();
+                    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                    g.drawImage(image, 0, 0, size, size, null);
+                    g.dispose();
+                    return scaled;
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                LOG.debug("Could not load custom item avatar " + value, e);
+            }
+        }
+        return badge(value, size);
+    }
+
+    private static boolean isImageUrl(@Nullable String source, @NotNull String value) {
+        return "url".equalsIgnoreCase(source) || value.startsWith("https://") || value.startsWith("http://");
+    }
+
+    private static BufferedImage badge(String value, int size) {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setColor(BADGE_COLORS[Math.floorMod(value.hashCode(), BADGE_COLORS.length)]);
+        g.fillRoundRect(0, 0, size, size, size / 3, size / 3);
+
+        String initial = value.substring(0, 1).toUpperCase(Locale.ROOT);
+        g.setColor(Color.WHITE);
+        g.setFont(new Font(Font.SANS_SERIF, Font.BOLD, Math.max(1, size * 2 / 3)));
+        FontMetrics metrics = g.getFontMetrics();
+        g.drawString(initial, (size - metrics.stringWidth(initial)) / 2, (size - metrics.getHeight()) / 2 + metrics.getAscent());
+        g.dispose();
+        return image;
+    }
+
+    /**
+     * Icon of one avatar, holding an image per screen scale it has been painted at.
+     */
+    private final class AvatarIcon implements Icon {
+        private final String source;
+        private final String value;
+        private final ConcurrentMap<Double, BufferedImage> imagesByScale = new ConcurrentHashMap<>();
+        // components that painted the placeholder and have to be repainted once an image is ready
+        private final Map<Double, List<WeakReference<Component>>> pending = new ConcurrentHashMap<>();
+
+        AvatarIcon(String source, String value) {
+            this.source = source;
+            this.value = value;
+        }
+
+        @Override
+        public void paintIcon(Component c, Graphics g, int x, int y) {
+            double scale = g instanceof Graphics2D g2d ? g2d.getTransform().getScaleX() : 1;
+            BufferedImage image = imagesByScale.get(scale);
+            if (image != null) {
+                g.drawImage(image, x, y, ICON_SIZE, ICON_SIZE, null);
+                return;
+            }
+            placeholder.paintIcon(c, g, x, y);
+            requestImage(scale, c);
+        }
+
+        private void requestImage(double scale, @Nullable Component c) {
+            boolean[] first = {false};
+            List<WeakReference<Component>> waiting = pending.computeIfAbsent(scale, s -> {
+                first[0] = true;
+                return new ArrayList<>();
+            });
+            synchronized (waiting) {
+                if (c != null) {
+                    // cell renderers are not part of the component tree, repaint the list or tree that owns them
+                    Component target = c.getParent() instanceof CellRendererPane pane && pane.getParent() != null ? pane.getParent() : c;
+                    waiting.add(new WeakReference<>(target));
+                }
+            }
+            if (first[0]) {
+                loader.execute(() -> {
+                    try {
+                        imagesByScale.computeIfAbsent(scale, s -> rasterize(source, value, s));
+                    } finally {
+                        // also when rasterizing failed, so that the next paint requests the image again
+                        List<WeakReference<Component>> toRepaint = pending.remove(scale);
+                        if (toRepaint != null && imagesByScale.containsKey(scale)) {
+                            synchronized (toRepaint) {
+                                for (WeakReference<Component> reference : toRepaint) {
+                                    Component component = reference.get();
+                                    if (component != null) {
+                                        SwingUtilities.invokeLater(component::repaint);
+                                    }
+                                }
+                            }
+                        }
+                    }
+                });
+            }
+        }
+
+        @Override
+        public int getIconWidth() {
+            return ICON_SIZE;
+        }
+
+        @Override
+        public int getIconHeight() {
+            return ICON_SIZE;
+        }
+    }
+
+    private static final class InstanceHolder {
+        private static final ClickUpCustomItemIconCache INSTANCE = new ClickUpCustomItemIconCache(
+                MAX_ICONS, CLICKUP_ICON, AppExecutorUtil.createBoundedApplicationPoolExecutor("ClickUp Icon Loader", 1));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.model;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Deduplicates the small value objects that every decoded task carries its own copy of.
+ * <p>
+ * A workspace has a handful of statuses, spaces and custom items, but each task in a page
+ * arrives with separate instances of them. One pool is kept per workspace, and every decoded
+ * task is passed through {@link #intern(ClickUpTask)} so that equal values share one instance.
+ */
+public class ClickUpFlyweightPool {
+    private final ConcurrentMap<ClickUpTaskState, ClickUpTaskState> states = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ClickUpSpaceIdOnly> spaces = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> strings = new ConcurrentHashMap<>();
+
+    /**
+     * Replaces the status, space, custom item and workspace references of the task with pooled instances.
+     *
+     * @param task a freshly decoded task
+     * @return the same task
+     */
+    public @NotNull ClickUpTask intern(@NotNull ClickUpTask task) {
+        ClickUpTaskState status = task.getStatus();
+        if (status != null) {
+            task.setStatus(states.computeIfAbsent(status, this::internState));
+        }
+        ClickUpSpaceIdOnly space = task.getSpace();
+        if (space != null && space.getId() != null) {
+            task.setSpace(spaces.computeIfAbsent(space.getId(), id -> space));
+        }
+        task.setCustom_item_id(intern(task.getCustom_item_id()));
+        task.setTeam_id(intern(task.getTeam_id()));
+        return task;
+    }
+
+    private ClickUpTaskState internState(ClickUpTaskState state) {
+        state.setStatus(intern(state.getStatus()));
+        state.setType(intern(state.getType()));
+        return state;
+    }
+
+    private @Nullable String intern(@Nullable String value) {
+        return value == null ? null : strings.computeIfAbsent(value, v -> v);
+    }
+
+    /**
+     * @return the number of distinct instances held by this pool
+     */
+    public int size() {
+        return states.size() + spaces.size() + strings.size();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.model;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable, searchable directory of the members of a workspace.
+ * <p>
+ * Members are sorted by name once, and every name part and email address is indexed in a sorted
+ * key array, so a prefix search is a binary search followed by a scan over the matching keys only.
+ */
+public final class ClickUpMemberDirectory {
+    public static final ClickUpMemberDirectory EMPTY = new ClickUpMemberDirectory(List.of());
+
+    private static final Comparator<ClickUpUser> BY_NAME = Comparator
+            .comparing((ClickUpUser user) -> normalize(user.getUsername()))
+            .thenComparing(ClickUpUser::getId);
+
+    private final List<ClickUpUser> users;
+    private final Map<String, ClickUpUser> usersById;
+    // sorted search keys, and the index of the user each key belongs to
+    private final String[] keys;
+    private final int[] owners;
+
+    private ClickUpMemberDirectory(List<ClickUpUser> sortedUsers) {
+        this.users = List.copyOf(sortedUsers);
+        this.usersById = new HashMap<>(users.size() * 2);
+        List<SearchKey> searchKeys = new ArrayList<>(users.size() * 3);
+        for (int i = 0; i < users.size(); i++) {
+            ClickUpUser user = users.get(i);
+            usersById.put(user.getId(), user);
+            String name = normalize(user.getUsername());
+            for (String part : name.split(" ")) {
+                if (!part.isEmpty()) {
+                    searchKeys.add(new SearchKey(part, i));
+                }
+            }
+            // the full name keeps "jane d" matching after the space
+            if (name.indexOf(' ') >= 0) {
+                searchKeys.add(new SearchKey(name, i));
+            }
+            String email = normalize(user.getEmail());
+            if (!email.isEmpty()) {
+                searchKeys.add(new SearchKey(email, i));
+            }
+        }
+        searchKeys.sort(Comparator.comparing(SearchKey::key));
+        this.keys = new String[searchKeys.size()];
+        this.owners = new int[searchKeys.size()];
+        for (int i = 0; i < searchKeys.size(); i++) {
+            keys[i] = searchKeys.get(i).key();
+            owners[i] = searchKeys.get(i).owner();
+        }
+    }
+
+    /**
+     * Builds the directory of the given members, skipping members without user.
+     */
+    public static @NotNull ClickUpMemberDirectory of(@Nullable Collection<ClickUpTeamMember> members) {
+        if (members == null || members.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, ClickUpUser> distinct = new HashMap<>(members.size() * 2);
+        for (ClickUpTeamMember member : members) {
+            ClickUpUser user = member.getUser();
+            if (user != null) {
+                distinct.putIfAbsent(user.getId(), user);
+            }
+        }
+        List<ClickUpUser> sorted = new ArrayList<>(distinct.values());
+        sorted.sort(BY_NAME);
+        return new ClickUpMemberDirectory(sorted);
+    }
+
+    /**
+     * @return all members, sorted by name
+     */
+    public @NotNull List<ClickUpUser> getUsers() {
+        return users;
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    public @Nullable ClickUpUser findById(@Nullable String userId) {
+        return userId != null ? usersById.get(userId) : null;
+    }
+
+    /**
+     * Finds the members whose name, a part of their name, or email address starts with the prefix,
+     * ignoring case.
+     *
+     * @return the matching members sorted by name, or all members if the prefix is blank
+     */
+    public @NotNull List<ClickUpUser> search(@Nullable String prefix) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return users;
+        }
+        BitSet matches = new BitSet(users.size());
+        for (int i = lowerBound(normalized); i < keys.length && keys[i].startsWith(normalized); i++) {
+            matches.set(owners[i]);
+        }
+        List<ClickUpUser> result = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            result.add(users.get(i));
+        }
+        return result;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(@Nullable String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record SearchKey(String key, int owner) {
+    }
+}
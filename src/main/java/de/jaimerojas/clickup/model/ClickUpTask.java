@@ -27,23 +27,29 @@ import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
 import java.util.Date;
-
-import static de.jaimerojas.clickup.model.ClickUpTaskIconHolder.CLICKUP_ICON;
+import java.util.List;
 
 public class ClickUpTask extends Task {
     private String id;
     private String custom_id;
     private String custom_item_id;
+    private String team_id;
     private String name;
     private String description;
-    private String date_updated;
-    private String date_created;
-    private String date_closed;
+    // ClickUp sends dates as strings of epoch milliseconds, Gson parses them into longs while decoding
+    private long date_updated;
+    private long date_created;
+    private long date_closed;
     private ClickUpTaskState status;
     private String url;
     private ClickUpSpaceIdOnly space;
     private ClickUpCustomItem customItem;
+    private List<ClickUpCustomField> custom_fields;
+    // set only on the copies handed out by a repository, the task service shares its instances between repositories
     private ClickUpRepository taskRepository;
+    // the IDE asks for these repeatedly while sorting, so they are created once
+    private transient Date updated;
+    private transient Date created;
 
     @Override
     public @Nls @NotNull String getSummary() {
@@ -57,35 +63,31 @@ public class ClickUpTask extends Task {
 
     @Override
     public @NotNull Icon getIcon() {
-        return CLICKUP_ICON;
+        return ClickUpCustomItemIconCache.getInstance().getIcon(customItem);
     }
 
     @Override
     public @NotNull TaskType getType() {
-        if (customItem != null) {
-            var customTaskType = customItem.getName().toLowerCase();
-            if (customTaskType.matches("(bug|bugs|issue|issues|defect|defects)")) {
-                return TaskType.BUG;
-            } else if (customTaskType.matches("(task|tasks|story|stories|user story|user stories|feature|features)")) {
-                return TaskType.FEATURE;
-            } else if (customTaskType.matches("(ex|exception|exceptions|error|errors|incident|incidents)")) {
-                return TaskType.EXCEPTION;
-            } else {
-                return TaskType.OTHER;
-            }
-        } else {
-            return TaskType.FEATURE;
-        }
+        ClickUpTaskTypeClassifier classifier = taskRepository != null
+                ? taskRepository.getTaskTypeClassifier()
+                : ClickUpTaskTypeClassifier.DEFAULT;
+        return classifier.classify(customItem);
     }
 
     @Override
     public @Nullable Date getUpdated() {
-        return new Date(Long.parseLong(date_updated));
+        if (updated == null && date_updated != 0) {
+            updated = new Date(date_updated);
+        }
+        return updated;
     }
 
     @Override
     public @Nullable Date getCreated() {
-        return new Date(Long.parseLong(date_created));
+        if (created == null && date_created != 0) {
+            created = new Date(date_created);
+        }
+        return created;
     }
 
     @Override
@@ -125,6 +127,17 @@ public class ClickUpTask extends Task {
         this.custom_item_id = custom_item_id;
     }
 
+    /**
+     * @return the ID of the workspace the task belongs to, or null if it is not known
+     */
+    public String getTeam_id() {
+        return team_id;
+    }
+
+    public void setTeam_id(String team_id) {
+        this.team_id = team_id;
+    }
+
     public String getName() {
         return name;
     }
@@ -142,33 +155,44 @@ public class ClickUpTask extends Task {
         this.description = description;
     }
 
-    public String getDate_updated() {
+    /**
+     * @return the last update time in epoch milliseconds, or 0 if unknown
+     */
+    public long getDate_updated() {
         return date_updated;
     }
 
-    public void setDate_updated(String date_updated) {
+    public void setDate_updated(long date_updated) {
         this.date_updated = date_updated;
+        this.updated = null;
     }
 
-    public String getDate_created() {
+    /**
+     * @return the creation time in epoch milliseconds, or 0 if unknown
+     */
+    public long getDate_created() {
         return date_created;
     }
 
-    public void setDate_created(String date_created) {
+    public void setDate_created(long date_created) {
         this.date_created = date_created;
+        this.created = null;
     }
 
-    public String getDate_closed() {
+    /**
+     * @return the time the task was closed in epoch milliseconds, or 0 if it is open
+     */
+    public long getDate_closed() {
         return date_closed;
     }
 
-    public void setDate_closed(String date_closed) {
+    public void setDate_closed(long date_closed) {
         this.date_closed = date_closed;
     }
 
     @Override
     public boolean isClosed() {
-        return date_closed != null;
+        return date_closed != 0;
     }
 
     @Override
@@ -208,13 +232,53 @@ public class ClickUpTask extends Task {
         this.customItem = customItem;
     }
 
+    public List<ClickUpCustomField> getCustom_fields() {
+        return custom_fields;
+    }
+
+    public void setCustom_fields(List<ClickUpCustomField> custom_fields) {
+        this.custom_fields = custom_fields;
+    }
+
     @Override
     public @Nullable TaskRepository getRepository() {
         return taskRepository;
     }
 
-    public void setRepository(ClickUpRepository clickUpRepository) {
-        this.taskRepository = clickUpRepository;
+    /**
+     * Returns a copy of this task bound to the repository, whose settings decide its type, presentable ID
+     * and staleness. The copy shares the field values, so it costs one object.
+     *
+     * @param clickUpRepository the repository handing out the task
+     * @return a new task, this one is left unbound
+     */
+    public @NotNull ClickUpTask withRepository(@NotNull ClickUpRepository clickUpRepository) {
+        ClickUpTask copy = new ClickUpTask();
+        copy.id = id;
+        copy.custom_id = custom_id;
+        copy.custom_item_id = custom_item_id;
+        copy.team_id = team_id;
+        copy.name = name;
+        copy.description = description;
+        copy.date_updated = date_updated;
+        copy.date_created = date_created;
+        copy.date_closed = date_closed;
+        copy.status = status;
+        copy.url = url;
+        copy.space = space;
+        copy.customItem = customItem;
+        copy.custom_fields = custom_fields;
+        copy.updated = updated;
+        copy.created = created;
+        copy.taskRepository = clickUpRepository;
+        return copy;
+    }
+
+    /**
+     * @return whether ClickUp is unreachable, so this is the last known copy of the task
+     */
+    public boolean isStale() {
+        return taskRepository != null && taskRepository.isOffline();
     }
 
     @Override
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.model;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A workspace, optionally narrowed to the tasks of one assignee, that tasks are fetched from.
+ * <p>
+ * Sources are stored as text in the form {@code workspaceId[/assigneeId]}, several sources
+ * separated by commas, e.g. {@code 9012345/81234, 9067890}.
+ *
+ * @param workspaceId the workspace ID
+ * @param assigneeId  the assignee ID, or null for the tasks of all assignees
+ */
+public record ClickUpTaskSource(@NotNull String workspaceId, @Nullable String assigneeId) {
+
+    /**
+     * @return the sources in the text, skipping blank entries
+     */
+    public static @NotNull List<ClickUpTaskSource> parseAll(@Nullable String text) {
+        List<ClickUpTaskSource> sources = new ArrayList<>();
+        if (text == null) {
+            return sources;
+        }
+        for (String entry : text.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.indexOf('/');
+            if (separator < 0) {
+                sources.add(new ClickUpTaskSource(trimmed, null));
+            } else {
+                String assigneeId = trimmed.substring(separator + 1).trim();
+                sources.add(new ClickUpTaskSource(trimmed.substring(0, separator).trim(), assigneeId.isEmpty() ? null : assigneeId));
+            }
+        }
+        return sources;
+    }
+
+    public static @NotNull String formatAll(@NotNull List<ClickUpTaskSource> sources) {
+        return sources.stream().map(ClickUpTaskSource::toString).collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public String toString() {
+        return assigneeId == null ? workspaceId : workspaceId + "/" + assigneeId;
+    }
+}
@@ -15,6 +15,8 @@
  */
 package de.jaimerojas.clickup.model;
 
+import java.util.Objects;
+
 public class ClickUpTaskState {
     private String id;
     private String status;
@@ -50,4 +52,19 @@ public class ClickUpTaskState {
     public void setType(String type) {
         this.type = type;
     }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (!(o instanceof ClickUpTaskState that)) return false;
+
+        return Objects.equals(id, that.id) && Objects.equals(status, that.status) && Objects.equals(type, that.type);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(id);
+        result = 31 * result + Objects.hashCode(status);
+        result = 31 * result + Objects.hashCode(type);
+        return result;
+    }
 }
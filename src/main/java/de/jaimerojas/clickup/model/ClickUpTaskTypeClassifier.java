@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.model;
+
+import com.intellij.tasks.TaskType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Maps ClickUp custom items to IDE {@link TaskType}s.
+ * <p>
+ * The mapping assigns custom item names to task types, e.g.
+ * {@code BUG=bug,issue;FEATURE=task,story;EXCEPTION=error}. Names are compared ignoring case,
+ * names that are not listed map to {@link TaskType#OTHER}. The type of each custom item is
+ * computed once and cached by its ID, so repeated lookups do not allocate.
+ */
+public class ClickUpTaskTypeClassifier {
+    public static final String DEFAULT_MAPPING =
+            "BUG=bug,bugs,issue,issues,defect,defects;"
+                    + "FEATURE=task,tasks,story,stories,user story,user stories,feature,features;"
+                    + "EXCEPTION=ex,exception,exceptions,error,errors,incident,incidents";
+
+    public static final ClickUpTaskTypeClassifier DEFAULT = new ClickUpTaskTypeClassifier(DEFAULT_MAPPING);
+
+    private final Map<String, TaskType> typesByName;
+    private final ConcurrentMap<String, TaskType> typesByCustomItemId = new ConcurrentHashMap<>();
+
+    /**
+     * @param mapping the name-to-type mapping, see the class documentation for the format
+     * @throws IllegalArgumentException if the mapping refers to an unknown task type
+     */
+    public ClickUpTaskTypeClassifier(@NotNull String mapping) {
+        this.typesByName = parse(mapping);
+    }
+
+    /**
+     * @return the task type of the custom item, {@link TaskType#FEATURE} for tasks without custom item
+     */
+    public @NotNull TaskType classify(@Nullable ClickUpCustomItem customItem) {
+        if (customItem == null) {
+            return TaskType.FEATURE;
+        }
+        String id = customItem.getId();
+        if (id == null) {
+            return classifyName(customItem.getName());
+        }
+        TaskType type = typesByCustomItemId.get(id);
+        if (type == null) {
+            type = classifyName(customItem.getName());
+            typesByCustomItemId.put(id, type);
+        }
+        return type;
+    }
+
+    private TaskType classifyName(@Nullable String name) {
+        if (name == null) {
+            return TaskType.OTHER;
+        }
+        return typesByName.getOrDefault(name.trim().toLowerCase(Locale.ROOT), TaskType.OTHER);
+    }
+
+    /**
+     * Checks the mapping without creating a classifier.
+     *
+     * @return null if the mapping is valid, the reason otherwise
+     */
+    public static @Nullable String validate(@NotNull String mapping) {
+        try {
+            parse(mapping);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static Map<String, TaskType> parse(String mapping) {
+        Map<String, TaskType> typesByName = new HashMap<>();
+        for (String rule : mapping.split(";")) {
+            if (rule.isBlank()) {
+                continue;
+            }
+            int separator = rule.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected TYPE=name,... but got: " + rule.trim());
+            }
+            TaskType type = parseType(rule.substring(0, separator).trim());
+            for (String name : rule.substring(separator + 1).split(",")) {
+                if (!name.isBlank()) {
+                    typesByName.putIfAbsent(name.trim().toLowerCase(Locale.ROOT), type);
+                }
+            }
+        }
+        return typesByName;
+    }
+
+    private static TaskType parseType(String type) {
+        for (TaskType candidate : TaskType.values()) {
+            if (candidate.name().equalsIgnoreCase(type)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task type: " + type);
+    }
+}
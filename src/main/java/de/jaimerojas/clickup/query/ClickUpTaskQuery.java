@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.query;
+
+import de.jaimerojas.clickup.api.ClickUpTaskFilter;
+import de.jaimerojas.clickup.model.ClickUpTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A compiled task query.
+ * The {@link #getFilter() filter} is pushed down to the ClickUp API, the remaining
+ * terms are evaluated locally by {@link #matches(ClickUpTask)}.
+ */
+public final class ClickUpTaskQuery {
+    public static final ClickUpTaskQuery MATCH_ALL = new ClickUpTaskQuery(ClickUpTaskFilter.EMPTY, List.of());
+
+    private final ClickUpTaskFilter filter;
+    private final Predicate<ClickUpTask>[] predicates;
+
+    @SuppressWarnings("unchecked")
+    ClickUpTaskQuery(@NotNull ClickUpTaskFilter filter, @NotNull List<Predicate<ClickUpTask>> predicates) {
+        this.filter = filter;
+        this.predicates = predicates.toArray(new Predicate[0]);
+    }
+
+    public @NotNull ClickUpTaskFilter getFilter() {
+        return filter;
+    }
+
+    /**
+     * @return true if some terms must be evaluated locally after fetching
+     */
+    public boolean hasLocalPredicates() {
+        return predicates.length > 0;
+    }
+
+    /**
+     * Evaluates the terms that could not be pushed down to the API.
+     *
+     * @param task the task to test
+     * @return true if the task matches all local terms
+     */
+    public boolean matches(@NotNull ClickUpTask task) {
+        for (Predicate<ClickUpTask> predicate : predicates) {
+            if (!predicate.test(task)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
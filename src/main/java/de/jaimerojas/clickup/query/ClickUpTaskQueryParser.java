@@ -0,0 +1,256 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.query;
+
+import com.intellij.tasks.TaskType;
+import de.jaimerojas.clickup.api.ClickUpTaskFilter;
+import de.jaimerojas.clickup.model.ClickUpCustomItem;
+import de.jaimerojas.clickup.model.ClickUpTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Parses the text typed into the "Open Task" popup into a {@link ClickUpTaskQuery}.
+ * <p>
+ * Supported terms, separated by whitespace (values may be double-quoted):
+ * <ul>
+ *     <li>{@code status:"in review"} - task status, pushed down as {@code statuses[]}</li>
+ *     <li>{@code list:901} - list ID, pushed down as {@code list_ids[]}</li>
+ *     <li>{@code updated:<7d}, {@code updated:>2025-01-31} - last update, pushed down as
+ *     {@code date_updated_gt}/{@code date_updated_lt}. Relative ages accept m, h, d and w.</li>
+ *     <li>{@code is:closed} - include closed tasks, pushed down as {@code include_closed}</li>
+ *     <li>{@code type:bug} - task type or custom item name, evaluated locally</li>
+ *     <li>any other word - matched case-insensitively against the task ID and summary, evaluated locally</li>
+ * </ul>
+ */
+public final class ClickUpTaskQueryParser {
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+
+    private ClickUpTaskQueryParser() {
+    }
+
+    public static @NotNull ClickUpTaskQuery parse(@Nullable String query) {
+        return parse(query, System.currentTimeMillis());
+    }
+
+    /**
+     * Parses and compiles a query.
+     *
+     * @param query the raw query, may be null or blank
+     * @param now   the reference time for relative dates, in epoch milliseconds
+     * @return the compiled query
+     */
+    public static @NotNull ClickUpTaskQuery parse(@Nullable String query, long now) {
+        if (query == null || query.isBlank()) {
+            return ClickUpTaskQuery.MATCH_ALL;
+        }
+
+        // relative bounds are truncated to the minute, so repeated queries yield equal filters
+        long reference = now - now % MINUTE;
+        List<String> statuses = new ArrayList<>();
+        List<String> listIds = new ArrayList<>();
+        Long updatedGt = null;
+        Long updatedLt = null;
+        boolean includeClosed = false;
+        List<Predicate<ClickUpTask>> predicates = new ArrayList<>();
+
+        for (String token : tokenize(query)) {
+            int colon = token.indexOf(':');
+            String key = colon > 0 ? token.substring(0, colon).toLowerCase(Locale.ROOT) : "";
+            String value = colon > 0 ? unquote(token.substring(colon + 1)) : "";
+
+            switch (key) {
+                case "status" -> {
+                    if (!value.isEmpty()) {
+                        statuses.add(value.toLowerCase(Locale.ROOT));
+                        continue;
+                    }
+                }
+                case "list" -> {
+                    if (!value.isEmpty()) {
+                        listIds.add(value);
+                        continue;
+                    }
+                }
+                case "updated" -> {
+                    Long[] bounds = parseDateBounds(value, reference);
+                    if (bounds != null) {
+                        if (bounds[0] != null) {
+                            updatedGt = updatedGt == null ? bounds[0] : Math.max(updatedGt, bounds[0]);
+                        }
+                        if (bounds[1] != null) {
+                            updatedLt = updatedLt == null ? bounds[1] : Math.min(updatedLt, bounds[1]);
+                        }
+                        continue;
+                    }
+                }
+                case "is", "closed" -> {
+                    if (("is".equals(key) && "closed".equalsIgnoreCase(value))
+                            || ("closed".equals(key) && "true".equalsIgnoreCase(value))) {
+                        includeClosed = true;
+                        continue;
+                    }
+                }
+                case "type" -> {
+                    if (!value.isEmpty()) {
+                        predicates.add(typePredicate(value));
+                        continue;
+                    }
+                }
+                default -> {
+                }
+            }
+            predicates.add(textPredicate(unquote(token)));
+        }
+
+        ClickUpTaskFilter filter = new ClickUpTaskFilter(statuses, listIds, updatedGt, updatedLt, includeClosed);
+        return new ClickUpTaskQuery(filter, predicates);
+    }
+
+    /**
+     * Splits a query on whitespace, keeping double-quoted sections together.
+     * Package-private for testing.
+     */
+    static @NotNull List<String> tokenize(@NotNull String query) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+                current.append(c);
+            } else if (Character.isWhitespace(c) && !quoted) {
+                if (!current.isEmpty()) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                }
+            } else {
+                current.append(c);
+            }
+        }
+        if (!current.isEmpty()) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+            return value.substring(1, value.length() - 1);
+        }
+        return value.replace("\"", "");
+    }
+
+    /**
+     * Parses {@code <7d}, {@code >2w}, {@code 12h} or {@code <2025-01-31} into {gt, lt} bounds.
+     * For relative ages {@code <} means "more recent than", for dates it means "before".
+     *
+     * @return the bounds, or null if the value cannot be parsed
+     */
+    private static Long[] parseDateBounds(String value, long now) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        char operator = value.charAt(0);
+        String operand = operator == '<' || operator == '>' ? value.substring(1) : value;
+        if (operand.isEmpty()) {
+            return null;
+        }
+
+        Long age = parseAge(operand);
+        if (age != null) {
+            if (age > now) {
+                // older than the epoch, ClickUp has no such dates
+                return null;
+            }
+            long threshold = now - age;
+            return operator == '>' ? new Long[]{null, threshold} : new Long[]{threshold, null};
+        }
+
+        try {
+            long date = LocalDate.parse(operand).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            return operator == '<' ? new Long[]{null, date} : new Long[]{date, null};
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the age in milliseconds, or null if it cannot be parsed or does not fit into a long
+     */
+    private static Long parseAge(String operand) {
+        int last = operand.length() - 1;
+        if (last < 1) {
+            return null;
+        }
+        try {
+            long amount = 0;
+            for (int i = 0; i < last; i++) {
+                char c = operand.charAt(i);
+                if (c < '0' || c > '9') {
+                    return null;
+                }
+                amount = Math.addExact(Math.multiplyExact(amount, 10), c - '0');
+            }
+            return switch (Character.toLowerCase(operand.charAt(last))) {
+                case 'm' -> Math.multiplyExact(amount, MINUTE);
+                case 'h' -> Math.multiplyExact(amount, TimeUnit.HOURS.toMillis(1));
+                case 'd' -> Math.multiplyExact(amount, TimeUnit.DAYS.toMillis(1));
+                case 'w' -> Math.multiplyExact(amount, TimeUnit.DAYS.toMillis(7));
+                default -> null;
+            };
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private static Predicate<ClickUpTask> typePredicate(String value) {
+        TaskType taskType = null;
+        for (TaskType candidate : TaskType.values()) {
+            if (candidate.name().equalsIgnoreCase(value)) {
+                taskType = candidate;
+            }
+        }
+        if (taskType != null) {
+            TaskType expected = taskType;
+            return task -> task.getType() == expected;
+        }
+        return task -> {
+            ClickUpCustomItem customItem = task.getCustomItem();
+            return customItem != null && value.equalsIgnoreCase(customItem.getName());
+        };
+    }
+
+    private static Predicate<ClickUpTask> textPredicate(String text) {
+        String needle = text.toLowerCase(Locale.ROOT);
+        return task -> containsIgnoreCase(task.getPresentableId(), needle)
+                || containsIgnoreCase(task.getName(), needle);
+    }
+
+    private static boolean containsIgnoreCase(@Nullable String haystack, String lowerCaseNeedle) {
+        return haystack != null && haystack.toLowerCase(Locale.ROOT).contains(lowerCaseNeedle);
+    }
+}
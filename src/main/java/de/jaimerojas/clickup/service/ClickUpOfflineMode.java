@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.service;
+
+import de.jaimerojas.clickup.api.ClickUpUnavailableException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps what {@link ClickUpTaskService} needs while ClickUp is unreachable: whether it is offline,
+ * the last known value of every recently loaded cache entry, and the writes waiting to be sent.
+ * <p>
+ * The last known values outlive cache invalidation, e.g. after a status change cleared the task
+ * pages, and are bounded to the most recently stored entries. The pending writes are bounded as well,
+ * by refusing further writes rather than dropping queued ones. Nothing is persisted.
+ */
+final class ClickUpOfflineMode {
+    static final int MAX_LAST_KNOWN_ENTRIES = 256;
+    static final int MAX_PENDING_WRITES = 256;
+
+    private final Map<Object, Object> lastKnown = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+            return size() > MAX_LAST_KNOWN_ENTRIES;
+        }
+    };
+    private final Deque<PendingWrite> pendingWrites = new ArrayDeque<>();
+    private volatile boolean offline;
+
+    boolean isOffline() {
+        return offline;
+    }
+
+    /**
+     * @return true if the service was online before
+     */
+    synchronized boolean goOffline() {
+        boolean wasOnline = !offline;
+        offline = true;
+        return wasOnline;
+    }
+
+    /**
+     * Goes back online, unless writes are pending. Checking the queue and going online is one step, and
+     * writes are only queued while offline, so every write is either drained before or sent right away.
+     *
+     * @return true if the service went from offline to online
+     */
+    synchronized boolean backOnlineIfDrained() {
+        if (!offline || !pendingWrites.isEmpty()) {
+            return false;
+        }
+        offline = false;
+        return true;
+    }
+
+    synchronized void remember(@NotNull Object key, @NotNull Object value) {
+        lastKnown.put(key, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    synchronized <V> @Nullable V recall(@NotNull Object key) {
+        return (V) lastKnown.get(key);
+    }
+
+    /**
+     * Queues the write if the service is offline.
+     *
+     * @return false if the service is online, so the write should be sent right away
+     * @throws ClickUpUnavailableException if {@value #MAX_PENDING_WRITES} writes are queued already
+     */
+    synchronized boolean enqueueIfOffline(@NotNull PendingWrite write) throws ClickUpUnavailableException {
+        if (!offline) {
+            return false;
+        }
+        if (pendingWrites.size() >= MAX_PENDING_WRITES) {
+            throw new ClickUpUnavailableException("ClickUp is unreachable and " + MAX_PENDING_WRITES
+                    + " changes are queued already, the " + write.description() + " is not queued");
+        }
+        pendingWrites.addLast(write);
+        return true;
+    }
+
+    /**
+     * Takes all pending writes, oldest first.
+     */
+    synchronized @NotNull List<PendingWrite> drain() {
+        List<PendingWrite> writes = List.copyOf(pendingWrites);
+        pendingWrites.clear();
+        return writes;
+    }
+
+    /**
+     * Puts writes that could not be sent back in front of the writes queued meanwhile.
+     * They were accepted before, so they are kept even beyond {@value #MAX_PENDING_WRITES}.
+     */
+    synchronized void requeue(@NotNull List<PendingWrite> writes) {
+        for (int i = writes.size() - 1; i >= 0; i--) {
+            pendingWrites.addFirst(writes.get(i));
+        }
+    }
+
+    synchronized int getPendingWriteCount() {
+        return pendingWrites.size();
+    }
+
+    synchronized void clear() {
+        offline = false;
+        lastKnown.clear();
+        pendingWrites.clear();
+    }
+
+    /**
+     * A write that is sent once ClickUp is reachable again.
+     *
+     * @param description what the write changes, for logging
+     * @param sender      sends the write
+     */
+    record PendingWrite(@NotNull String description, @NotNull Sender sender) {
+    }
+
+    @FunctionalInterface
+    interface Sender {
+        void send() throws IOException;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.service;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Application-level scheduler that periodically refreshes the caches of every
+ * {@link ClickUpTaskService} in use, so that foreground calls are answered from memory.
+ * <p>
+ * Refreshes run on a pooled thread with a jittered interval, and are skipped while no IDE frame is active.
+ * While a service is offline, the shorter interval checks sooner whether ClickUp is reachable again.
+ */
+@Service(Service.Level.APP)
+public final class ClickUpRefreshScheduler implements Disposable {
+    private static final Logger LOG = Logger.getInstance(ClickUpRefreshScheduler.class);
+
+    private static final long REFRESH_INTERVAL = TimeUnit.MINUTES.toMillis(2);
+    private static final long OFFLINE_REFRESH_INTERVAL = TimeUnit.SECONDS.toMillis(30);
+    private static final double JITTER = 0.25;
+
+    // weak, so services of repositories that were removed from the settings are not kept alive
+    private final Set<ClickUpTaskService> services = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private ScheduledFuture<?> scheduled;
+    private boolean disposed;
+
+    public static ClickUpRefreshScheduler getInstance() {
+        return ApplicationManager.getApplication().getService(ClickUpRefreshScheduler.class);
+    }
+
+    /**
+     * Registers a service for periodic background refresh, starting the scheduler if necessary.
+     */
+    public void register(@NotNull ClickUpTaskService service) {
+        services.add(service);
+        synchronized (this) {
+            if (scheduled == null) {
+                scheduleNext();
+            }
+        }
+    }
+
+    /**
+     * Stops refreshing a service that has been disposed.
+     */
+    public void unregister(@NotNull ClickUpTaskService service) {
+        services.remove(service);
+    }
+
+    private synchronized void scheduleNext() {
+        if (disposed) {
+            return;
+        }
+        long delay = nextDelay(anyOffline() ? OFFLINE_REFRESH_INTERVAL : REFRESH_INTERVAL, JITTER, ThreadLocalRandom.current());
+        scheduled = AppExecutorUtil.getAppScheduledExecutorService().schedule(this::refreshAll, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private boolean anyOffline() {
+        synchronized (services) {
+            return services.stream().anyMatch(ClickUpTaskService::isOffline);
+        }
+    }
+
+    private void refreshAll() {
+        try {
+            // pause while the IDE is in the background, stale entries are revalidated on the next access
+            if (ApplicationManager.getApplication().isActive()) {
+                List<ClickUpTaskService> snapshot;
+                synchronized (services) {
+                    snapshot = List.copyOf(services);
+                }
+                for (ClickUpTaskService service : snapshot) {
+                    service.refresh();
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Background refresh of ClickUp data failed", e);
+        } finally {
+            scheduleNext();
+        }
+    }
+
+    /**
+     * Spreads refreshes over {@code interval * (1 +/- jitter)}, so several IDE instances
+     * do not hit the API at the same moment.
+     * Package-private for testing.
+     */
+    static long nextDelay(long interval, double jitter, @NotNull Random random) {
+        double factor = 1 - jitter + random.nextDouble() * 2 * jitter;
+        return (long) (interval * factor);
+    }
+
+    @Override
+    public synchronized void dispose() {
+        disposed = true;
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+        services.clear();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.service;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.Service;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Application-level registry that shares one {@link ClickUpTaskService}, with its API client,
+ * connection pool and caches, between all repositories configured with the same API token and workspace.
+ * <p>
+ * Services are reference-counted: every {@link #acquire} has to be matched by a {@link #release},
+ * and a service is disposed when its last repository releases it.
+ */
+@Service(Service.Level.APP)
+public final class ClickUpServiceRegistry implements Disposable {
+    private final Map<Key, Entry> entries = new HashMap<>();
+    private final Consumer<ClickUpTaskService> onCreated;
+    private final Consumer<ClickUpTaskService> onDisposed;
+
+    public ClickUpServiceRegistry() {
+        this(service -> ClickUpRefreshScheduler.getInstance().register(service),
+                service -> ClickUpRefreshScheduler.getInstance().unregister(service));
+    }
+
+    /**
+     * @param onCreated  called when a service is created
+     * @param onDisposed called when a service is disposed
+     */
+    ClickUpServiceRegistry(@NotNull Consumer<ClickUpTaskService> onCreated, @NotNull Consumer<ClickUpTaskService> onDisposed) {
+        this.onCreated = onCreated;
+        this.onDisposed = onDisposed;
+    }
+
+    public static ClickUpServiceRegistry getInstance() {
+        return ApplicationManager.getApplication().getService(ClickUpServiceRegistry.class);
+    }
+
+    /**
+     * Returns the shared service for the token and workspace, creating it if necessary.
+     *
+     * @param factory creates the service if there is none for the token and workspace yet
+     */
+    public @NotNull ClickUpTaskService acquire(
+            @NotNull String apiToken,
+            @Nullable String workspaceId,
+            @NotNull Supplier<ClickUpTaskService> factory
+    ) {
+        ClickUpTaskService created;
+        synchronized (entries) {
+            Entry entry = entries.get(new Key(apiToken, workspaceId));
+            if (entry != null) {
+                entry.references++;
+                return entry.service;
+            }
+            created = factory.get();
+            entries.put(new Key(apiToken, workspaceId), new Entry(created));
+        }
+        onCreated.accept(created);
+        return created;
+    }
+
+    /**
+     * Releases one reference to the service, disposing it when it was the last one.
+     */
+    public void release(@NotNull ClickUpTaskService service) {
+        synchronized (entries) {
+            Entry entry = entries.values().stream()
+                    .filter(candidate -> candidate.service == service)
+                    .findFirst()
+                    .orElse(null);
+            // unknown services have been disposed with the registry already
+            if (entry == null || --entry.references > 0) {
+                return;
+            }
+            entries.values().remove(entry);
+        }
+        disposeService(service);
+    }
+
+    /**
+     * @return the number of repositories sharing the service of the token and workspace
+     */
+    int getReferenceCount(@NotNull String apiToken, @Nullable String workspaceId) {
+        synchronized (entries) {
+            Entry entry = entries.get(new Key(apiToken, workspaceId));
+            return entry != null ? entry.references : 0;
+        }
+    }
+
+    private void disposeService(ClickUpTaskService service) {
+        onDisposed.accept(service);
+        service.dispose();
+    }
+
+    @Override
+    public void dispose() {
+        List<ClickUpTaskService> services;
+        synchronized (entries) {
+            services = new ArrayList<>();
+            entries.values().forEach(entry -> services.add(entry.service));
+            entries.clear();
+        }
+        services.forEach(this::disposeService);
+    }
+
+    private record Key(String apiToken, String workspaceId) {
+        @Override
+        public String toString() {
+            // never log the token
+            return "Key[workspaceId=" + workspaceId + "]";
+        }
+    }
+
+    private static final class Entry {
+        private final ClickUpTaskService service;
+        private int references = 1;
+
+        Entry(ClickUpTaskService service) {
+            this.service = service;
+        }
+    }
+}
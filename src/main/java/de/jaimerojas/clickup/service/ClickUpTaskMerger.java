@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.service;
+
+import de.jaimerojas.clickup.model.ClickUpTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Merges the task lists of several sources into one list, most recently updated first.
+ * <p>
+ * Each source is sorted on its own, then the sources are merged by repeatedly taking the most recent
+ * head, so merging k sources of n tasks costs {@code O(n log k)} after sorting. A task that is
+ * returned by several sources, e.g. because it has two of the selected assignees, is kept once.
+ */
+final class ClickUpTaskMerger {
+    static final Comparator<ClickUpTask> MOST_RECENTLY_UPDATED_FIRST =
+            Comparator.comparingLong(ClickUpTask::getDate_updated).reversed();
+
+    private ClickUpTaskMerger() {
+    }
+
+    static @NotNull List<ClickUpTask> merge(@NotNull List<List<ClickUpTask>> sources) {
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(Math.max(1, sources.size()),
+                (a, b) -> MOST_RECENTLY_UPDATED_FIRST.compare(a.head(), b.head()));
+        int total = 0;
+        for (List<ClickUpTask> source : sources) {
+            if (!source.isEmpty()) {
+                List<ClickUpTask> sorted = new ArrayList<>(source);
+                sorted.sort(MOST_RECENTLY_UPDATED_FIRST);
+                heads.add(new Cursor(sorted));
+                total += sorted.size();
+            }
+        }
+
+        List<ClickUpTask> merged = new ArrayList<>(total);
+        Set<String> seenIds = new HashSet<>();
+        while (!heads.isEmpty()) {
+            Cursor cursor = heads.poll();
+            ClickUpTask task = cursor.head();
+            if (seenIds.add(task.getId())) {
+                merged.add(task);
+            }
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    private static final class Cursor {
+        private final List<ClickUpTask> tasks;
+        private int position;
+
+        Cursor(List<ClickUpTask> tasks) {
+            this.tasks = tasks;
+        }
+
+        ClickUpTask head() {
+            return tasks.get(position);
+        }
+
+        boolean advance() {
+            return ++position < tasks.size();
+        }
+    }
+}
@@ -15,33 +15,293 @@
  */
 package de.jaimerojas.clickup.service;
 
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
 import de.jaimerojas.clickup.api.ClickUpApiClient;
+import de.jaimerojas.clickup.api.ClickUpCancellation;
+import de.jaimerojas.clickup.api.ClickUpNotFoundException;
+import de.jaimerojas.clickup.api.ClickUpTaskFilter;
+import de.jaimerojas.clickup.api.ClickUpUnavailableException;
+import de.jaimerojas.clickup.cache.ClickUpTaskIndex;
+import de.jaimerojas.clickup.cache.ExpiringCache;
 import de.jaimerojas.clickup.model.ClickUpCustomItem;
+import de.jaimerojas.clickup.model.ClickUpFlyweightPool;
+import de.jaimerojas.clickup.model.ClickUpMemberDirectory;
 import de.jaimerojas.clickup.model.ClickUpSpace;
+import de.jaimerojas.clickup.model.ClickUpSpaceIdOnly;
 import de.jaimerojas.clickup.model.ClickUpTask;
+import de.jaimerojas.clickup.model.ClickUpTaskSource;
+import de.jaimerojas.clickup.model.ClickUpTaskState;
 import de.jaimerojas.clickup.model.ClickUpWorkspace;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
 
 /**
  * Service layer for ClickUp task operations.
  * Separates business logic from repository implementation.
+ * <p>
+ * When ClickUp cannot be reached the service goes offline: reads are answered with the last known
+ * data, served as stale, and status changes and time entries are queued. {@link #reconnect()} checks
+ * the connection and sends the queued writes once ClickUp is reachable again.
  */
 public class ClickUpTaskService {
+    private static final Logger LOG = Logger.getInstance(ClickUpTaskService.class);
+
+    private static final int CLICKUP_PAGE_SIZE = 100; // ClickUp API always uses 100
+    private static final long OPEN_TASKS_TTL = TimeUnit.MINUTES.toMillis(1);
+    private static final long CLOSED_TASKS_TTL = TimeUnit.MINUTES.toMillis(15);
+    private static final long SPACES_TTL = TimeUnit.MINUTES.toMillis(10);
+    private static final long CUSTOM_ITEMS_TTL = TimeUnit.MINUTES.toMillis(30);
+    private static final long WORKSPACES_TTL = TimeUnit.MINUTES.toMillis(10);
+    // short, so a task, space or custom item created meanwhile shows up soon
+    private static final long MISSING_TTL = TimeUnit.MINUTES.toMillis(5);
+    private static final String ALL_WORKSPACES = "";
+    // entries nobody asked for within this time are no longer refreshed in the background
+    private static final long IDLE_EVICTION = TimeUnit.MINUTES.toMillis(30);
+    // writes of different tasks sent at the same time, the rest wait for a free slot
+    private static final int MAX_CONCURRENT_WRITES = 4;
+    // tasks fetched at the same time when resolving many of them
+    private static final int MAX_CONCURRENT_LOOKUPS = 8;
+
     private final ClickUpApiClient apiClient;
+    private final Executor backgroundExecutor;
+
+    // open and closed tasks are cached in separate partitions: closed tasks change rarely and are
+    // only requested on demand, so they must neither expire with nor pollute the open task pages
+    private final ExpiringCache<TaskPageKey, List<ClickUpTask>> openTaskPages;
+    // the first tasks of open task pages that were only decoded as far as a caller needed them
+    private final ExpiringCache<TaskPageKey, List<ClickUpTask>> openTaskPageHeads;
+    // pages of the closed task query, which is paged on its own, see getClosedTasks
+    private final ExpiringCache<TaskPageKey, ClosedTaskPage> closedTaskPages;
+    private final ExpiringCache<String, ClickUpTask> closedTasksById;
+    // IDs ClickUp answered as not found
+    private final ExpiringCache<String, Boolean> missingTasks;
+    private final ExpiringCache<String, Boolean> missingSpaces;
+    // by workspace ID and custom item ID
+    private final ExpiringCache<Map.Entry<String, String>, Boolean> missingCustomItems;
+    private final ClickUpTaskIndex taskIndex;
+    private final ExpiringCache<String, ClickUpSpace> spaces;
+    private final ExpiringCache<String, List<ClickUpCustomItem>> customItemsByWorkspace;
+    private final ExpiringCache<String, List<ClickUpWorkspace>> workspaces;
+    // built on first use from the cached workspaces, dropped whenever they are fetched again
+    private final Map<String, ClickUpMemberDirectory> memberDirectories = new ConcurrentHashMap<>();
+    private final Set<Object> revalidating = ConcurrentHashMap.newKeySet();
+    // per source, the query paged through last and the read-ahead of its next page
+    private final Map<ClickUpTaskSource, PagingState> paging = new ConcurrentHashMap<>();
+    private final Map<String, ClickUpFlyweightPool> poolsByWorkspace = new ConcurrentHashMap<>();
+    // newest status change per task
+    private final Map<String, StatusTransition> statusTransitions = new HashMap<>();
+    // status changes and time entries, in order per task
+    private final ClickUpWriteExecutor writes;
+    private final ClickUpOfflineMode offlineMode = new ClickUpOfflineMode();
+    private final List<ConnectivityListener> connectivityListeners = new CopyOnWriteArrayList<>();
 
     public ClickUpTaskService(@NotNull ClickUpApiClient apiClient) {
+        this(apiClient, System::currentTimeMillis);
+    }
+
+    public ClickUpTaskService(@NotNull ClickUpApiClient apiClient, @NotNull LongSupplier clock) {
+        // without a background executor stale entries are revalidated on the calling thread
+        this(apiClient, clock, Runnable::run);
+    }
+
+    /**
+     * @param apiClient          the ClickUp API client
+     * @param clock              source of the current time in epoch milliseconds
+     * @param backgroundExecutor executor used to revalidate stale cache entries and to send writes
+     */
+    public ClickUpTaskService(
+            @NotNull ClickUpApiClient apiClient,
+            @NotNull LongSupplier clock,
+            @NotNull Executor backgroundExecutor
+    ) {
         this.apiClient = apiClient;
+        this.backgroundExecutor = backgroundExecutor;
+        this.writes = new ClickUpWriteExecutor(backgroundExecutor, MAX_CONCURRENT_WRITES);
+        this.openTaskPages = new ExpiringCache<>(OPEN_TASKS_TTL, clock);
+        this.openTaskPageHeads = new ExpiringCache<>(OPEN_TASKS_TTL, clock);
+        this.closedTaskPages = new ExpiringCache<>(CLOSED_TASKS_TTL, clock);
+        this.closedTasksById = new ExpiringCache<>(CLOSED_TASKS_TTL, clock);
+        this.missingTasks = new ExpiringCache<>(MISSING_TTL, clock);
+        this.missingSpaces = new ExpiringCache<>(MISSING_TTL, clock);
+        this.missingCustomItems = new ExpiringCache<>(MISSING_TTL, clock);
+        this.taskIndex = new ClickUpTaskIndex(OPEN_TASKS_TTL, clock);
+        this.spaces = new ExpiringCache<>(SPACES_TTL, clock);
+        this.customItemsByWorkspace = new ExpiringCache<>(CUSTOM_ITEMS_TTL, clock);
+        this.workspaces = new ExpiringCache<>(WORKSPACES_TTL, clock);
     }
 
     /**
-     * Fetches a task by ID.
+     * Fetches a task by ID, which may be an internal or a custom task ID.
+     * Tasks returned by recent task pages are answered from the task index while fresh,
+     * closed tasks are served from the closed task partition. Known custom IDs are
+     * re-fetched by their internal ID. While offline, cached tasks are returned even if stale.
+     * IDs that were not found are not fetched again for a few minutes.
+     *
+     * @return the task, or null if ClickUp does not know it
      */
     public ClickUpTask getTask(@NotNull String taskId, boolean useCustomTaskIds, String workspaceId) throws IOException {
-        return apiClient.fetchTask(taskId, useCustomTaskIds, workspaceId);
+        ClickUpTask indexedTask = taskIndex.getIfFresh(taskId);
+        if (indexedTask != null) {
+            return indexedTask;
+        }
+        if (missingTasks.getIfFresh(taskId) != null) {
+            return null;
+        }
+        if (offlineMode.isOffline()) {
+            return findOfflineTask(taskId, null);
+        }
+
+        String internalId = taskIndex.resolveInternalId(taskId);
+        Loader<ClickUpTask> loader = internalId != null
+                ? () -> apiClient.fetchTask(internalId, false, workspaceId)
+                : () -> apiClient.fetchTask(taskId, useCustomTaskIds, workspaceId);
+
+        String closedTaskKey = internalId != null ? internalId : taskId;
+        ExpiringCache.Entry<ClickUpTask> closedTask = closedTasksById.getEntry(closedTaskKey);
+        if (closedTask != null) {
+            if (!closedTasksById.isFresh(closedTask)) {
+                revalidateInBackground(closedTasksById, closedTaskKey, loader);
+            }
+            return closedTask.getValue();
+        }
+
+        ClickUpTask task;
+        try {
+            task = loader.load();
+        } catch (ClickUpUnavailableException e) {
+            goOffline(e);
+            return findOfflineTask(taskId, e);
+        }
+        if (task == null) {
+            missingTasks.put(taskId, Boolean.TRUE);
+        } else {
+            intern(workspaceId, task);
+            if (task.isClosed()) {
+                taskIndex.remember(task);
+                closedTasksById.put(task.getId(), task);
+            } else {
+                taskIndex.index(task);
+            }
+        }
+        return task;
+    }
+
+    /**
+     * Looks a task up in the caches, without fetching it.
+     *
+     * @param taskId an internal or custom task ID
+     * @return the cached task, fresh or stale, or null if it is not cached
+     */
+    public @Nullable ClickUpTask findCachedTask(@NotNull String taskId) {
+        String internalId = taskIndex.resolveInternalId(taskId);
+        ExpiringCache.Entry<ClickUpTask> closedTask = closedTasksById.getEntry(internalId != null ? internalId : taskId);
+        if (closedTask != null) {
+            return closedTask.getValue();
+        }
+        return taskIndex.getCached(taskId);
+    }
+
+    /**
+     * Resolves many tasks at once, e.g. the local tasks restored when a project is opened.
+     * The IDs are deduplicated, and tasks found in the caches are served from there, fresh or stale.
+     * The others are fetched concurrently, at most {@value #MAX_CONCURRENT_LOOKUPS} at a time, and their
+     * spaces and custom items are resolved once for all of them. Tasks that cannot be fetched are logged
+     * and left out.
+     *
+     * @param taskIds internal or custom task IDs
+     * @return the tasks found, by the requested ID, in the order of the IDs
+     */
+    public @NotNull Map<String, ClickUpTask> resolveTasks(
+            @NotNull Collection<String> taskIds,
+            boolean useCustomTaskIds,
+            String workspaceId
+    ) {
+        Map<String, ClickUpTask> found = new LinkedHashMap<>();
+        List<String> uncached = new ArrayList<>();
+        for (String taskId : new LinkedHashSet<>(taskIds)) {
+            ClickUpTask cached = findCachedTask(taskId);
+            if (cached != null) {
+                found.put(taskId, cached);
+            } else if (missingTasks.getIfFresh(taskId) == null) {
+                found.put(taskId, null);
+                uncached.add(taskId);
+            }
+        }
+
+        // every lane fetches its share of the IDs one after another, so the lanes bound the concurrency
+        int lanes = Math.min(MAX_CONCURRENT_LOOKUPS, uncached.size());
+        List<CompletableFuture<Map<String, ClickUpTask>>> fetches = new ArrayList<>(lanes);
+        for (int lane = 0; lane < lanes; lane++) {
+            List<String> laneIds = new ArrayList<>();
+            for (int i = lane; i < uncached.size(); i += lanes) {
+                laneIds.add(uncached.get(i));
+            }
+            fetches.add(supplyAsync(() -> fetchTasksOneByOne(laneIds, useCustomTaskIds, workspaceId)));
+        }
+        try {
+            for (CompletableFuture<Map<String, ClickUpTask>> fetch : fetches) {
+                found.putAll(ClickUpCancellation.await(fetch));
+            }
+        } catch (ProcessCanceledException e) {
+            fetches.forEach(fetch -> fetch.cancel(true));
+            throw e;
+        }
+        found.values().removeIf(Objects::isNull);
+
+        if (workspaceId != null && !found.isEmpty()) {
+            resolveDependencies(workspaceId, List.copyOf(new LinkedHashSet<>(found.values())));
+        }
+        return found;
+    }
+
+    private Map<String, ClickUpTask> fetchTasksOneByOne(List<String> taskIds, boolean useCustomTaskIds, String workspaceId) {
+        Map<String, ClickUpTask> fetched = new HashMap<>();
+        for (String taskId : taskIds) {
+            ClickUpCancellation.checkCanceled();
+            try {
+                ClickUpTask task = getTask(taskId, useCustomTaskIds, workspaceId);
+                if (task != null) {
+                    fetched.put(taskId, task);
+                }
+            } catch (ClickUpUnavailableException e) {
+                LOG.debug("Failed to fetch task " + taskId + ": " + e.getMessage());
+            } catch (IOException e) {
+                LOG.warn("Failed to fetch task " + taskId + ": " + e.getMessage());
+            }
+        }
+        return fetched;
+    }
+
+    private ClickUpTask findOfflineTask(String taskId, @Nullable ClickUpUnavailableException cause) throws ClickUpUnavailableException {
+        ClickUpTask task = findCachedTask(taskId);
+        if (task == null) {
+            throw cause != null ? cause : new ClickUpUnavailableException("ClickUp is unreachable and task " + taskId + " is not cached");
+        }
+        return task;
     }
 
     /**
@@ -53,38 +313,556 @@ public class ClickUpTaskService {
             int offset,
             boolean useCustomTaskIds
     ) throws IOException {
-        int clickUpLimit = 100; // ClickUp API always uses 100
-        int page = offset / clickUpLimit;
+        int page = offset / CLICKUP_PAGE_SIZE;
         return apiClient.fetchTasks(workspaceId, assigneeId, page, useCustomTaskIds);
     }
 
     /**
-     * Fetches all workspaces.
+     * Fetches open tasks with pagination, letting the API apply the given filter.
+     */
+    public @NotNull List<ClickUpTask> getTasks(
+            @NotNull String workspaceId,
+            String assigneeId,
+            int offset,
+            boolean useCustomTaskIds,
+            @NotNull ClickUpTaskFilter filter
+    ) throws IOException {
+        return getTasks(workspaceId, assigneeId, offset, useCustomTaskIds, filter, false);
+    }
+
+    /**
+     * Fetches tasks with pagination, letting the API apply the given filter.
+     * Open tasks are always returned. Closed tasks are only fetched if requested, either by
+     * {@code withClosed} or by the filter, and are cached separately with a longer time to live. They are
+     * paged with a query of their own, so the closed tasks returned with the nth page are the nth hundred
+     * closed tasks of the query, see {@link #getClosedTasks}.
+     * <p>
+     * When the pages of a query are requested one after another, the next page of open tasks is read
+     * ahead in the background, so that scrolling on is answered from the cache. Requesting another
+     * query of the same source cancels the read-ahead.
+     *
+     * @param workspaceId The workspace ID
+     * @param assigneeId Optional assignee ID to filter by
+     * @param offset The offset of the first task
+     * @param useCustomTaskIds Whether to use custom task IDs
+     * @param filter Criteria evaluated server-side
+     * @param withClosed Whether closed tasks should be included
+     * @return open tasks of the page, followed by closed tasks if requested
+     * @throws IOException if the request fails
+     */
+    public @NotNull List<ClickUpTask> getTasks(
+            @NotNull String workspaceId,
+            String assigneeId,
+            int offset,
+            boolean useCustomTaskIds,
+            @NotNull ClickUpTaskFilter filter,
+            boolean withClosed
+    ) throws IOException {
+        int page = offset / CLICKUP_PAGE_SIZE;
+        TaskPageKey key = new TaskPageKey(workspaceId, assigneeId, page, useCustomTaskIds, filter.withIncludeClosed(false));
+
+        awaitReadAhead(key);
+        List<ClickUpTask> openTasks = getOrLoad(openTaskPages, key, () -> fetchOpenTasks(key));
+        readAheadIfSequential(key, offset % CLICKUP_PAGE_SIZE, openTasks.size() >= CLICKUP_PAGE_SIZE);
+        if (!withClosed && !filter.isIncludeClosed()) {
+            return openTasks;
+        }
+        List<ClickUpTask> closedTasks = getClosedTasks(key);
+
+        List<ClickUpTask> tasks = new ArrayList<>(openTasks.size() + closedTasks.size());
+        tasks.addAll(openTasks);
+        tasks.addAll(closedTasks);
+        return tasks;
+    }
+
+    /**
+     * Fetches the open tasks from the offset on, at most {@code limit} of them, from the page the offset
+     * falls into. A page that is not cached is only decoded up to the last task needed, and that head of
+     * the page is cached; a later request that needs more of the page fetches the whole page.
+     *
+     * @param offset the offset of the first task
+     * @param limit  the maximum number of tasks to return
+     * @return the open tasks from the offset on, at most {@code limit}, never more than the rest of the page
+     * @throws IOException if the request fails
+     */
+    public @NotNull List<ClickUpTask> getOpenTasks(
+            @NotNull String workspaceId,
+            String assigneeId,
+            int offset,
+            int limit,
+            boolean useCustomTaskIds,
+            @NotNull ClickUpTaskFilter filter
+    ) throws IOException {
+        int page = offset / CLICKUP_PAGE_SIZE;
+        int from = offset % CLICKUP_PAGE_SIZE;
+        int needed = (int) Math.min(CLICKUP_PAGE_SIZE, (long) from + limit);
+        TaskPageKey key = new TaskPageKey(workspaceId, assigneeId, page, useCustomTaskIds, filter.withIncludeClosed(false));
+
+        awaitReadAhead(key);
+        List<ClickUpTask> tasks = null;
+        // a head is only cached when it reached its limit, so the rest of the page may hold more tasks
+        boolean mayHaveMore = true;
+        if (openTaskPages.getEntry(key) == null && !offlineMode.isOffline()) {
+            List<ClickUpTask> head = openTaskPageHeads.getIfFresh(key);
+            if (head == null) {
+                tasks = fetchOpenTaskHead(key, needed);
+                mayHaveMore = tasks != null && tasks.size() >= needed;
+            } else if (head.size() >= needed) {
+                tasks = head;
+            }
+            // otherwise the caller scrolls within the page, so the whole page is worth fetching
+        }
+        if (tasks == null) {
+            tasks = getOrLoad(openTaskPages, key, () -> fetchOpenTasks(key));
+            openTaskPageHeads.invalidate(key);
+            mayHaveMore = tasks.size() >= CLICKUP_PAGE_SIZE;
+        }
+        readAheadIfSequential(key, from, mayHaveMore);
+        return from < tasks.size() ? tasks.subList(from, Math.min(tasks.size(), needed)) : List.of();
+    }
+
+    /**
+     * Fetches the first tasks of a page. If the page has no more than that, it is cached as a whole.
+     *
+     * @return the head of the page, or null if ClickUp is unreachable
+     */
+    private @Nullable List<ClickUpTask> fetchOpenTaskHead(TaskPageKey key, int limit) throws IOException {
+        List<ClickUpTask> head;
+        try {
+            head = List.copyOf(apiClient.fetchTasks(key.workspaceId(), key.assigneeId(), key.page(), key.useCustomTaskIds(), key.filter(), limit));
+        } catch (ClickUpUnavailableException e) {
+            goOffline(e);
+            return null;
+        }
+        for (ClickUpTask task : head) {
+            taskIndex.index(intern(key.workspaceId(), task));
+        }
+        if (head.size() < limit) {
+            openTaskPages.put(key, head);
+            offlineMode.remember(Map.entry(openTaskPages, key), head);
+        } else {
+            openTaskPageHeads.put(key, head);
+        }
+        return head;
+    }
+
+    /**
+     * Returns the paging state of the key's source, starting over if the key belongs to another query.
+     * The read-ahead of the previous query is canceled then.
+     */
+    private PagingState pagingState(TaskPageKey key) {
+        TaskPageKey query = key.withPage(0);
+        return paging.compute(key.source(), (source, state) -> {
+            if (state != null && state.query.equals(query)) {
+                return state;
+            }
+            if (state != null) {
+                state.cancelReadAhead();
+            }
+            return new PagingState(query);
+        });
+    }
+
+    /**
+     * Waits for the read-ahead of the page if it is in flight, so the page is not fetched twice.
+     */
+    private void awaitReadAhead(TaskPageKey key) {
+        PagingState state = pagingState(key);
+        CompletableFuture<Void> readAhead;
+        synchronized (state) {
+            readAhead = state.readAheadPage == key.page() ? state.readAhead : null;
+        }
+        if (readAhead == null) {
+            return;
+        }
+        try {
+            ClickUpCancellation.await(readAhead);
+        } catch (CancellationException e) {
+            // canceled by a request for another query meanwhile, the page is fetched in the foreground
+        }
+    }
+
+    /**
+     * Reads the next page ahead if the caller pages on, i.e. the served page directly follows the one
+     * served before or the caller scrolls on within the same page, and the page may be followed by more
+     * tasks.
+     *
+     * @param from        the offset of the first served task within the page
+     * @param mayHaveMore false if the page is known to be the last one
+     */
+    private void readAheadIfSequential(TaskPageKey key, int from, boolean mayHaveMore) {
+        PagingState state = pagingState(key);
+        TaskPageKey next = key.withPage(key.page() + 1);
+        CompletableFuture<Void> readAhead = new CompletableFuture<>();
+        synchronized (state) {
+            boolean sequential = key.page() == state.lastPage + 1 || key.page() == state.lastPage && from > 0;
+            state.lastPage = key.page();
+            if (!sequential || !mayHaveMore || offlineMode.isOffline()
+                    || state.readAheadPage == next.page() || openTaskPages.getIfFresh(next) != null) {
+                return;
+            }
+            state.cancelReadAhead();
+            state.readAheadPage = next.page();
+            state.readAhead = readAhead;
+        }
+        backgroundExecutor.execute(() -> {
+            try {
+                // a read-ahead canceled while in flight still caches its page, it is valid data
+                if (!readAhead.isCancelled()) {
+                    refreshEntry(openTaskPages, next, () -> fetchOpenTasks(next));
+                }
+            } finally {
+                readAhead.complete(null);
+            }
+        });
+    }
+
+    /**
+     * Fetches a page of tasks from each source concurrently and resolves their spaces and custom items.
+     * The pages are merged into one list, most recently updated first, with tasks returned by several
+     * sources kept once. Sources that fail are logged and skipped, unless all of them fail.
+     * <p>
+     * Without a limit, every source is paged on its own: each returns the whole page its offset falls into,
+     * so the merged list holds up to a page per source. Use {@link #getTasks(List, int, int, boolean,
+     * ClickUpTaskFilter, boolean)} to page the merged list.
+     *
+     * @param sources          the workspaces and assignees to fetch from
+     * @param offset           the offset of the first task in each source
+     * @param useCustomTaskIds Whether to use custom task IDs
+     * @param filter           Criteria evaluated server-side
+     * @param withClosed       Whether closed tasks should be included
+     * @return the merged tasks
+     * @throws IOException if no source could be fetched
+     */
+    public @NotNull List<ClickUpTask> getTasks(
+            @NotNull List<ClickUpTaskSource> sources,
+            int offset,
+            boolean useCustomTaskIds,
+            @NotNull ClickUpTaskFilter filter,
+            boolean withClosed
+    ) throws IOException {
+        return getTasks(sources, offset, Integer.MAX_VALUE, useCustomTaskIds, filter, withClosed);
+    }
+
+    /**
+     * Like {@link #getTasks(List, int, boolean, ClickUpTaskFilter, boolean)}, but with a limit.
+     * A single source takes at most {@code limit} tasks from the offset on, see {@link #getOpenTasks}; only
+     * those tasks are decoded and get their spaces and custom items resolved. With closed tasks, or a limit
+     * that covers the whole page, it returns its whole page.
+     * <p>
+     * Several sources are paged as one merged list instead: at most {@code limit} tasks are returned, from
+     * the offset of the merged list on, so that paging on neither skips nor repeats tasks. Each source is
+     * read from its start up to {@code offset + limit} tasks, the most it can contribute to the page; its
+     * earlier pages are cached, so paging on only fetches what is new.
+     *
+     * @param offset the offset of the first task, in the single source or in the merged list
+     * @param limit  the maximum number of tasks to take from a single source, or to return when merged
+     */
+    public @NotNull List<ClickUpTask> getTasks(
+            @NotNull List<ClickUpTaskSource> sources,
+            int offset,
+            int limit,
+            boolean useCustomTaskIds,
+            @NotNull ClickUpTaskFilter filter,
+            boolean withClosed
+    ) throws IOException {
+        if (sources.size() == 1) {
+            boolean slice = limit < CLICKUP_PAGE_SIZE && !withClosed && !filter.isIncludeClosed();
+            return getResolvedTasks(sources.get(0), offset, limit, slice, useCustomTaskIds, filter, withClosed);
+        }
+        if (limit == Integer.MAX_VALUE) {
+            return fetchMerged(sources, source -> () -> getResolvedTasks(source, offset, limit, false, useCustomTaskIds, filter, withClosed));
+        }
+
+        int end = (int) Math.min(Integer.MAX_VALUE, (long) offset + limit);
+        List<ClickUpTask> merged = fetchMerged(sources, source -> () -> getLeadingTasks(source, end, useCustomTaskIds, filter, withClosed));
+        return offset < merged.size() ? List.copyOf(merged.subList(offset, Math.min(merged.size(), end))) : List.of();
+    }
+
+    private List<ClickUpTask> fetchMerged(
+            List<ClickUpTaskSource> sources,
+            Function<ClickUpTaskSource, Loader<List<ClickUpTask>>> loaderOf
+    ) throws IOException {
+        List<CompletableFuture<List<ClickUpTask>>> fetches = new ArrayList<>(sources.size());
+        for (ClickUpTaskSource source : sources) {
+            fetches.add(supplyAsync(loaderOf.apply(source)));
+        }
+        List<List<ClickUpTask>> pages = new ArrayList<>(sources.size());
+        IOException failure = null;
+        try {
+            for (int i = 0; i < fetches.size(); i++) {
+                try {
+                    pages.add(ClickUpCancellation.await(fetches.get(i)));
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof ProcessCanceledException canceled) {
+                        throw canceled;
+                    }
+                    IOException cause = e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+                    if (cause instanceof ClickUpUnavailableException) {
+                        // the outage has been reported once already
+                        LOG.debug("Failed to fetch tasks of " + sources.get(i) + ": " + cause.getMessage());
+                    } else {
+                        LOG.warn("Failed to fetch tasks of " + sources.get(i) + ": " + cause.getMessage());
+                    }
+                    failure = cause;
+                }
+            }
+        } catch (ProcessCanceledException e) {
+            fetches.forEach(fetch -> fetch.cancel(true));
+            throw e;
+        }
+        if (pages.isEmpty() && failure != null) {
+            throw failure;
+        }
+        return ClickUpTaskMerger.merge(pages);
+    }
+
+    private List<ClickUpTask> getResolvedTasks(
+            ClickUpTaskSource source,
+            int offset,
+            int limit,
+            boolean slice,
+            boolean useCustomTaskIds,
+            ClickUpTaskFilter filter,
+            boolean withClosed
+    ) throws IOException {
+        List<ClickUpTask> tasks = slice
+                ? getOpenTasks(source.workspaceId(), source.assigneeId(), offset, limit, useCustomTaskIds, filter)
+                : getTasks(source.workspaceId(), source.assigneeId(), offset, useCustomTaskIds, filter, withClosed);
+        resolveDependencies(source.workspaceId(), tasks);
+        return tasks;
+    }
+
+    /**
+     * Returns the first tasks of the source, up to {@code end} open tasks, followed by the closed tasks of
+     * the pages read if requested.
+     */
+    private List<ClickUpTask> getLeadingTasks(
+            ClickUpTaskSource source,
+            int end,
+            boolean useCustomTaskIds,
+            ClickUpTaskFilter filter,
+            boolean withClosed
+    ) throws IOException {
+        boolean openOnly = !withClosed && !filter.isIncludeClosed();
+        List<ClickUpTask> tasks = new ArrayList<>();
+        for (long offset = 0; offset < end; offset += CLICKUP_PAGE_SIZE) {
+            int needed = (int) Math.min(CLICKUP_PAGE_SIZE, end - offset);
+            List<ClickUpTask> page = openOnly && needed < CLICKUP_PAGE_SIZE
+                    ? getOpenTasks(source.workspaceId(), source.assigneeId(), (int) offset, needed, useCustomTaskIds, filter)
+                    : getTasks(source.workspaceId(), source.assigneeId(), (int) offset, useCustomTaskIds, filter, withClosed);
+            tasks.addAll(page);
+            if (page.stream().filter(task -> !task.isClosed()).count() < needed) {
+                break;
+            }
+        }
+        resolveDependencies(source.workspaceId(), tasks);
+        return tasks;
+    }
+
+    /**
+     * Fetches all workspaces, with their members.
      */
     public @NotNull List<ClickUpWorkspace> getWorkspaces() throws IOException {
-        return apiClient.fetchWorkspaces();
+        return getOrLoad(workspaces, ALL_WORKSPACES, this::fetchWorkspaces);
     }
 
     /**
-     * Fetches space details by ID.
+     * Returns the searchable member directory of the workspace, built once per fetch of the workspaces.
+     *
+     * @return the directory, empty if the workspace is unknown
+     */
+    public @NotNull ClickUpMemberDirectory getMemberDirectory(@NotNull String workspaceId) throws IOException {
+        List<ClickUpWorkspace> all = getWorkspaces();
+        ClickUpMemberDirectory directory = memberDirectories.get(workspaceId);
+        if (directory != null) {
+            return directory;
+        }
+        return all.stream()
+                .filter(workspace -> workspaceId.equals(workspace.getId()))
+                .findFirst()
+                .map(workspace -> memberDirectories.computeIfAbsent(workspaceId, id -> ClickUpMemberDirectory.of(workspace.getMembers())))
+                .orElse(ClickUpMemberDirectory.EMPTY);
+    }
+
+    /**
+     * Fetches space details by ID. Spaces that were not found are not fetched again for a few minutes.
+     *
+     * @throws ClickUpNotFoundException if ClickUp does not know the space
      */
     public @NotNull ClickUpSpace getSpace(@NotNull String spaceId) throws IOException {
-        return apiClient.fetchSpace(spaceId);
+        if (missingSpaces.getIfFresh(spaceId) != null) {
+            throw new ClickUpNotFoundException("Space not found: " + spaceId);
+        }
+        try {
+            return getOrLoad(spaces, spaceId, () -> apiClient.fetchSpace(spaceId));
+        } catch (ClickUpNotFoundException e) {
+            missingSpaces.put(spaceId, Boolean.TRUE);
+            LOG.warn(e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Looks a space up in the cache, without fetching it.
+     *
+     * @return the cached space, fresh or stale, or null if it is not cached
+     */
+    public @Nullable ClickUpSpace findCachedSpace(@NotNull String spaceId) {
+        ExpiringCache.Entry<ClickUpSpace> entry = spaces.getEntry(spaceId);
+        return entry != null ? entry.getValue() : null;
+    }
+
+    /**
+     * Looks up a custom item in the cached custom items of the workspace.
+     * IDs that were not found are not looked up again for a few minutes.
+     *
+     * @return the custom item, or null if the task has no custom item ID
+     * @throws ClickUpNotFoundException if the workspace has no such custom item
+     * @throws IOException if the custom items cannot be fetched
+     */
+    public @Nullable ClickUpCustomItem getCustomItem(@NotNull String workspaceId, @Nullable String customItemId) throws IOException {
+        if (customItemId == null) {
+            return null;
+        }
+        if (ClickUpCustomItem.DEFAULT_TASK_ID.equals(customItemId)) {
+            return ClickUpCustomItem.defaultTaskItem();
+        }
+
+        Map.Entry<String, String> key = Map.entry(workspaceId, customItemId);
+        if (missingCustomItems.getIfFresh(key) != null) {
+            throw new ClickUpNotFoundException("Custom item not found: " + customItemId);
+        }
+        for (ClickUpCustomItem customItem : getCustomItems(workspaceId)) {
+            if (customItemId.equals(customItem.getId())) {
+                return customItem;
+            }
+        }
+        missingCustomItems.put(key, Boolean.TRUE);
+        LOG.warn("Custom item not found: " + customItemId);
+        throw new ClickUpNotFoundException("Custom item not found: " + customItemId);
+    }
+
+    private List<ClickUpCustomItem> getCustomItems(String workspaceId) throws IOException {
+        return getOrLoad(customItemsByWorkspace, workspaceId, () -> List.copyOf(apiClient.fetchCustomItems(workspaceId)));
+    }
+
+    /**
+     * Resolves the spaces and custom items referenced by a page of tasks and attaches the custom items.
+     * Every distinct space and the custom item list of the workspace are fetched at most once, concurrently
+     * on the background executor, so task states, types and icons need no follow-up calls per task.
+     * Entities that cannot be fetched are logged and left unresolved.
+     */
+    public void resolveDependencies(@NotNull String workspaceId, @NotNull List<ClickUpTask> tasks) {
+        Set<String> missingSpaceIds = new HashSet<>();
+        boolean customItemsMissing = false;
+        for (ClickUpTask task : tasks) {
+            ClickUpSpaceIdOnly space = task.getSpace();
+            if (space != null && space.getId() != null && spaces.getEntry(space.getId()) == null) {
+                missingSpaceIds.add(space.getId());
+            }
+            String customItemId = task.getCustom_item_id();
+            if (customItemId != null && !ClickUpCustomItem.DEFAULT_TASK_ID.equals(customItemId)) {
+                customItemsMissing = true;
+            }
+        }
+        customItemsMissing &= customItemsByWorkspace.getEntry(workspaceId) == null;
+
+        List<CompletableFuture<?>> fetches = new ArrayList<>();
+        for (String spaceId : missingSpaceIds) {
+            if (missingSpaces.getIfFresh(spaceId) == null) {
+                fetches.add(loadAsync(() -> getSpace(spaceId), "space " + spaceId));
+            }
+        }
+        if (customItemsMissing) {
+            fetches.add(loadAsync(() -> getCustomItems(workspaceId), "custom items of workspace " + workspaceId));
+        }
+        ClickUpCancellation.await(CompletableFuture.allOf(fetches.toArray(CompletableFuture[]::new)));
+
+        // a failed custom item fetch must not be retried for every task of the page
+        boolean customItemsAvailable = customItemsByWorkspace.getEntry(workspaceId) != null;
+        for (ClickUpTask task : tasks) {
+            ClickUpCancellation.checkCanceled();
+            String customItemId = task.getCustom_item_id();
+            if (!customItemsAvailable && customItemId != null && !ClickUpCustomItem.DEFAULT_TASK_ID.equals(customItemId)) {
+                task.setCustomItem(null);
+                continue;
+            }
+            try {
+                task.setCustomItem(getCustomItem(workspaceId, customItemId));
+            } catch (IOException e) {
+                LOG.debug("Could not resolve custom item of task " + task.getId(), e);
+                task.setCustomItem(null);
+            }
+        }
+    }
+
+    /**
+     * Re-fetches every cached task page, space and custom item list that has been used recently.
+     * Of task pages that only differ in their last update bounds, only the most recently read one is
+     * re-fetched, see {@link #latestOpenTaskPages()}.
+     * While offline, only checks whether ClickUp is reachable again, see {@link #reconnect()}.
+     * Blocks while fetching, so it must be called from a background thread.
+     */
+    public void refresh() {
+        if (offlineMode.isOffline() && !reconnect()) {
+            // nothing is evicted while offline, the cached entries may be all that is left
+            return;
+        }
+        // heads of pages are not refreshed, a request after they expired fetches them again
+        openTaskPageHeads.evictIdle(IDLE_EVICTION);
+        openTaskPages.evictIdle(IDLE_EVICTION);
+        spaces.evictIdle(IDLE_EVICTION);
+        customItemsByWorkspace.evictIdle(IDLE_EVICTION);
+        workspaces.evictIdle(IDLE_EVICTION);
+        taskIndex.evictIdle(IDLE_EVICTION);
+        missingTasks.evictIdle(IDLE_EVICTION);
+        missingSpaces.evictIdle(IDLE_EVICTION);
+        missingCustomItems.evictIdle(IDLE_EVICTION);
+
+        for (TaskPageKey key : latestOpenTaskPages()) {
+            refreshEntry(openTaskPages, key, () -> fetchOpenTasks(key));
+        }
+        for (String spaceId : List.copyOf(spaces.keys())) {
+            refreshEntry(spaces, spaceId, () -> apiClient.fetchSpace(spaceId));
+        }
+        for (String workspaceId : List.copyOf(customItemsByWorkspace.keys())) {
+            refreshEntry(customItemsByWorkspace, workspaceId, () -> List.copyOf(apiClient.fetchCustomItems(workspaceId)));
+        }
+        for (String key : List.copyOf(workspaces.keys())) {
+            refreshEntry(workspaces, key, this::fetchWorkspaces);
+        }
+    }
+
+    /**
+     * Relative bounds such as {@code updated:<7d} move with every minute, so a query that stays open
+     * leaves a page per minute behind. Only the most recently read of them is worth keeping fresh,
+     * the others expire and are fetched again if they are requested.
+     *
+     * @return the most recently read open task page per query and page, ignoring last update bounds
+     */
+    private Collection<TaskPageKey> latestOpenTaskPages() {
+        Map<TaskPageKey, TaskPageKey> latest = new HashMap<>();
+        for (TaskPageKey key : openTaskPages.keys()) {
+            latest.merge(key.withoutUpdatedBounds(), key, (a, b) -> lastReadAt(b) > lastReadAt(a) ? b : a);
+        }
+        return latest.values();
     }
 
-    public @NotNull ClickUpCustomItem getCustomItem(@NotNull String workspaceId, @NotNull String customItemId) throws IOException {
-        return apiClient.fetchCustomItem(customItemId, workspaceId);
+    private long lastReadAt(TaskPageKey key) {
+        ExpiringCache.Entry<List<ClickUpTask>> entry = openTaskPages.peekEntry(key);
+        return entry != null ? entry.getLastAccessedAt() : Long.MIN_VALUE;
     }
 
     /**
-     * Updates time spent on a task.
+     * Updates time spent on a task, waiting until the time entry has been sent.
      * Converts time format (e.g., "3h 15m") to milliseconds.
      *
      * @param taskId The task ID
      * @param timeSpent Time in format "Xh Ym"
      * @param workspaceId The workspace ID
      * @param useCustomTaskIds Whether to use custom task IDs
-     * @throws IOException if the update fails
+     * @throws IOException if the update fails, unless it has been queued because ClickUp is unreachable
      * @throws IllegalArgumentException if timeSpent format is invalid
      */
     public void updateTimeSpent(
@@ -94,19 +872,247 @@ public class ClickUpTaskService {
             boolean useCustomTaskIds
     ) throws IOException {
         long timeSpentMillis = parseTimeSpentToMillis(timeSpent);
-        apiClient.trackTimeSpent(taskId, timeSpentMillis, workspaceId, useCustomTaskIds);
+        try {
+            ClickUpCancellation.await(trackTimeSpent(taskId, timeSpentMillis, workspaceId, useCustomTaskIds));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Adds a time entry to a task. The entry is sent on the background executor, after the status
+     * changes and time entries of the task that were submitted before.
+     *
+     * @return a future that completes once the entry has been sent, or queued because ClickUp is unreachable
+     */
+    public @NotNull CompletableFuture<Void> trackTimeSpent(
+            @NotNull String taskId,
+            long timeSpentMillis,
+            @NotNull String workspaceId,
+            boolean useCustomTaskIds
+    ) {
+        return writes.submit(writeKey(taskId), () -> {
+            sendOrQueue("time entry of task " + taskId, () -> apiClient.trackTimeSpent(taskId, timeSpentMillis, workspaceId, useCustomTaskIds));
+            return null;
+        });
+    }
+
+    /**
+     * @return the number of status changes and time entries of the task that are waiting or being sent
+     */
+    public int getWriteQueueDepth(@NotNull String taskId) {
+        return writes.getQueueDepth(writeKey(taskId));
+    }
+
+    /**
+     * @return the number of status changes and time entries waiting or being sent, per internal task ID
+     */
+    public @NotNull Map<String, Integer> getWriteQueueDepths() {
+        return writes.getQueueDepths();
+    }
+
+    /**
+     * @return the key writes of the task are ordered by, its internal ID if known
+     */
+    private String writeKey(String taskId) {
+        String internalId = taskIndex.resolveInternalId(taskId);
+        return internalId != null ? internalId : taskId;
+    }
+
+    /**
+     * Sends the write, or queues it while offline.
+     *
+     * @throws ClickUpUnavailableException if the write cannot be queued, see {@link ClickUpOfflineMode#enqueueIfOffline}
+     */
+    private void sendOrQueue(String description, ClickUpOfflineMode.Sender sender) throws IOException {
+        ClickUpOfflineMode.PendingWrite write = new ClickUpOfflineMode.PendingWrite(description, sender);
+        // a reconnect may bring the service back online before the write is queued, then it is sent again
+        while (!offlineMode.enqueueIfOffline(write)) {
+            try {
+                sender.send();
+                return;
+            } catch (ClickUpUnavailableException e) {
+                goOffline(e);
+            }
+        }
+        LOG.info("ClickUp is unreachable, queued the " + description);
     }
 
     /**
-     * Updates task status.
+     * Changes the status of a task optimistically: the cached task shows the new status immediately,
+     * and the change is sent to ClickUp on the background executor.
+     * <p>
+     * Changes of the same task are sent one after another, together with its time entries, while changes
+     * of different tasks are sent concurrently. A change that has been superseded before it was sent is
+     * skipped, so the last change wins. If the last change fails, the task is rolled back
+     * to the last status ClickUp confirmed and the returned future completes exceptionally; failures of
+     * superseded changes are ignored. While offline, the change is queued and the future completes once
+     * it has been sent after reconnecting.
+     *
+     * @return a future that completes once ClickUp confirmed the change or a newer change superseded it
      */
-    public void updateTaskStatus(
+    public @NotNull CompletableFuture<Void> updateTaskStatus(
             @NotNull String taskId,
             @NotNull String statusName,
             @NotNull String workspaceId,
             boolean useCustomTaskIds
-    ) throws IOException {
-        apiClient.updateTaskStatus(taskId, statusName, workspaceId, useCustomTaskIds);
+    ) {
+        String key = writeKey(taskId);
+        StatusTransition transition;
+        synchronized (statusTransitions) {
+            ClickUpTask task = findCachedTask(key);
+            StatusTransition previous = statusTransitions.get(key);
+            // the status to roll back to is the last one ClickUp confirmed
+            ClickUpTaskState confirmed = previous != null ? previous.confirmedStatus : task != null ? task.getStatus() : null;
+            transition = new StatusTransition(task, statusName, task != null ? resolveStatus(task, statusName) : null, confirmed);
+            statusTransitions.put(key, transition);
+            if (task != null) {
+                task.setStatus(transition.status);
+            }
+        }
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        writes.submit(key, () -> {
+            sendStatus(key, transition, taskId, workspaceId, useCustomTaskIds, result);
+            return null;
+        });
+        return result;
+    }
+
+    private void sendStatus(
+            String key,
+            StatusTransition transition,
+            String taskId,
+            String workspaceId,
+            boolean useCustomTaskIds,
+            CompletableFuture<Void> result
+    ) {
+        try {
+            sendOrQueue("status change of task " + taskId, () -> deliverStatus(key, transition, taskId, workspaceId, useCustomTaskIds, result));
+        } catch (IOException e) {
+            // deliverStatus only throws when ClickUp is unreachable, this change could not be queued then
+            rollBack(key, transition, taskId, result, e);
+        }
+    }
+
+    /**
+     * Sends the status change unless it has been superseded, rolling it back if ClickUp rejects it.
+     *
+     * @throws ClickUpUnavailableException if ClickUp is unreachable, the change is kept pending then
+     */
+    private void deliverStatus(
+            String key,
+            StatusTransition transition,
+            String taskId,
+            String workspaceId,
+            boolean useCustomTaskIds,
+            CompletableFuture<Void> result
+    ) throws ClickUpUnavailableException {
+        synchronized (statusTransitions) {
+            if (statusTransitions.get(key) != transition) {
+                // superseded before it was sent, only the newest status is sent
+                result.complete(null);
+                return;
+            }
+        }
+        try {
+            apiClient.updateTaskStatus(taskId, transition.statusName, workspaceId, useCustomTaskIds);
+        } catch (ClickUpUnavailableException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            rollBack(key, transition, taskId, result, e);
+            return;
+        }
+
+        synchronized (statusTransitions) {
+            StatusTransition latest = statusTransitions.get(key);
+            if (latest != transition) {
+                // a newer change is pending, a failure of it rolls back to this status
+                latest.confirmedStatus = transition.status;
+                result.complete(null);
+                return;
+            }
+            statusTransitions.remove(key);
+        }
+        invalidatePagesListing(key);
+        closedTasksById.invalidate(key);
+        taskIndex.invalidate(taskId);
+        result.complete(null);
+    }
+
+    /**
+     * Invalidates the open and closed task pages of the queries that list the task. The task may have moved
+     * between the partitions, so both are reloaded for those queries; the pages of other queries are kept.
+     *
+     * @param key the internal ID of the task, or the ID it was requested with if that is not known
+     */
+    private void invalidatePagesListing(String key) {
+        Predicate<ClickUpTask> isTask = task -> key.equals(task.getId()) || key.equals(task.getCustom_id());
+        Set<TaskPageKey> queries = new HashSet<>();
+        for (ExpiringCache<TaskPageKey, List<ClickUpTask>> pages : List.of(openTaskPages, openTaskPageHeads)) {
+            for (TaskPageKey page : pages.keys()) {
+                ExpiringCache.Entry<List<ClickUpTask>> entry = pages.peekEntry(page);
+                if (entry != null && entry.getValue().stream().anyMatch(isTask)) {
+                    queries.add(page.withPage(0));
+                }
+            }
+        }
+        for (TaskPageKey page : closedTaskPages.keys()) {
+            ExpiringCache.Entry<ClosedTaskPage> entry = closedTaskPages.peekEntry(page);
+            if (entry != null && entry.getValue().tasks().stream().anyMatch(isTask)) {
+                queries.add(page.withPage(0));
+            }
+        }
+        invalidateQueries(openTaskPages, queries);
+        invalidateQueries(openTaskPageHeads, queries);
+        invalidateQueries(closedTaskPages, queries);
+    }
+
+    private static <V> void invalidateQueries(ExpiringCache<TaskPageKey, V> pages, Set<TaskPageKey> queries) {
+        for (TaskPageKey page : List.copyOf(pages.keys())) {
+            if (queries.contains(page.withPage(0))) {
+                pages.invalidate(page);
+            }
+        }
+    }
+
+    /**
+     * Rolls the task back to the last status ClickUp confirmed, unless the failed change has been superseded.
+     */
+    private void rollBack(String key, StatusTransition transition, String taskId, CompletableFuture<Void> result, Exception e) {
+        synchronized (statusTransitions) {
+            if (statusTransitions.get(key) != transition) {
+                result.complete(null);
+                return;
+            }
+            statusTransitions.remove(key);
+            if (transition.task != null) {
+                transition.task.setStatus(transition.confirmedStatus);
+            }
+        }
+        LOG.warn("Failed to update status of task " + taskId + ", rolled back: " + e.getMessage());
+        result.completeExceptionally(e);
+    }
+
+    /**
+     * @return the status of the task's space with the given name, so its type is known, or a status with just the name
+     */
+    private ClickUpTaskState resolveStatus(ClickUpTask task, String statusName) {
+        ClickUpSpaceIdOnly space = task.getSpace();
+        ExpiringCache.Entry<ClickUpSpace> cachedSpace = space != null && space.getId() != null ? spaces.getEntry(space.getId()) : null;
+        if (cachedSpace != null && cachedSpace.getValue().getStatuses() != null) {
+            for (ClickUpTaskState state : cachedSpace.getValue().getStatuses()) {
+                if (statusName.equalsIgnoreCase(state.getStatus())) {
+                    return state;
+                }
+            }
+        }
+        ClickUpTaskState state = new ClickUpTaskState();
+        state.setStatus(statusName);
+        return state;
     }
 
     /**
@@ -116,6 +1122,113 @@ public class ClickUpTaskService {
         apiClient.testConnection();
     }
 
+    /**
+     * @return whether ClickUp was unreachable on the last attempt, so the last known data is served
+     */
+    public boolean isOffline() {
+        return offlineMode.isOffline();
+    }
+
+    /**
+     * @return the number of status changes and time entries waiting to be sent
+     */
+    public int getPendingWriteCount() {
+        return offlineMode.getPendingWriteCount();
+    }
+
+    public void addConnectivityListener(@NotNull ConnectivityListener listener) {
+        connectivityListeners.add(listener);
+    }
+
+    /**
+     * Checks whether ClickUp is reachable again after going offline. If it is, the writes queued
+     * meanwhile are sent in the order they were made, and the service is back online. Writes made while
+     * sending are queued behind them, and the service only goes online once the queue is empty.
+     * Blocks while sending, so it must be called from a background thread; concurrent calls wait.
+     *
+     * @return true if the service is online
+     */
+    public synchronized boolean reconnect() {
+        if (!offlineMode.isOffline()) {
+            return true;
+        }
+        try {
+            apiClient.testConnection();
+        } catch (ClickUpUnavailableException e) {
+            LOG.debug("ClickUp is still unreachable: " + e.getMessage());
+            return false;
+        } catch (IOException e) {
+            // ClickUp answered, even if it rejected the request
+            LOG.debug("Connection check failed, but ClickUp is reachable: " + e.getMessage());
+        }
+
+        int sent = 0;
+        // writes made while sending are queued and sent in the next round, until the queue stays empty
+        while (!offlineMode.backOnlineIfDrained()) {
+            if (!offlineMode.isOffline()) {
+                // cleared by dispose, nothing is left to send
+                return true;
+            }
+            List<ClickUpOfflineMode.PendingWrite> writes = offlineMode.drain();
+            for (int i = 0; i < writes.size(); i++) {
+                ClickUpOfflineMode.PendingWrite write = writes.get(i);
+                try {
+                    write.sender().send();
+                    sent++;
+                } catch (ClickUpUnavailableException e) {
+                    offlineMode.requeue(writes.subList(i, writes.size()));
+                    LOG.debug("ClickUp became unreachable again while sending the " + write.description());
+                    return false;
+                } catch (IOException e) {
+                    LOG.warn("Failed to send the " + write.description() + " queued while offline: " + e.getMessage());
+                }
+            }
+        }
+
+        LOG.info("ClickUp is reachable again, sent " + sent + " queued changes");
+        for (ConnectivityListener listener : connectivityListeners) {
+            listener.backOnline(sent);
+        }
+        return true;
+    }
+
+    private void goOffline(ClickUpUnavailableException cause) {
+        if (offlineMode.goOffline()) {
+            LOG.warn("ClickUp is unreachable, serving the last known data: " + cause.getMessage());
+            for (ConnectivityListener listener : connectivityListeners) {
+                listener.wentOffline(cause);
+            }
+        }
+    }
+
+    /**
+     * Aborts the requests in flight and drops all cached data. Called when the last repository using
+     * this service is gone.
+     */
+    public void dispose() {
+        apiClient.abortAll();
+        openTaskPageHeads.clear();
+        int pendingWrites = offlineMode.getPendingWriteCount();
+        if (pendingWrites > 0) {
+            LOG.warn("Dropping " + pendingWrites + " changes queued while ClickUp was unreachable");
+        }
+        offlineMode.clear();
+        paging.values().forEach(PagingState::cancelReadAhead);
+        paging.clear();
+        openTaskPages.clear();
+        closedTaskPages.clear();
+        closedTasksById.clear();
+        missingTasks.clear();
+        missingSpaces.clear();
+        missingCustomItems.clear();
+        taskIndex.clear();
+        spaces.clear();
+        customItemsByWorkspace.clear();
+        workspaces.clear();
+        memberDirectories.clear();
+        poolsByWorkspace.clear();
+    }
+
     /**
      * Parses time spent string (e.g., "3h 15m") to milliseconds.
      * Package-private for testing.
@@ -138,5 +1251,284 @@ public class ClickUpTaskService {
             throw new IllegalArgumentException("Invalid time format: " + timeSpent + ". Expected format: 'Xh Ym'", e);
         }
     }
-}
 
+    private List<ClickUpTask> fetchOpenTasks(TaskPageKey key) throws IOException {
+        List<ClickUpTask> openTasks = List.copyOf(apiClient.fetchTasks(key.workspaceId(), key.assigneeId(), key.page(), key.useCustomTaskIds(), key.filter()));
+        for (ClickUpTask task : openTasks) {
+            taskIndex.index(intern(key.workspaceId(), task));
+        }
+        return openTasks;
+    }
+
+    /**
+     * Returns the closed tasks that go with a page of open tasks. The closed tasks are paged with their own
+     * query, whose pages do not line up with the open ones, so the nth page of open tasks gets the nth
+     * hundred closed tasks, read from the start of the closed task query. Its earlier pages are cached,
+     * so paging on only fetches what is new.
+     *
+     * @param key the page of open tasks
+     */
+    private List<ClickUpTask> getClosedTasks(TaskPageKey key) throws IOException {
+        long from = (long) key.page() * CLICKUP_PAGE_SIZE;
+        long index = 0;
+        List<ClickUpTask> closedTasks = new ArrayList<>();
+        for (int page = 0; closedTasks.size() < CLICKUP_PAGE_SIZE; page++) {
+            TaskPageKey closedKey = key.withPage(page);
+            ClosedTaskPage closedPage = getOrLoad(closedTaskPages, closedKey, () -> fetchClosedTasks(closedKey));
+            for (ClickUpTask task : closedPage.tasks()) {
+                if (index++ >= from && closedTasks.size() < CLICKUP_PAGE_SIZE) {
+                    closedTasks.add(task);
+                }
+            }
+            if (closedPage.last()) {
+                break;
+            }
+        }
+        return closedTasks;
+    }
+
+    private ClosedTaskPage fetchClosedTasks(TaskPageKey key) throws IOException {
+        // done tasks only, so the open tasks are not downloaded again with every page
+        ClickUpTaskFilter closedFilter = key.filter().withDoneOnly();
+        List<ClickUpTask> fetched = apiClient.fetchTasks(key.workspaceId(), key.assigneeId(), key.page(), key.useCustomTaskIds(), closedFilter);
+        // tasks in a done status that does not close them have a done date as well
+        List<ClickUpTask> closedTasks = fetched.stream()
+                .filter(ClickUpTask::isClosed)
+                .toList();
+        for (ClickUpTask task : closedTasks) {
+            intern(key.workspaceId(), task);
+            taskIndex.remember(task);
+            closedTasksById.put(task.getId(), task);
+        }
+        return new ClosedTaskPage(closedTasks, fetched.size() < CLICKUP_PAGE_SIZE);
+    }
+
+    private List<ClickUpWorkspace> fetchWorkspaces() throws IOException {
+        List<ClickUpWorkspace> fetched = apiClient.fetchWorkspaces();
+        memberDirectories.clear();
+        return fetched != null ? List.copyOf(fetched) : List.of();
+    }
+
+    /**
+     * Passes the task through the pool of its workspace, and keeps the workspace on the task, so that
+     * tasks merged in from several workspaces are looked up and updated in the one they came from.
+     */
+    private ClickUpTask intern(String workspaceId, ClickUpTask task) {
+        if (task.getTeam_id() == null) {
+            task.setTeam_id(workspaceId);
+        }
+        return getPool(workspaceId).intern(task);
+    }
+
+    private ClickUpFlyweightPool getPool(String workspaceId) {
+        return poolsByWorkspace.computeIfAbsent(workspaceId != null ? workspaceId : "", id -> new ClickUpFlyweightPool());
+    }
+
+    /**
+     * Stale-while-revalidate lookup: fresh entries are returned as they are, stale entries are
+     * returned immediately and refreshed in the background, missing entries are loaded synchronously.
+     * While offline, missing entries are restored from the last known values instead.
+     */
+    private <K, V> V getOrLoad(ExpiringCache<K, V> cache, K key, Loader<V> loader) throws IOException {
+        ExpiringCache.Entry<V> entry = cache.getEntry(key);
+        if (entry != null) {
+            if (!cache.isFresh(entry)) {
+                revalidateInBackground(cache, key, loader);
+            }
+            return entry.getValue();
+        }
+        if (offlineMode.isOffline()) {
+            return restoreLastKnown(cache, key, null);
+        }
+
+        V value;
+        try {
+            value = loader.load();
+        } catch (ClickUpUnavailableException e) {
+            goOffline(e);
+            return restoreLastKnown(cache, key, e);
+        }
+        cache.put(key, value);
+        offlineMode.remember(Map.entry(cache, key), value);
+        return value;
+    }
+
+    /**
+     * Puts the last known value back into the cache as a stale entry, so it is refreshed once online.
+     */
+    private <K, V> V restoreLastKnown(
+            ExpiringCache<K, V> cache,
+            K key,
+            @Nullable ClickUpUnavailableException cause
+    ) throws ClickUpUnavailableException {
+        V lastKnown = offlineMode.recall(Map.entry(cache, key));
+        if (lastKnown == null) {
+            throw cause != null ? cause : new ClickUpUnavailableException("ClickUp is unreachable and no data is known for " + key);
+        }
+        cache.putStale(key, lastKnown);
+        return lastKnown;
+    }
+
+    private <K, V> void revalidateInBackground(ExpiringCache<K, V> cache, K key, Loader<V> loader) {
+        Object token = Map.entry(cache, key);
+        if (offlineMode.isOffline() || !revalidating.add(token)) {
+            return;
+        }
+        backgroundExecutor.execute(() -> {
+            try {
+                refreshEntry(cache, key, loader);
+            } finally {
+                revalidating.remove(token);
+            }
+        });
+    }
+
+    private <K, V> void refreshEntry(ExpiringCache<K, V> cache, K key, Loader<V> loader) {
+        if (offlineMode.isOffline()) {
+            return;
+        }
+        try {
+            V value = loader.load();
+            if (value != null) {
+                cache.put(key, value);
+                offlineMode.remember(Map.entry(cache, key), value);
+            }
+        } catch (ClickUpUnavailableException e) {
+            goOffline(e);
+        } catch (ClickUpNotFoundException e) {
+            // deleted meanwhile, the next lookup finds out and remembers it as missing
+            cache.invalidate(key);
+            LOG.debug("Cached entry no longer exists: " + key);
+        } catch (IOException e) {
+            // keep serving the stale copy, the next refresh will try again
+            LOG.debug("Failed to refresh cached entry: " + key, e);
+        }
+    }
+
+    private CompletableFuture<Void> loadAsync(Loader<?> loader, String description) {
+        return supplyAsync(loader).handle((value, e) -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof ClickUpUnavailableException || cause instanceof ClickUpNotFoundException) {
+                // outages and missing entities are logged once where they are detected
+                LOG.debug("Failed to fetch " + description + ": " + cause.getMessage());
+            } else if (cause != null && !(cause instanceof CancellationException) && !(cause instanceof ProcessCanceledException)) {
+                LOG.warn("Failed to fetch " + description + ": " + cause.getMessage());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Runs the loader on the background executor, under the progress indicator of the calling thread
+     * so that canceling the caller also cancels the load.
+     */
+    private <V> CompletableFuture<V> supplyAsync(Loader<V> loader) {
+        ProgressIndicator indicator = ClickUpCancellation.currentIndicator();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return ClickUpCancellation.computeUnder(indicator, loader::load);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, backgroundExecutor);
+    }
+
+    @FunctionalInterface
+    private interface Loader<V> {
+        V load() throws IOException;
+    }
+
+    /**
+     * Notified when the service goes offline because ClickUp is unreachable, and when it is back online.
+     * Called on the thread that noticed the change.
+     */
+    public interface ConnectivityListener {
+        void wentOffline(@NotNull IOException cause);
+
+        /**
+         * @param sentChanges the number of queued status changes and time entries that have been sent
+         */
+        void backOnline(int sentChanges);
+    }
+
+    /**
+     * A status change that has not been confirmed by ClickUp yet.
+     */
+    private static final class StatusTransition {
+        private final ClickUpTask task;
+        private final String statusName;
+        private final ClickUpTaskState status;
+        private ClickUpTaskState confirmedStatus;
+
+        StatusTransition(
+                @Nullable ClickUpTask task,
+                @NotNull String statusName,
+                @Nullable ClickUpTaskState status,
+                @Nullable ClickUpTaskState confirmedStatus
+        ) {
+            this.task = task;
+            this.statusName = statusName;
+            this.status = status;
+            this.confirmedStatus = confirmedStatus;
+        }
+    }
+
+    /**
+     * The closed tasks of a page of the closed task query.
+     *
+     * @param last whether the query has no more pages
+     */
+    private record ClosedTaskPage(List<ClickUpTask> tasks, boolean last) {
+    }
+
+    /**
+     * Identifies a cached page of tasks.
+     */
+    private record TaskPageKey(
+            String workspaceId,
+            String assigneeId,
+            int page,
+            boolean useCustomTaskIds,
+            ClickUpTaskFilter filter
+    ) {
+        TaskPageKey withPage(int page) {
+            return new TaskPageKey(workspaceId, assigneeId, page, useCustomTaskIds, filter);
+        }
+
+        TaskPageKey withoutUpdatedBounds() {
+            if (filter.getDateUpdatedGt() == null && filter.getDateUpdatedLt() == null) {
+                return this;
+            }
+            ClickUpTaskFilter unbounded = new ClickUpTaskFilter(
+                    filter.getStatuses(), filter.getListIds(), null, null, filter.isIncludeClosed());
+            return new TaskPageKey(workspaceId, assigneeId, page, useCustomTaskIds, unbounded);
+        }
+
+        ClickUpTaskSource source() {
+            return new ClickUpTaskSource(workspaceId, assigneeId);
+        }
+    }
+
+    /**
+     * The query a source was paged through last, identified by its first page, and the read-ahead of its next page.
+     */
+    private static final class PagingState {
+        private final TaskPageKey query;
+        // so that the first page of a query is not taken for a sequential request
+        private int lastPage = -2;
+        private int readAheadPage = -1;
+        private CompletableFuture<Void> readAhead;
+
+        PagingState(@NotNull TaskPageKey query) {
+            this.query = query;
+        }
+
+        synchronized void cancelReadAhead() {
+            if (readAhead != null) {
+                readAhead.cancel(false);
+                readAhead = null;
+                readAheadPage = -1;
+            }
+        }
+    }
+}
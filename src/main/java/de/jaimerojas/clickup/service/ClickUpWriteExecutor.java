@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.service;
+
+import de.jaimerojas.clickup.api.ClickUpCancellation;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs writes on an executor, striped by key: writes with the same key, e.g. the same task, run one
+ * after another in the order they were submitted, while writes with different keys run concurrently.
+ * <p>
+ * At most {@code maxConcurrentWrites} writes run at the same time. Stripes waiting for a slot are served
+ * in turn, one write each, so a task with many queued writes does not hold back the others.
+ */
+final class ClickUpWriteExecutor {
+    private final Executor executor;
+    private final int maxConcurrentWrites;
+
+    // guarded by this
+    private final Map<String, Deque<Runnable>> stripes = new HashMap<>();
+    private final Deque<String> ready = new ArrayDeque<>();
+    private int running;
+
+    /**
+     * @param executor            executor the writes run on
+     * @param maxConcurrentWrites the number of writes that may run at the same time
+     */
+    ClickUpWriteExecutor(@NotNull Executor executor, int maxConcurrentWrites) {
+        if (maxConcurrentWrites < 1) {
+            throw new IllegalArgumentException("maxConcurrentWrites must be positive: " + maxConcurrentWrites);
+        }
+        this.executor = executor;
+        this.maxConcurrentWrites = maxConcurrentWrites;
+    }
+
+    /**
+     * Queues the write behind the earlier writes with the same key.
+     *
+     * @return a future that completes with the result of the write
+     * @throws java.util.concurrent.RejectedExecutionException if the executor refuses to start it; the write
+     *                                                         stays queued and starts with the next dispatch
+     */
+    <T> @NotNull CompletableFuture<T> submit(@NotNull String key, @NotNull ClickUpCancellation.IOComputable<T> write) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                result.complete(write.compute());
+            } catch (IOException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        };
+        synchronized (this) {
+            Deque<Runnable> queue = stripes.computeIfAbsent(key, k -> new ArrayDeque<>());
+            queue.addLast(task);
+            if (queue.size() == 1) {
+                ready.addLast(key);
+            }
+        }
+        dispatch();
+        return result;
+    }
+
+    /**
+     * @return the number of writes with the key that are queued or running
+     */
+    synchronized int getQueueDepth(@NotNull String key) {
+        Deque<Runnable> queue = stripes.get(key);
+        return queue != null ? queue.size() : 0;
+    }
+
+    /**
+     * @return the number of writes queued or running per key, for keys with any
+     */
+    synchronized @NotNull Map<String, Integer> getQueueDepths() {
+        Map<String, Integer> depths = new HashMap<>();
+        stripes.forEach((key, queue) -> depths.put(key, queue.size()));
+        return depths;
+    }
+
+    /**
+     * Starts the next write of the waiting stripes while there are free slots.
+     */
+    private void dispatch() {
+        List<String> started = new ArrayList<>();
+        synchronized (this) {
+            while (running < maxConcurrentWrites && !ready.isEmpty()) {
+                running++;
+                started.add(ready.pollFirst());
+            }
+        }
+        for (int i = 0; i < started.size(); i++) {
+            String key = started.get(i);
+            try {
+                executor.execute(() -> runNext(key));
+            } catch (RuntimeException e) {
+                // the rejected and the not yet started stripes go back to the front, in their order,
+                // and are started by the next dispatch
+                synchronized (this) {
+                    for (int j = started.size() - 1; j >= i; j--) {
+                        running--;
+                        ready.addFirst(started.get(j));
+                    }
+                }
+                throw e;
+            }
+        }
+    }
+
+    private void runNext(String key) {
+        Runnable task;
+        synchronized (this) {
+            // the write stays queued while it runs, so it counts towards the queue depth
+            task = stripes.get(key).peekFirst();
+        }
+        try {
+            task.run();
+        } finally {
+            synchronized (this) {
+                running--;
+                Deque<Runnable> queue = stripes.get(key);
+                queue.pollFirst();
+                if (queue.isEmpty()) {
+                    stripes.remove(key);
+                } else {
+                    // behind the other waiting stripes, so they get their turn first
+                    ready.addLast(key);
+                }
+            }
+            dispatch();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup;
+
+import com.intellij.tasks.CustomTaskState;
+import com.intellij.tasks.Task;
+import de.jaimerojas.clickup.api.ClickUpEndpoint;
+import de.jaimerojas.clickup.api.CountingClickUpApiClient;
+import de.jaimerojas.clickup.api.FakeClickUpApiClient;
+import de.jaimerojas.clickup.model.ClickUpTask;
+import de.jaimerojas.clickup.service.ClickUpTaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Call budgets of the repository operations the IDE calls most.
+ * <p>
+ * Each test runs an operation against a workspace of 100 tasks and asserts the maximum number of
+ * API calls per endpoint, so that a change introducing an N+1 pattern, like fetching the custom
+ * item of every task on its own, fails here instead of slowing down the task list.
+ */
+@DisplayName("API Call Budget Tests")
+class ClickUpApiCallBudgetTest {
+
+    private static final String WORKSPACE_ID = "workspace1";
+    private static final int TASK_COUNT = 100;
+    private static final int SPACE_COUNT = 4;
+
+    private CountingClickUpApiClient client;
+    private ClickUpRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        client = new CountingClickUpApiClient(new FakeClickUpApiClient().withWorkspace(WORKSPACE_ID, TASK_COUNT, 1, SPACE_COUNT));
+        repository = new ClickUpRepository(new ClickUpRepositoryType());
+        repository.setTaskService(new ClickUpTaskService(client));
+        repository.setSelectedWorkspaceId(WORKSPACE_ID);
+        repository.setPassword("test-api-token");
+    }
+
+    /**
+     * Asserts that the operation made at most the budgeted number of calls to each endpoint.
+     * Endpoints without a budget must not have been called at all.
+     */
+    private void assertWithinBudget(String operation, Map<ClickUpEndpoint, Integer> budget) {
+        Map<ClickUpEndpoint, Integer> calls = client.snapshot();
+        for (Map.Entry<ClickUpEndpoint, Integer> call : calls.entrySet()) {
+            int maxCalls = budget.getOrDefault(call.getKey(), 0);
+            assertTrue(call.getValue() <= maxCalls, () -> operation + " called " + call.getKey() + " "
+                    + call.getValue() + " times, the budget is " + maxCalls + " (all calls: " + calls + ")");
+        }
+    }
+
+    private Task[] loadTaskList() {
+        Task[] tasks = repository.getIssues(null, 0, TASK_COUNT, false);
+        client.reset();
+        return tasks;
+    }
+
+    @Nested
+    @DisplayName("Task List")
+    class TaskList {
+
+        @Test
+        @DisplayName("Should load a page of 100 tasks with one call per distinct entity")
+        void getIssues_shouldStayWithinBudget() {
+            // Act
+            Task[] tasks = repository.getIssues(null, 0, TASK_COUNT, false);
+
+            // Assert
+            assertEquals(TASK_COUNT, tasks.length);
+            assertWithinBudget("getIssues", Map.of(
+                    ClickUpEndpoint.FETCH_TASKS, 1,
+                    ClickUpEndpoint.FETCH_SPACE, SPACE_COUNT,
+                    ClickUpEndpoint.FETCH_CUSTOM_ITEMS, 1));
+        }
+
+        @Test
+        @DisplayName("Should fetch closed tasks with one extra call")
+        void getIssues_withClosedTasks_shouldStayWithinBudget() {
+            // Act
+            repository.getIssues(null, 0, TASK_COUNT, true);
+
+            // Assert
+            assertWithinBudget("getIssues with closed tasks", Map.of(
+                    ClickUpEndpoint.FETCH_TASKS, 2,
+                    ClickUpEndpoint.FETCH_SPACE, SPACE_COUNT,
+                    ClickUpEndpoint.FETCH_CUSTOM_ITEMS, 1));
+        }
+
+        @Test
+        @DisplayName("Should answer a repeated request from the cache")
+        void getIssues_repeated_shouldMakeNoCalls() {
+            // Arrange
+            loadTaskList();
+
+            // Act
+            repository.getIssues(null, 0, TASK_COUNT, false);
+
+            // Assert
+            assertWithinBudget("repeated getIssues", Map.of());
+        }
+    }
+
+    @Nested
+    @DisplayName("Single Task")
+    class SingleTask {
+
+        @Test
+        @DisplayName("Should find a listed task without calls")
+        void findTask_listedTask_shouldMakeNoCalls() {
+            // Arrange
+            loadTaskList();
+
+            // Act
+            Task task = repository.findTask(FakeClickUpApiClient.taskId(WORKSPACE_ID, 42));
+
+            // Assert
+            assertNotNull(task);
+            assertWithinBudget("findTask of a listed task", Map.of());
+        }
+
+        @Test
+        @DisplayName("Should fetch an unknown task and the custom items once")
+        void findTask_unknownTask_shouldStayWithinBudget() {
+            // Act
+            repository.findTask(FakeClickUpApiClient.taskId(WORKSPACE_ID, 43));
+            repository.findTask(FakeClickUpApiClient.taskId(WORKSPACE_ID, 43));
+
+            // Assert
+            assertWithinBudget("findTask", Map.of(
+                    ClickUpEndpoint.FETCH_TASK, 1,
+                    ClickUpEndpoint.FETCH_CUSTOM_ITEMS, 1));
+        }
+
+        @Test
+        @DisplayName("Should list the states of a listed task without calls")
+        void getAvailableTaskStates_listedTask_shouldMakeNoCalls() throws Exception {
+            // Arrange
+            Task[] tasks = loadTaskList();
+
+            // Act
+            repository.getAvailableTaskStates(tasks[0]);
+
+            // Assert
+            assertWithinBudget("getAvailableTaskStates of a listed task", Map.of());
+        }
+
+        @Test
+        @DisplayName("Should fetch the task and its space once for the states of an unknown task")
+        void getAvailableTaskStates_unknownTask_shouldStayWithinBudget() throws Exception {
+            // Arrange
+            ClickUpTask task = new ClickUpTask();
+            task.setId(FakeClickUpApiClient.taskId(WORKSPACE_ID, 7));
+
+            // Act
+            repository.getAvailableTaskStates(task);
+            repository.getAvailableTaskStates(task);
+
+            // Assert
+            assertWithinBudget("getAvailableTaskStates", Map.of(
+                    ClickUpEndpoint.FETCH_TASK, 1,
+                    ClickUpEndpoint.FETCH_SPACE, 1));
+        }
+
+        @Test
+        @DisplayName("Should send a status change with a single call")
+        void setTaskState_shouldStayWithinBudget() {
+            // Arrange
+            Task[] tasks = loadTaskList();
+
+            // Act
+            repository.setTaskState(tasks[0], new CustomTaskState("s2", "in progress"));
+
+            // Assert
+            assertWithinBudget("setTaskState", Map.of(ClickUpEndpoint.UPDATE_TASK_STATUS, 1));
+        }
+
+        @Test
+        @DisplayName("Should only reload the task pages after a status change")
+        void getIssues_afterStatusChange_shouldStayWithinBudget() {
+            // Arrange
+            Task[] tasks = loadTaskList();
+            repository.setTaskState(tasks[0], new CustomTaskState("s2", "in progress"));
+            client.reset();
+
+            // Act
+            repository.getIssues(null, 0, TASK_COUNT, false);
+
+            // Assert
+            assertWithinBudget("getIssues after a status change", Map.of(ClickUpEndpoint.FETCH_TASKS, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Local Tasks")
+    class LocalTasks {
+
+        @Test
+        @DisplayName("Should resolve the local tasks of a project with one call per distinct task and entity")
+        void findTasks_shouldStayWithinBudget() {
+            // Arrange: ten tasks, one of them twice, and one ClickUp does not know
+            List<String> taskIds = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                taskIds.add(FakeClickUpApiClient.taskId(WORKSPACE_ID, i));
+            }
+            taskIds.add(FakeClickUpApiClient.taskId(WORKSPACE_ID, 3));
+            taskIds.add("deleted");
+
+            // Act
+            Map<String, ClickUpTask> tasks = repository.findTasks(taskIds);
+
+            // Assert
+            assertEquals(10, tasks.size());
+            assertWithinBudget("findTasks", Map.of(
+                    ClickUpEndpoint.FETCH_TASK, 11,
+                    ClickUpEndpoint.FETCH_SPACE, SPACE_COUNT,
+                    ClickUpEndpoint.FETCH_CUSTOM_ITEMS, 1));
+        }
+
+        @Test
+        @DisplayName("Should answer repeated lookups, including the missing task, from memory")
+        void findTasks_repeated_shouldMakeNoCalls() {
+            // Arrange
+            List<String> taskIds = List.of(FakeClickUpApiClient.taskId(WORKSPACE_ID, 1), "deleted");
+            repository.findTasks(taskIds);
+            client.reset();
+
+            // Act
+            repository.findTasks(taskIds);
+            Task deleted = repository.findTask("deleted");
+            Task task = repository.findTask(FakeClickUpApiClient.taskId(WORKSPACE_ID, 1));
+
+            // Assert
+            assertNull(deleted);
+            assertNotNull(task);
+            assertWithinBudget("repeated findTasks", Map.of());
+        }
+    }
+
+    @Nested
+    @DisplayName("Settings Editor")
+    class SettingsEditor {
+
+        @Test
+        @DisplayName("Should load workspaces and members with one call")
+        void editorLoad_shouldStayWithinBudget() throws IOException {
+            // Act: what the editor loads when it is opened and when it is opened again
+            ClickUpTaskService taskService = repository.getTaskService();
+            for (int i = 0; i < 2; i++) {
+                taskService.getWorkspaces();
+                taskService.getMemberDirectory(WORKSPACE_ID);
+            }
+
+            // Assert
+            assertWithinBudget("editor load", Map.of(ClickUpEndpoint.FETCH_WORKSPACES, 1));
+        }
+    }
+}
@@ -18,6 +18,8 @@ package de.jaimerojas.clickup;
 import com.intellij.tasks.CustomTaskState;
 import com.intellij.tasks.LocalTask;
 import com.intellij.tasks.Task;
+import de.jaimerojas.clickup.api.ClickUpNotFoundException;
+import de.jaimerojas.clickup.api.ClickUpTaskFilter;
 import de.jaimerojas.clickup.model.*;
 import de.jaimerojas.clickup.service.ClickUpTaskService;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,23 +30,33 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.awt.EventQueue;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for {@link ClickUpRepository}.
  * <p>
  * Note: Some tests are intentionally omitted as they require IntelliJ Application context:
- * - getIssues() tests - require EmptyProgressIndicator initialization
  * - clone() and equals() tests - require PasswordSafe service
  * <p>
  * For full integration testing, use IntelliJ's LightPlatformTestCase.
@@ -117,6 +129,106 @@ class ClickUpRepositoryTest {
             // Assert
             assertNull(result, "Should return null for non-existent task");
         }
+
+        @Test
+        @DisplayName("Should not look tasks up without an API token")
+        void findTask_withoutToken_shouldReturnNull() {
+            // Arrange
+            repository.setPassword("");
+
+            // Act
+            Task result = repository.findTask(TEST_TASK_ID);
+
+            // Assert
+            assertNull(result);
+            verifyNoInteractions(taskService);
+        }
+
+        @Test
+        @DisplayName("Should stop reading pages once enough tasks match the local terms")
+        void getIssues_withLocalTerms_shouldStopAtLimit() throws IOException {
+            // Arrange
+            when(taskService.getTasks(anyList(), eq(0), eq(100), eq(false), any(ClickUpTaskFilter.class), eq(false)))
+                    .thenReturn(tasksMatchingEveryTenth(0, 100));
+
+            // Act
+            Task[] tasks = repository.getIssues("match", 2, 3, false);
+
+            // Assert
+            assertEquals(List.of("match 20", "match 30", "match 40"), Arrays.stream(tasks).map(Task::getSummary).toList());
+            verify(taskService, times(1)).getTasks(anyList(), anyInt(), anyInt(), anyBoolean(), any(ClickUpTaskFilter.class), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("Should apply the offset to the tasks matching the local terms")
+        void getIssues_withLocalTerms_shouldApplyOffsetToMatches() throws IOException {
+            // Arrange
+            when(taskService.getTasks(anyList(), eq(0), eq(100), eq(false), any(ClickUpTaskFilter.class), eq(false)))
+                    .thenReturn(tasksMatchingEveryTenth(0, 100));
+            when(taskService.getTasks(anyList(), eq(100), eq(100), eq(false), any(ClickUpTaskFilter.class), eq(false)))
+                    .thenReturn(tasksMatchingEveryTenth(100, 50));
+
+            // Act
+            Task[] tasks = repository.getIssues("match", 8, 20, false);
+
+            // Assert
+            assertEquals(List.of("match 80", "match 90", "match 100", "match 110", "match 120", "match 130", "match 140"),
+                    Arrays.stream(tasks).map(Task::getSummary).toList());
+            verify(taskService, never()).getTasks(anyList(), eq(200), anyInt(), anyBoolean(), any(ClickUpTaskFilter.class), anyBoolean());
+        }
+
+        private List<ClickUpTask> tasksMatchingEveryTenth(int from, int count) {
+            List<ClickUpTask> tasks = new ArrayList<>();
+            for (int i = from; i < from + count; i++) {
+                ClickUpTask task = new ClickUpTask();
+                task.setId("t" + i);
+                task.setName((i % 10 == 0 ? "match " : "other ") + i);
+                tasks.add(task);
+            }
+            return tasks;
+        }
+
+        @Test
+        @DisplayName("Should answer from the cache without fetching on the event dispatch thread")
+        void findTask_onDispatchThread_shouldNotFetch() throws Exception {
+            // Arrange
+            ClickUpTask cachedTask = new ClickUpTask();
+            cachedTask.setId(TEST_TASK_ID);
+            when(taskService.findCachedTask(TEST_TASK_ID)).thenReturn(cachedTask);
+            AtomicReference<Task> result = new AtomicReference<>();
+
+            // Act
+            EventQueue.invokeAndWait(() -> result.set(repository.findTask(TEST_TASK_ID)));
+
+            // Assert
+            assertEquals(TEST_TASK_ID, result.get().getId());
+            assertSame(repository, result.get().getRepository());
+            assertNull(cachedTask.getRepository(), "The cached task is shared and must stay unbound");
+            verify(taskService, never()).getTask(anyString(), anyBoolean(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should present a shared task with the settings of the repository it was found with")
+        void findCachedTask_sharedTask_shouldUseOwnSettings() {
+            // Arrange
+            ClickUpTask sharedTask = new ClickUpTask();
+            sharedTask.setId(TEST_TASK_ID);
+            sharedTask.setCustom_id("CU-1");
+            when(taskService.findCachedTask(TEST_TASK_ID)).thenReturn(sharedTask);
+            ClickUpRepository customIdRepository = new ClickUpRepository(new ClickUpRepositoryType());
+            customIdRepository.setTaskService(taskService);
+            customIdRepository.setUseCustomTaskIds(true);
+
+            // Act
+            ClickUpTask withCustomIds = customIdRepository.findCachedTask(TEST_TASK_ID);
+            ClickUpTask withoutCustomIds = repository.findCachedTask(TEST_TASK_ID);
+
+            // Assert
+            assertEquals("CU-1", withCustomIds.getPresentableId());
+            assertEquals(TEST_TASK_ID, withoutCustomIds.getPresentableId());
+            assertSame(customIdRepository, withCustomIds.getRepository());
+            assertSame(repository, withoutCustomIds.getRepository());
+        }
     }
 
     @Nested
@@ -149,6 +261,23 @@ class ClickUpRepositoryTest {
             // Assert
             verify(taskService).updateTimeSpent(TEST_TASK_ID, "1h 0m", TEST_WORKSPACE_ID, true);
         }
+
+        @Test
+        @DisplayName("Should track time in the workspace a merged task was fetched from")
+        void updateTimeSpent_taskOfOtherWorkspace_shouldUseItsWorkspace() throws Exception {
+            // Arrange
+            ClickUpTask cached = new ClickUpTask();
+            cached.setId(TEST_TASK_ID);
+            cached.setTeam_id("other-workspace");
+            when(localTask.getId()).thenReturn(TEST_TASK_ID);
+            when(taskService.findCachedTask(TEST_TASK_ID)).thenReturn(cached);
+
+            // Act
+            repository.updateTimeSpent(localTask, "1h 0m", "Other workspace");
+
+            // Assert
+            verify(taskService).updateTimeSpent(TEST_TASK_ID, "1h 0m", "other-workspace", false);
+        }
     }
 
     @Nested
@@ -164,6 +293,8 @@ class ClickUpRepositoryTest {
             task.setName("Test Task");
 
             CustomTaskState state = new CustomTaskState("state1", "In Progress");
+            when(taskService.updateTaskStatus(TEST_TASK_ID, "In Progress", TEST_WORKSPACE_ID, false))
+                    .thenReturn(CompletableFuture.completedFuture(null));
 
             // Act
             repository.setTaskState(task, state);
@@ -172,6 +303,25 @@ class ClickUpRepositoryTest {
             verify(taskService).updateTaskStatus(TEST_TASK_ID, "In Progress", TEST_WORKSPACE_ID, false);
         }
 
+        @Test
+        @DisplayName("Should update the state in the workspace a merged task was fetched from")
+        void setTaskState_taskOfOtherWorkspace_shouldUseItsWorkspace() {
+            // Arrange
+            ClickUpTask task = new ClickUpTask();
+            task.setId(TEST_TASK_ID);
+            task.setTeam_id("other-workspace");
+
+            CustomTaskState state = new CustomTaskState("state1", "In Progress");
+            when(taskService.updateTaskStatus(TEST_TASK_ID, "In Progress", "other-workspace", false))
+                    .thenReturn(CompletableFuture.completedFuture(null));
+
+            // Act
+            repository.setTaskState(task, state);
+
+            // Assert
+            verify(taskService).updateTaskStatus(TEST_TASK_ID, "In Progress", "other-workspace", false);
+        }
+
         @Test
         @DisplayName("Should fetch available states from space")
         void getAvailableTaskStates_shouldReturnAllSpaceStatuses() throws Exception {
@@ -215,6 +365,22 @@ class ClickUpRepositoryTest {
             assertTrue(result.isEmpty(), "Should return empty set when space has no statuses");
         }
 
+        @Test
+        @DisplayName("Should fail cleanly when the task does not exist")
+        void getAvailableTaskStates_shouldFailWhenTaskNotFound() throws IOException {
+            // Arrange
+            ClickUpTask task = createTaskWithSpace();
+            when(taskService.getTask(TEST_TASK_ID, false, TEST_WORKSPACE_ID))
+                    .thenReturn(null);
+
+            // Act
+            Exception exception = assertThrows(Exception.class, () -> repository.getAvailableTaskStates(task));
+
+            // Assert
+            assertEquals("Failed to fetch task states: Task not found: " + TEST_TASK_ID, exception.getMessage());
+            assertInstanceOf(ClickUpNotFoundException.class, exception.getCause());
+        }
+
         private ClickUpTask createTaskWithSpace() {
             ClickUpTask task = new ClickUpTask();
             task.setId(TEST_TASK_ID);
@@ -306,6 +472,19 @@ class ClickUpRepositoryTest {
                     "Should support TIME_MANAGEMENT feature");
         }
 
+        @Test
+        @DisplayName("Should keep the current task type mapping when an invalid one is set")
+        void setTaskTypeMapping_invalid_shouldKeepCurrentMapping() {
+            // Arrange
+            repository.setTaskTypeMapping("BUG=defect");
+
+            // Act
+            repository.setTaskTypeMapping("UNKNOWN=defect");
+
+            // Assert
+            assertEquals("BUG=defect", repository.getTaskTypeMapping());
+        }
+
         @Test
         @DisplayName("Should create cancellable connection")
         void createCancellableConnection_shouldReturnValidConnection() {
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup;
+
+import de.jaimerojas.clickup.model.ClickUpWorkspace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ClickUpWorkspaceModel}.
+ * <p>
+ * The combo box listener mirrors the settings editor, which applies the selected workspace
+ * on every selection event once the workspaces are loaded.
+ */
+@DisplayName("ClickUpWorkspaceModel Tests")
+class ClickUpWorkspaceModelTest {
+
+    private static final List<ClickUpWorkspace> WORKSPACES = List.of(
+            new ClickUpWorkspace("1", "Alpha"),
+            new ClickUpWorkspace("2", "Beta"),
+            new ClickUpWorkspace("3", "Gamma"));
+
+    private ClickUpRepository repository;
+    private ClickUpWorkspaceModel model;
+    private JComboBox<ClickUpWorkspace> dropdown;
+    private List<String> appliedIds;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ClickUpRepository(new ClickUpRepositoryType());
+        repository.setSelectedWorkspaceId("2");
+        model = new ClickUpWorkspaceModel(placeholder("<Workspace>"));
+        dropdown = new JComboBox<>(model);
+        appliedIds = new ArrayList<>();
+        dropdown.addActionListener(e -> {
+            if (model.isLoaded()) {
+                ClickUpWorkspace workspace = (ClickUpWorkspace) dropdown.getSelectedItem();
+                appliedIds.add(workspace.getId());
+                repository.setSelectedWorkspaceId(workspace.getId());
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Should keep the saved workspace when the editor reopens")
+    void setWorkspaces_shouldKeepSavedWorkspace() {
+        // Arrange
+        model.showPlaceholder(placeholder("Loading..."));
+
+        // Act
+        model.setWorkspaces(placeholder("<Workspace>"), WORKSPACES, repository.getSelectedWorkspaceId());
+
+        // Assert
+        assertEquals("2", repository.getSelectedWorkspaceId());
+        assertEquals(List.of("2"), appliedIds);
+        assertEquals("2", ((ClickUpWorkspace) dropdown.getSelectedItem()).getId());
+        assertEquals(4, dropdown.getItemCount());
+    }
+
+    @Test
+    @DisplayName("Should not apply the placeholder while the workspaces are loading")
+    void showPlaceholder_shouldNotBeApplied() {
+        // Arrange
+        model.setWorkspaces(placeholder("<Workspace>"), WORKSPACES, "2");
+        appliedIds.clear();
+
+        // Act
+        model.showPlaceholder(placeholder("Loading..."));
+
+        // Assert
+        assertFalse(model.isLoaded());
+        assertTrue(appliedIds.isEmpty());
+        assertEquals("2", repository.getSelectedWorkspaceId());
+        assertEquals(1, dropdown.getItemCount());
+    }
+
+    @Test
+    @DisplayName("Should select the placeholder when the saved workspace is not available")
+    void setWorkspaces_unknownWorkspace_shouldSelectPlaceholder() {
+        // Act
+        model.setWorkspaces(placeholder("<Workspace>"), WORKSPACES, "9");
+
+        // Assert
+        assertTrue(model.isLoaded());
+        assertEquals("-1", ((ClickUpWorkspace) dropdown.getSelectedItem()).getId());
+    }
+
+    @Test
+    @DisplayName("Should apply a workspace chosen by the user")
+    void setSelectedItem_shouldBeApplied() {
+        // Arrange
+        model.setWorkspaces(placeholder("<Workspace>"), WORKSPACES, "2");
+
+        // Act
+        dropdown.setSelectedItem(WORKSPACES.get(2));
+
+        // Assert
+        assertEquals("3", repository.getSelectedWorkspaceId());
+    }
+
+    private static ClickUpWorkspace placeholder(String text) {
+        return new ClickUpWorkspace("-1", text);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ClickUpCancellation}.
+ */
+@DisplayName("ClickUpCancellation Tests")
+class ClickUpCancellationTest {
+
+    @Test
+    @DisplayName("Should run computations directly without progress indicator")
+    void computeUnder_shouldRunWithoutIndicator() throws IOException {
+        assertEquals("result", ClickUpCancellation.computeUnder(null, () -> "result"));
+
+        IOException failure = new IOException("Network error");
+        assertSame(failure, assertThrows(IOException.class, () -> ClickUpCancellation.computeUnder(null, () -> {
+            throw failure;
+        })));
+    }
+
+    @Test
+    @DisplayName("Should wait for futures that complete later")
+    void await_shouldReturnResultOfFuture() {
+        // Arrange
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture.runAsync(() -> future.complete("done"), CompletableFuture.delayedExecutor(150, TimeUnit.MILLISECONDS));
+
+        // Act & Assert
+        assertEquals("done", ClickUpCancellation.await(future));
+    }
+
+    @Test
+    @DisplayName("Should rethrow the failure of a future")
+    void await_shouldRethrowFailure() {
+        // Arrange
+        IOException failure = new IOException("Network error");
+        CompletableFuture<String> future = CompletableFuture.failedFuture(failure);
+
+        // Act
+        CompletionException exception = assertThrows(CompletionException.class, () -> ClickUpCancellation.await(future));
+
+        // Assert
+        assertSame(failure, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("Should return the result of computations that finish in time")
+    void computeWithin_shouldReturnResultInTime() throws IOException {
+        assertEquals("result", ClickUpCancellation.computeWithin(1_000, () -> "result"));
+        assertNull(ClickUpCancellation.currentDeadline(), "The deadline should not outlive the computation");
+    }
+
+    @Test
+    @DisplayName("Should stop waiting once the deadline has passed")
+    void computeWithin_shouldStopWaitingAtDeadline() {
+        // Arrange
+        CompletableFuture<String> never = new CompletableFuture<>();
+        long start = System.nanoTime();
+
+        // Act
+        assertThrows(ClickUpTimeoutException.class,
+                () -> ClickUpCancellation.computeWithin(200, () -> ClickUpCancellation.await(never)));
+
+        // Assert
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMillis < 1_000, "Waited " + elapsedMillis + " ms");
+        assertTrue(never.isCancelled());
+        assertNull(ClickUpCancellation.currentDeadline());
+    }
+
+    @Test
+    @DisplayName("Should keep an earlier deadline of an enclosing computation")
+    void computeWithin_nested_shouldKeepEarlierDeadline() throws IOException {
+        ClickUpCancellation.computeWithin(200, () -> {
+            Long outer = ClickUpCancellation.currentDeadline();
+            ClickUpCancellation.computeWithin(10_000, () -> {
+                assertEquals(outer, ClickUpCancellation.currentDeadline());
+                return null;
+            });
+            assertEquals(outer, ClickUpCancellation.currentDeadline());
+            return null;
+        });
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.EventQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ClickUpEdtGuard}.
+ */
+@DisplayName("ClickUpEdtGuard Tests")
+class ClickUpEdtGuardTest {
+
+    @Test
+    @DisplayName("Should let requests pass on background threads")
+    void checkRequest_backgroundThread_shouldPass() {
+        assertFalse(ClickUpEdtGuard.isDispatchThread());
+        assertDoesNotThrow(() -> ClickUpEdtGuard.checkRequest("GET /task/1"));
+    }
+
+    @Test
+    @DisplayName("Should fail requests on the event dispatch thread in tests")
+    void checkRequest_dispatchThread_shouldFail() throws Exception {
+        // Arrange
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        // Act
+        EventQueue.invokeAndWait(() -> {
+            try {
+                ClickUpEdtGuard.checkRequest("GET /task/1");
+            } catch (IllegalStateException e) {
+                failure.set(e);
+            }
+        });
+
+        // Assert
+        assertInstanceOf(IllegalStateException.class, failure.get());
+        assertTrue(failure.get().getMessage().contains("GET /task/1"));
+    }
+}
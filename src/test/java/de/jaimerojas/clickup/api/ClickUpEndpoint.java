@@ -0,0 +1,31 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.api;
+
+/**
+ * The API endpoints, one per method of {@link ClickUpApiClient} that sends a request.
+ */
+public enum ClickUpEndpoint {
+    FETCH_TASK,
+    FETCH_TASKS,
+    FETCH_WORKSPACES,
+    FETCH_SPACE,
+    FETCH_CUSTOM_ITEMS,
+    FETCH_CUSTOM_ITEM,
+    TRACK_TIME_SPENT,
+    UPDATE_TASK_STATUS,
+    TEST_CONNECTION
+}
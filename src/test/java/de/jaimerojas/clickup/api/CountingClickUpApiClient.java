@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.api;
+
+import de.jaimerojas.clickup.model.ClickUpCustomItem;
+import de.jaimerojas.clickup.model.ClickUpSpace;
+import de.jaimerojas.clickup.model.ClickUpTask;
+import de.jaimerojas.clickup.model.ClickUpWorkspace;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test decorator that counts the calls made to each endpoint of the wrapped client.
+ * Counting happens before delegating, so calls that fail are counted as well.
+ */
+public class CountingClickUpApiClient implements ClickUpApiClient {
+
+    private final ClickUpApiClient delegate;
+    // filled once, so the map itself is only read concurrently
+    private final Map<ClickUpEndpoint, AtomicInteger> calls = new EnumMap<>(ClickUpEndpoint.class);
+
+    public CountingClickUpApiClient(@NotNull ClickUpApiClient delegate) {
+        this.delegate = delegate;
+        for (ClickUpEndpoint endpoint : ClickUpEndpoint.values()) {
+            calls.put(endpoint, new AtomicInteger());
+        }
+    }
+
+    /**
+     * @return the number of calls made to the endpoint since the last reset
+     */
+    public int count(@NotNull ClickUpEndpoint endpoint) {
+        return calls.get(endpoint).get();
+    }
+
+    /**
+     * @return the number of calls made to all endpoints since the last reset
+     */
+    public int total() {
+        return calls.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    /**
+     * @return the endpoints that were called since the last reset, with their number of calls
+     */
+    public @NotNull Map<ClickUpEndpoint, Integer> snapshot() {
+        Map<ClickUpEndpoint, Integer> snapshot = new EnumMap<>(ClickUpEndpoint.class);
+        calls.forEach((endpoint, count) -> {
+            if (count.get() > 0) {
+                snapshot.put(endpoint, count.get());
+            }
+        });
+        return snapshot;
+    }
+
+    public void reset() {
+        calls.values().forEach(count -> count.set(0));
+    }
+
+    private void record(ClickUpEndpoint endpoint) {
+        calls.get(endpoint).incrementAndGet();
+    }
+
+    @Override
+    public ClickUpTask fetchTask(@NotNull String taskId, boolean useCustomTaskIds, String workspaceId) throws IOException {
+        record(ClickUpEndpoint.FETCH_TASK);
+        return delegate.fetchTask(taskId, useCustomTaskIds, workspaceId);
+    }
+
+    @Override
+    public @NotNull List<ClickUpTask> fetchTasks(
+            @NotNull String workspaceId,
+            String assigneeId,
+            int page,
+            boolean useCustomTaskIds,
+            @NotNull ClickUpTaskFilter filter
+    ) throws IOException {
+        record(ClickUpEndpoint.FETCH_TASKS);
+        return delegate.fetchTasks(workspaceId, assigneeId, page, useCustomTaskIds, filter);
+    }
+
+    @Override
+    public @NotNull List<ClickUpWorkspace> fetchWorkspaces() throws IOException {
+        record(ClickUpEndpoint.FETCH_WORKSPACES);
+        return delegate.fetchWorkspaces();
+    }
+
+    @Override
+    public @NotNull ClickUpSpace fetchSpace(@NotNull String spaceId) throws IOException {
+        record(ClickUpEndpoint.FETCH_SPACE);
+        return delegate.fetchSpace(spaceId);
+    }
+
+    @Override
+    public @NotNull List<ClickUpCustomItem> fetchCustomItems(@NotNull String workspaceId) throws IOException {
+        record(ClickUpEndpoint.FETCH_CUSTOM_ITEMS);
+        return delegate.fetchCustomItems(workspaceId);
+    }
+
+    @Override
+    public @NotNull ClickUpCustomItem fetchCustomItem(@NotNull String customItemId, @NotNull String workspaceId) throws IOException {
+        record(ClickUpEndpoint.FETCH_CUSTOM_ITEM);
+        return delegate.fetchCustomItem(customItemId, workspaceId);
+    }
+
+    @Override
+    public void trackTimeSpent(
+            @NotNull String taskId,
+            long timeSpentMillis,
+            @NotNull String workspaceId,
+            boolean useCustomTaskIds
+    ) throws IOException {
+        record(ClickUpEndpoint.TRACK_TIME_SPENT);
+        delegate.trackTimeSpent(taskId, timeSpentMillis, workspaceId, useCustomTaskIds);
+    }
+
+    @Override
+    public void updateTaskStatus(
+            @NotNull String taskId,
+            @NotNull String statusName,
+            @NotNull String workspaceId,
+            boolean useCustomTaskIds
+    ) throws IOException {
+        record(ClickUpEndpoint.UPDATE_TASK_STATUS);
+        delegate.updateTaskStatus(taskId, statusName, workspaceId, useCustomTaskIds);
+    }
+
+    @Override
+    public void testConnection() throws IOException {
+        record(ClickUpEndpoint.TEST_CONNECTION);
+        delegate.testConnection();
+    }
+
+    @Override
+    public void abortAll() {
+        // no request is sent
+        delegate.abortAll();
+    }
+}
@@ -0,0 +1,496 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.api;
+
+import de.jaimerojas.clickup.model.ClickUpCustomItem;
+import de.jaimerojas.clickup.model.ClickUpSpace;
+import de.jaimerojas.clickup.model.ClickUpSpaceIdOnly;
+import de.jaimerojas.clickup.model.ClickUpTask;
+import de.jaimerojas.clickup.model.ClickUpTaskState;
+import de.jaimerojas.clickup.model.ClickUpTeamMember;
+import de.jaimerojas.clickup.model.ClickUpUser;
+import de.jaimerojas.clickup.model.ClickUpWorkspace;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory {@link ClickUpApiClient} for tests, serving a synthetic dataset with simulated latency.
+ * <p>
+ * Each call sleeps on a {@link VirtualClock} for a latency drawn from the distribution configured for
+ * its endpoint, so tests can assert how many round trips an operation waits for without depending on
+ * the machine. Latencies and injected failures are drawn from a random generator seeded per call from
+ * the seed, the endpoint and the request, so they do not depend on the order in which threads run.
+ * <p>
+ * Every workspace added with {@link #withWorkspace} has two members, two custom items ({@code 1001} Bug
+ * and {@code 1002} Story), the given number of spaces, and tasks with IDs {@link #taskId} that are spread
+ * over the spaces and custom items. Every call returns new instances, like deserializing a response does.
+ */
+public class FakeClickUpApiClient implements ClickUpApiClient {
+    public static final int PAGE_SIZE = 100;
+    public static final List<String> STATUSES = List.of("to do", "in progress", "done");
+    private static final String CLOSED_STATUS = "done";
+
+    private final VirtualClock clock;
+    private final long seed;
+    private final Map<ClickUpEndpoint, Latency> latencies = new EnumMap<>(ClickUpEndpoint.class);
+    private final Map<ClickUpEndpoint, Integer> pendingFailures = new EnumMap<>(ClickUpEndpoint.class);
+    private final Map<ClickUpEndpoint, Double> failureRates = new EnumMap<>(ClickUpEndpoint.class);
+    // how often each request was made, so repeated requests draw new latencies
+    private final Map<String, Integer> occurrences = new HashMap<>();
+    private final Map<String, WorkspaceData> workspaces = new LinkedHashMap<>();
+    private final Map<String, TaskData> tasksById = new HashMap<>();
+    private final Set<AtomicBoolean> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile boolean outage;
+
+    public FakeClickUpApiClient() {
+        this(new VirtualClock(), 42);
+    }
+
+    public FakeClickUpApiClient(@NotNull VirtualClock clock, long seed) {
+        this.clock = clock;
+        this.seed = seed;
+    }
+
+    /**
+     * @return the ID of the task with the given index in the workspace
+     */
+    public static @NotNull String taskId(@NotNull String workspaceId, int index) {
+        return workspaceId + "-t" + index;
+    }
+
+    /**
+     * @return the custom ID of the task with the given index in the workspace
+     */
+    public static @NotNull String customTaskId(@NotNull String workspaceId, int index) {
+        return workspaceId.toUpperCase() + "-" + index;
+    }
+
+    /**
+     * @return the ID of the space with the given index in the workspace
+     */
+    public static @NotNull String spaceId(@NotNull String workspaceId, int index) {
+        return workspaceId + "-s" + index;
+    }
+
+    /**
+     * Adds a workspace. Open tasks come first, most recently updated first, followed by the closed tasks.
+     */
+    public synchronized FakeClickUpApiClient withWorkspace(@NotNull String workspaceId, int openTasks, int closedTasks, int spaces) {
+        WorkspaceData workspace = new WorkspaceData(workspaceId, spaces);
+        for (int i = 0; i < openTasks + closedTasks; i++) {
+            TaskData task = new TaskData(workspaceId, i, spaceId(workspaceId, i % spaces));
+            task.customItemId = i % 3 == 0 ? ClickUpCustomItem.DEFAULT_TASK_ID : String.valueOf(1000 + i % 3);
+            task.dateUpdated = openTasks + closedTasks - i;
+            if (i >= openTasks) {
+                task.status = CLOSED_STATUS;
+                task.dateClosed = task.dateUpdated;
+            }
+            workspace.tasks.add(task);
+            tasksById.put(task.id, task);
+        }
+        workspaces.put(workspaceId, workspace);
+        return this;
+    }
+
+    /**
+     * Sets the latency of all endpoints.
+     */
+    public synchronized FakeClickUpApiClient withLatency(@NotNull Latency latency) {
+        for (ClickUpEndpoint endpoint : ClickUpEndpoint.values()) {
+            latencies.put(endpoint, latency);
+        }
+        return this;
+    }
+
+    public synchronized FakeClickUpApiClient withLatency(@NotNull ClickUpEndpoint endpoint, @NotNull Latency latency) {
+        latencies.put(endpoint, latency);
+        return this;
+    }
+
+    /**
+     * Lets the next calls to the endpoint fail with an {@link IOException} after their latency.
+     */
+    public synchronized FakeClickUpApiClient failNext(@NotNull ClickUpEndpoint endpoint, int calls) {
+        pendingFailures.merge(endpoint, calls, Integer::sum);
+        return this;
+    }
+
+    /**
+     * Lets the given share of the calls to the endpoint fail with an {@link IOException}.
+     */
+    public synchronized FakeClickUpApiClient withFailureRate(@NotNull ClickUpEndpoint endpoint, double rate) {
+        failureRates.put(endpoint, rate);
+        return this;
+    }
+
+    /**
+     * Lets all calls fail with a {@link ClickUpUnavailableException} after their latency, as if
+     * the network was down, until the outage is over.
+     */
+    public FakeClickUpApiClient withOutage(boolean outage) {
+        this.outage = outage;
+        return this;
+    }
+
+    public @NotNull VirtualClock getClock() {
+        return clock;
+    }
+
+    /**
+     * @return the number of calls currently waiting for their response
+     */
+    public int getInFlight() {
+        return inFlightCount.get();
+    }
+
+    /**
+     * @return the highest number of calls that were in flight at the same time
+     */
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    /**
+     * @return the current status of the task, as changed by {@link #updateTaskStatus}
+     */
+    public synchronized @Nullable String getTaskStatus(@NotNull String taskId) {
+        TaskData task = tasksById.get(taskId);
+        return task != null ? task.status : null;
+    }
+
+    /**
+     * @return the time tracked on the task with {@link #trackTimeSpent}
+     */
+    public synchronized long getTimeSpent(@NotNull String taskId) {
+        TaskData task = tasksById.get(taskId);
+        return task != null ? task.timeSpentMillis : 0;
+    }
+
+    @Override
+    public ClickUpTask fetchTask(@NotNull String taskId, boolean useCustomTaskIds, String workspaceId) throws IOException {
+        return call(ClickUpEndpoint.FETCH_TASK, taskId, () -> {
+            TaskData task = findTask(taskId, useCustomTaskIds, workspaceId);
+            return task != null ? task.toTask() : null;
+        });
+    }
+
+    /**
+     * Serves the tasks of the workspace page by page. The assignee is ignored; of the filter, the
+     * statuses, update dates and whether closed tasks are included are applied.
+     */
+    @Override
+    public @NotNull List<ClickUpTask> fetchTasks(
+            @NotNull String workspaceId,
+            String assigneeId,
+            int page,
+            boolean useCustomTaskIds,
+            @NotNull ClickUpTaskFilter filter
+    ) throws IOException {
+        return call(ClickUpEndpoint.FETCH_TASKS, workspaceId + "/" + assigneeId + "/" + page + "/" + filter, () -> {
+            List<ClickUpTask> matches = new ArrayList<>();
+            for (TaskData task : getWorkspace(workspaceId).tasks) {
+                if (matches(task, filter)) {
+                    matches.add(task.toTask());
+                }
+            }
+            int from = Math.min(matches.size(), page * PAGE_SIZE);
+            return new ArrayList<>(matches.subList(from, Math.min(matches.size(), from + PAGE_SIZE)));
+        });
+    }
+
+    @Override
+    public @NotNull List<ClickUpWorkspace> fetchWorkspaces() throws IOException {
+        return call(ClickUpEndpoint.FETCH_WORKSPACES, "", () -> {
+            List<ClickUpWorkspace> result = new ArrayList<>();
+            for (WorkspaceData data : workspaces.values()) {
+                ClickUpWorkspace workspace = new ClickUpWorkspace(data.id, "Workspace " + data.id);
+                workspace.setMembers(List.of(
+                        new ClickUpTeamMember(new ClickUpUser("u1", "Anna", "anna@example.com")),
+                        new ClickUpTeamMember(new ClickUpUser("u2", "Zoe", "zoe@example.com"))));
+                result.add(workspace);
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public @NotNull ClickUpSpace fetchSpace(@NotNull String spaceId) throws IOException {
+        return call(ClickUpEndpoint.FETCH_SPACE, spaceId, () -> {
+            for (WorkspaceData workspace : workspaces.values()) {
+                for (int i = 0; i < workspace.spaces; i++) {
+                    if (spaceId.equals(spaceId(workspace.id, i))) {
+                        ClickUpSpace space = new ClickUpSpace(spaceId, "Space " + i);
+                        space.setStatuses(STATUSES.stream().map(FakeClickUpApiClient::status).toList());
+                        return space;
+                    }
+                }
+            }
+            throw new ClickUpNotFoundException("Space not found: " + spaceId);
+        });
+    }
+
+    @Override
+    public @NotNull List<ClickUpCustomItem> fetchCustomItems(@NotNull String workspaceId) throws IOException {
+        return call(ClickUpEndpoint.FETCH_CUSTOM_ITEMS, workspaceId, () -> {
+            getWorkspace(workspaceId);
+            return List.of(customItem("1001"), customItem("1002"));
+        });
+    }
+
+    @Override
+    public @NotNull ClickUpCustomItem fetchCustomItem(@NotNull String customItemId, @NotNull String workspaceId) throws IOException {
+        return call(ClickUpEndpoint.FETCH_CUSTOM_ITEM, customItemId, () -> {
+            if (!customItemId.equals("1001") && !customItemId.equals("1002")) {
+                throw new ClickUpNotFoundException("Custom item not found: " + customItemId);
+            }
+            return customItem(customItemId);
+        });
+    }
+
+    @Override
+    public void trackTimeSpent(
+            @NotNull String taskId,
+            long timeSpentMillis,
+            @NotNull String workspaceId,
+            boolean useCustomTaskIds
+    ) throws IOException {
+        call(ClickUpEndpoint.TRACK_TIME_SPENT, taskId, () -> {
+            getExistingTask(taskId, useCustomTaskIds, workspaceId).timeSpentMillis += timeSpentMillis;
+            return null;
+        });
+    }
+
+    @Override
+    public void updateTaskStatus(
+            @NotNull String taskId,
+            @NotNull String statusName,
+            @NotNull String workspaceId,
+            boolean useCustomTaskIds
+    ) throws IOException {
+        call(ClickUpEndpoint.UPDATE_TASK_STATUS, taskId + "/" + statusName, () -> {
+            TaskData task = getExistingTask(taskId, useCustomTaskIds, workspaceId);
+            task.status = statusName;
+            task.dateClosed = CLOSED_STATUS.equalsIgnoreCase(statusName) ? clock.getAsLong() + 1 : 0;
+            return null;
+        });
+    }
+
+    @Override
+    public void testConnection() throws IOException {
+        call(ClickUpEndpoint.TEST_CONNECTION, "", () -> null);
+    }
+
+    /**
+     * Fails the calls in flight with an {@link IOException} right away.
+     */
+    @Override
+    public void abortAll() {
+        inFlight.forEach(aborted -> aborted.set(true));
+        clock.wakeUp();
+    }
+
+    /**
+     * Waits for the latency of the call, then answers it from the dataset or fails it.
+     */
+    private <T> T call(ClickUpEndpoint endpoint, String request, ClickUpCancellation.IOComputable<T> response) throws IOException {
+        SplittableRandom random = randomFor(endpoint, request);
+        long latency;
+        boolean fail;
+        synchronized (this) {
+            latency = latencies.getOrDefault(endpoint, Latency.NONE).sampleMillis(random);
+            fail = shouldFail(endpoint, random);
+        }
+
+        AtomicBoolean aborted = new AtomicBoolean();
+        inFlight.add(aborted);
+        maxInFlight.accumulateAndGet(inFlightCount.incrementAndGet(), Math::max);
+        try {
+            if (!clock.sleep(latency, aborted::get)) {
+                throw new IOException("Request aborted: " + endpoint + " " + request);
+            }
+        } finally {
+            inFlight.remove(aborted);
+            inFlightCount.decrementAndGet();
+        }
+        if (outage) {
+            throw new ClickUpUnavailableException("Injected outage: " + endpoint + " " + request);
+        }
+        if (fail) {
+            throw new IOException("Injected failure: " + endpoint + " " + request);
+        }
+        synchronized (this) {
+            return response.compute();
+        }
+    }
+
+    private synchronized SplittableRandom randomFor(ClickUpEndpoint endpoint, String request) {
+        String key = endpoint + " " + request;
+        int occurrence = occurrences.merge(key, 1, Integer::sum);
+        return new SplittableRandom(seed * 31 + Objects.hash(key, occurrence));
+    }
+
+    private boolean shouldFail(ClickUpEndpoint endpoint, SplittableRandom random) {
+        Integer pending = pendingFailures.get(endpoint);
+        if (pending != null && pending > 0) {
+            pendingFailures.put(endpoint, pending - 1);
+            return true;
+        }
+        return random.nextDouble() < failureRates.getOrDefault(endpoint, 0.0);
+    }
+
+    private WorkspaceData getWorkspace(String workspaceId) throws IOException {
+        WorkspaceData workspace = workspaces.get(workspaceId);
+        if (workspace == null) {
+            throw new IOException("Workspace not found: " + workspaceId);
+        }
+        return workspace;
+    }
+
+    private @Nullable TaskData findTask(String taskId, boolean useCustomTaskIds, String workspaceId) {
+        if (!useCustomTaskIds) {
+            return tasksById.get(taskId);
+        }
+        WorkspaceData workspace = workspaces.get(workspaceId);
+        if (workspace != null) {
+            for (TaskData task : workspace.tasks) {
+                if (taskId.equals(task.customId)) {
+                    return task;
+                }
+            }
+        }
+        return null;
+    }
+
+    private TaskData getExistingTask(String taskId, boolean useCustomTaskIds, String workspaceId) throws IOException {
+        TaskData task = findTask(taskId, useCustomTaskIds, workspaceId);
+        if (task == null) {
+            throw new IOException("Task not found: " + taskId);
+        }
+        return task;
+    }
+
+    private static boolean matches(TaskData task, ClickUpTaskFilter filter) {
+        if (task.dateClosed != 0 && !filter.isIncludeClosed()) {
+            return false;
+        }
+        if (task.dateClosed == 0 && filter.isDoneOnly()) {
+            return false;
+        }
+        if (!filter.getStatuses().isEmpty() && filter.getStatuses().stream().noneMatch(task.status::equalsIgnoreCase)) {
+            return false;
+        }
+        Long updatedAfter = filter.getDateUpdatedGt();
+        Long updatedBefore = filter.getDateUpdatedLt();
+        return (updatedAfter == null || task.dateUpdated > updatedAfter)
+                && (updatedBefore == null || task.dateUpdated < updatedBefore);
+    }
+
+    private static ClickUpTaskState status(String name) {
+        ClickUpTaskState state = new ClickUpTaskState();
+        state.setId("s" + STATUSES.indexOf(name));
+        state.setStatus(name);
+        state.setType(CLOSED_STATUS.equals(name) ? "closed" : "open");
+        return state;
+    }
+
+    private static ClickUpCustomItem customItem(String id) {
+        return new ClickUpCustomItem(id, id.equals("1001") ? "Bug" : "Story", null, null, null);
+    }
+
+    /**
+     * Distribution of the latency of calls.
+     */
+    @FunctionalInterface
+    public interface Latency {
+        Latency NONE = random -> 0;
+
+        long sampleMillis(@NotNull SplittableRandom random);
+
+        static @NotNull Latency fixed(long millis) {
+            return random -> millis;
+        }
+
+        static @NotNull Latency uniform(long minMillis, long maxMillis) {
+            return random -> random.nextLong(minMillis, maxMillis + 1);
+        }
+
+        /**
+         * Usually the typical latency, but the given share of calls takes the tail latency.
+         */
+        static @NotNull Latency withTail(long typicalMillis, long tailMillis, double tailRate) {
+            return random -> random.nextDouble() < tailRate ? tailMillis : typicalMillis;
+        }
+    }
+
+    private static final class WorkspaceData {
+        private final String id;
+        private final int spaces;
+        private final List<TaskData> tasks = new ArrayList<>();
+
+        WorkspaceData(String id, int spaces) {
+            this.id = id;
+            this.spaces = spaces;
+        }
+    }
+
+    private static final class TaskData {
+        private final String id;
+        private final String customId;
+        private final String name;
+        private final String spaceId;
+        private String customItemId;
+        private String status = STATUSES.get(0);
+        private long dateUpdated;
+        private long dateClosed;
+        private long timeSpentMillis;
+
+        TaskData(String workspaceId, int index, String spaceId) {
+            this.id = taskId(workspaceId, index);
+            this.customId = customTaskId(workspaceId, index);
+            this.name = "Task " + index;
+            this.spaceId = spaceId;
+        }
+
+        ClickUpTask toTask() {
+            ClickUpTask task = new ClickUpTask();
+            task.setId(id);
+            task.setCustom_id(customId);
+            task.setName(name);
+            task.setSpace(new ClickUpSpaceIdOnly(spaceId));
+            task.setCustom_item_id(customItemId);
+            task.setStatus(status(status));
+            task.setDate_updated(dateUpdated);
+            task.setDate_closed(dateClosed);
+            return task;
+        }
+    }
+}
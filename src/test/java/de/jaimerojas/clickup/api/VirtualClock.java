@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.api;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Test clock in epoch milliseconds that only moves when the test advances it.
+ * <p>
+ * A test lets an operation start its requests, waits with {@link #awaitSleepers} until the number of
+ * requests it expects is in flight, and then advances the clock to let them complete. Elapsed virtual
+ * time therefore counts the round trips an operation waited for, independent of the machine and of the
+ * order in which threads are scheduled.
+ */
+public final class VirtualClock implements LongSupplier {
+    private final List<Long> wakeUpTimes = new ArrayList<>();
+    private long now;
+
+    public VirtualClock() {
+        this(0);
+    }
+
+    /**
+     * @param startMillis the initial time
+     */
+    public VirtualClock(long startMillis) {
+        this.now = startMillis;
+    }
+
+    @Override
+    public synchronized long getAsLong() {
+        return now;
+    }
+
+    /**
+     * Moves the clock forward, waking the threads whose time has come.
+     */
+    public synchronized void advance(long millis) {
+        now += millis;
+        notifyAll();
+    }
+
+    /**
+     * Moves the clock to the latest wake-up time, so that every thread sleeping now wakes up.
+     */
+    public synchronized void advanceToLastWakeUp() {
+        for (long wakeUpTime : wakeUpTimes) {
+            now = Math.max(now, wakeUpTime);
+        }
+        notifyAll();
+    }
+
+    /**
+     * Lets sleeping threads check their cancel condition.
+     */
+    public synchronized void wakeUp() {
+        notifyAll();
+    }
+
+    /**
+     * Blocks until at least the given number of threads sleep on the clock and have yet to wake up.
+     *
+     * @param count         the number of sleeping threads to wait for
+     * @param timeoutMillis the real time to wait at most
+     * @return false if fewer threads were sleeping when the timeout elapsed
+     */
+    public synchronized boolean awaitSleepers(int count, long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (getSleeperCount() < count) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            wait(TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of threads sleeping on the clock that have yet to wake up
+     */
+    public synchronized int getSleeperCount() {
+        // woken threads may not have left their sleep yet
+        return (int) wakeUpTimes.stream().filter(wakeUpTime -> wakeUpTime > now).count();
+    }
+
+    /**
+     * Blocks until the clock moved the given time forward.
+     *
+     * @param millis   the virtual time to sleep
+     * @param canceled checked whenever the thread wakes up
+     * @return false if the sleep was canceled or interrupted
+     */
+    public synchronized boolean sleep(long millis, @NotNull BooleanSupplier canceled) {
+        if (millis <= 0) {
+            return !canceled.getAsBoolean();
+        }
+        Long wakeUpTime = now + millis;
+        wakeUpTimes.add(wakeUpTime);
+        notifyAll();
+        try {
+            while (now < wakeUpTime) {
+                if (canceled.getAsBoolean()) {
+                    return false;
+                }
+                wait();
+            }
+            return !canceled.getAsBoolean();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            wakeUpTimes.remove(wakeUpTime);
+        }
+    }
+}
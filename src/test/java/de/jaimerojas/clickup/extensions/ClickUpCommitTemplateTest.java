@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.extensions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ClickUpCommitTemplate}.
+ */
+@DisplayName("ClickUpCommitTemplate Tests")
+class ClickUpCommitTemplateTest {
+
+    private final ClickUpCommitTemplate.Values values = new ClickUpCommitTemplate.Values() {
+        private final Map<String, String> placeholders = Map.of("type", "feat", "scope", "auth", "description", "add login");
+        private final Map<String, String> customFields = Map.of("Sprint", "42");
+
+        @Override
+        public @Nullable String get(@NotNull String placeholder) {
+            return placeholders.get(placeholder);
+        }
+
+        @Override
+        public @Nullable String getCustomField(@NotNull String name) {
+            return customFields.get(name);
+        }
+    };
+
+    @Test
+    @DisplayName("Should render placeholders and custom fields")
+    void render_shouldReplacePlaceholders() {
+        // Arrange
+        ClickUpCommitTemplate template = ClickUpCommitTemplate.compile("{type}({scope}): {description} [{ field:Sprint }]");
+
+        // Act & Assert
+        assertEquals("feat(auth): add login [42]", template.render(values));
+    }
+
+    @Test
+    @DisplayName("Should keep unknown placeholders and stray braces as written")
+    void render_shouldKeepUnknownPlaceholders() {
+        // Arrange
+        ClickUpCommitTemplate template = ClickUpCommitTemplate.compile("{unknown} {field:Missing} {} {type {type}} {");
+
+        // Act & Assert
+        assertEquals("{unknown} {field:Missing} {} {type feat} {", template.render(values));
+    }
+
+    @Test
+    @DisplayName("Should render templates without placeholders as they are")
+    void render_shouldHandleLiteralTemplates() {
+        assertEquals("chore: release", ClickUpCommitTemplate.compile("chore: release").render(values));
+        assertEquals("", ClickUpCommitTemplate.compile(null).render(values));
+        assertTrue(ClickUpCommitTemplate.EMPTY.isEmpty());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.extensions;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ClickUpMarkdownText}.
+ */
+@DisplayName("ClickUpMarkdownText Tests")
+class ClickUpMarkdownTextTest {
+
+    private static final String MARKDOWN = """
+            # Login
+
+            Users need **two factor** login, see [the spec](https://example.com/spec).
+            ![screenshot](https://example.com/login.png)
+            [mockup.pdf](https://t1.p.clickup-attachments.com/t1/mockup.pdf)
+
+
+            > Use `totp` codes
+            * first step
+            ---
+            ```
+            verify(code);
+            ```
+            """;
+
+    @Test
+    @DisplayName("Should convert markdown to plain text without images and attachments")
+    void toPlainText_shouldStripMarkdown() {
+        // Act
+        String text = ClickUpMarkdownText.toPlainText(MARKDOWN, 1000, 20);
+
+        // Assert
+        assertEquals("""
+                Login
+
+                Users need two factor login, see the spec.
+
+                Use totp codes
+                - first step
+                verify(code);""", text);
+    }
+
+    @Test
+    @DisplayName("Should stop at the character budget")
+    void toPlainText_shouldRespectCharacterBudget() {
+        assertEquals("Login\n\nUsers\u2026", ClickUpMarkdownText.toPlainText(MARKDOWN, 12, 20));
+    }
+
+    @Test
+    @DisplayName("Should stop at the line budget")
+    void toPlainText_shouldRespectLineBudget() {
+        assertEquals("Login\n\nUsers need two factor login, see the spec.\u2026", ClickUpMarkdownText.toPlainText(MARKDOWN, 1000, 3));
+    }
+
+    @Test
+    @DisplayName("Should read only the start of huge descriptions")
+    void toPlainText_shouldHandleHugeDescriptions() {
+        // Arrange
+        String huge = "word ".repeat(2_000_000);
+
+        // Act
+        String text = ClickUpMarkdownText.toPlainText(huge, 100, 20);
+
+        // Assert
+        assertEquals(101, text.length());
+        assertTrue(text.endsWith("\u2026"));
+    }
+
+    @Test
+    @DisplayName("Should keep plain text as it is")
+    void toPlainText_shouldKeepPlainText() {
+        assertEquals("snake_case and 2 * 3", ClickUpMarkdownText.toPlainText("snake_case and 2 * 3", 1000, 20));
+        assertEquals("", ClickUpMarkdownText.toPlainText(null, 1000, 20));
+    }
+}
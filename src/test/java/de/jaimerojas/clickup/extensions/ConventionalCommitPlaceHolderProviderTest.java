@@ -15,9 +15,13 @@
  */
 package de.jaimerojas.clickup.extensions;
 
+import com.google.gson.JsonPrimitive;
 import com.intellij.tasks.LocalTask;
 import com.intellij.tasks.TaskType;
 import de.jaimerojas.clickup.ClickUpRepository;
+import de.jaimerojas.clickup.model.ClickUpCustomField;
+import de.jaimerojas.clickup.model.ClickUpTask;
+import de.jaimerojas.clickup.model.ClickUpTaskState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -26,7 +30,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Date;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -59,11 +68,12 @@ class ConventionalCommitPlaceHolderProviderTest {
             String[] placeholders = provider.getPlaceholders(null);
 
             assertNotNull(placeholders);
-            assertEquals(11, placeholders.length);
+            assertEquals(14, placeholders.length);
 
             assertArrayEquals(
                 new String[]{"id", "number", "summary", "project", "taskType",
-                            "type", "scope", "description", "body", "footer", "breaking"},
+                            "type", "scope", "description", "body", "footer", "breaking",
+                            "status", "customId", "template"},
                 placeholders
             );
         }
@@ -215,6 +225,16 @@ class ConventionalCommitPlaceHolderProviderTest {
             assertEquals("my-great-project", result);
         }
 
+        @Test
+        @DisplayName("Should collapse runs of whitespace into one hyphen")
+        void shouldCollapseWhitespaceInScope() {
+            when(mockTask.getProject()).thenReturn("My \t Great\nProject");
+
+            String result = provider.getPlaceholderValue(mockTask, "scope");
+
+            assertEquals("my-great-project", result);
+        }
+
         @Test
         @DisplayName("Should return empty string when project is null")
         void shouldReturnEmptyStringWhenProjectIsNull() {
@@ -285,6 +305,19 @@ class ConventionalCommitPlaceHolderProviderTest {
             assertEquals("This is a detailed description of the task.", result);
         }
 
+        @Test
+        @DisplayName("Should convert markdown description within the repository budget")
+        void shouldConvertMarkdownWithinBudget() {
+            when(mockTask.getDescription()).thenReturn("## Steps\n![screenshot](https://example.com/a.png)\n**Open** the [login](https://example.com) page");
+            when(mockTask.getRepository()).thenReturn(mockRepository);
+            when(mockRepository.getCommitBodyMaxChars()).thenReturn(20);
+            when(mockRepository.getCommitBodyMaxLines()).thenReturn(5);
+
+            String result = provider.getPlaceholderValue(mockTask, "body");
+
+            assertEquals("Steps\nOpen the login\u2026", result);
+        }
+
         @Test
         @DisplayName("Should return empty string when description is null")
         void shouldReturnEmptyStringWhenDescriptionIsNull() {
@@ -335,6 +368,120 @@ class ConventionalCommitPlaceHolderProviderTest {
         }
     }
 
+    @Nested
+    @DisplayName("Memoized Values")
+    class MemoizedValues {
+
+        @Test
+        @DisplayName("Should compute values once per task")
+        void shouldComputeValuesOncePerTask() {
+            when(mockTask.getSummary()).thenReturn("Add login");
+
+            provider.getPlaceholderValue(mockTask, "description");
+            String result = provider.getPlaceholderValue(mockTask, "description");
+
+            assertEquals("add login", result);
+            verify(mockTask, times(1)).getSummary();
+        }
+
+        @Test
+        @DisplayName("Should recompute values when the task was updated")
+        void shouldRecomputeValuesWhenTaskWasUpdated() {
+            when(mockTask.getUpdated()).thenReturn(new Date(1), new Date(2));
+            when(mockTask.getSummary()).thenReturn("Add login", "Add logout");
+
+            provider.getPlaceholderValue(mockTask, "summary");
+            String result = provider.getPlaceholderValue(mockTask, "summary");
+
+            assertEquals("Add logout", result);
+        }
+    }
+
+    @Nested
+    @DisplayName("ClickUp Commit Template")
+    class CommitTemplate {
+
+        @Test
+        @DisplayName("Should render the repository template with ClickUp values")
+        void shouldRenderTemplateWithClickUpValues() {
+            // Arrange
+            ClickUpTaskState status = new ClickUpTaskState();
+            status.setStatus("in review");
+            ClickUpTask clickUpTask = new ClickUpTask();
+            clickUpTask.setId("86abc");
+            clickUpTask.setCustom_id("DEV-7");
+            clickUpTask.setStatus(status);
+            clickUpTask.setCustom_fields(List.of(new ClickUpCustomField("f1", "Sprint", "short_text", new JsonPrimitive("42"))));
+
+            when(mockTask.getRepository()).thenReturn(mockRepository);
+            when(mockTask.getId()).thenReturn("86abc");
+            when(mockTask.getType()).thenReturn(TaskType.FEATURE);
+            when(mockTask.getSummary()).thenReturn("Add login");
+            when(mockRepository.getCommitTemplate()).thenReturn(
+                    ClickUpCommitTemplate.compile("{type}: {description} [{customId}] ({status}, sprint {field:sprint})"));
+            when(mockRepository.findCachedTask("86abc")).thenReturn(clickUpTask);
+
+            // Act
+            String result = provider.getPlaceholderValue(mockTask, "template");
+
+            // Assert
+            assertEquals("feat: add login [DEV-7] (in review, sprint 42)", result);
+        }
+
+        @Test
+        @DisplayName("Should render ClickUp values empty when the task is not cached")
+        void shouldRenderEmptyClickUpValuesForUncachedTask() {
+            when(mockTask.getRepository()).thenReturn(mockRepository);
+            when(mockTask.getId()).thenReturn("86abc");
+
+            assertEquals("", provider.getPlaceholderValue(mockTask, "status"));
+            assertEquals("", provider.getPlaceholderValue(mockTask, "customId"));
+        }
+
+        @Test
+        @DisplayName("Should render ClickUp values once the task is cached")
+        void shouldRenderClickUpValuesOnceTaskIsCached() {
+            // Arrange
+            ClickUpTask clickUpTask = new ClickUpTask();
+            clickUpTask.setCustom_id("DEV-7");
+            when(mockTask.getRepository()).thenReturn(mockRepository);
+            when(mockTask.getId()).thenReturn("86abc");
+            when(mockRepository.findCachedTask("86abc")).thenReturn(null, clickUpTask);
+
+            // Act
+            String before = provider.getPlaceholderValue(mockTask, "customId");
+            String after = provider.getPlaceholderValue(mockTask, "customId");
+
+            // Assert
+            assertEquals("", before);
+            assertEquals("DEV-7", after);
+        }
+
+        @Test
+        @DisplayName("Should render the new status when the cached task's status changes")
+        void shouldRenderNewStatusWhenCachedStatusChanges() {
+            // Arrange
+            ClickUpTaskState open = new ClickUpTaskState();
+            open.setStatus("open");
+            ClickUpTaskState inReview = new ClickUpTaskState();
+            inReview.setStatus("in review");
+            ClickUpTask clickUpTask = new ClickUpTask();
+            clickUpTask.setStatus(open);
+            when(mockTask.getRepository()).thenReturn(mockRepository);
+            when(mockTask.getId()).thenReturn("86abc");
+            when(mockRepository.findCachedTask("86abc")).thenReturn(clickUpTask);
+
+            // Act
+            String before = provider.getPlaceholderValue(mockTask, "status");
+            clickUpTask.setStatus(inReview);
+            String after = provider.getPlaceholderValue(mockTask, "status");
+
+            // Assert
+            assertEquals("open", before);
+            assertEquals("in review", after);
+        }
+    }
+
     @Nested
     @DisplayName("Error Handling")
     class ErrorHandling {
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ClickUpCustomItemIconCache}.
+ */
+@DisplayName("ClickUpCustomItemIconCache Tests")
+class ClickUpCustomItemIconCacheTest {
+
+    private static final int PLACEHOLDER_RGB = 0xFF000000;
+
+    private final List<Runnable> loads = new ArrayList<>();
+    private final Icon placeholder = new ImageIcon(solidImage());
+    private ClickUpCustomItemIconCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ClickUpCustomItemIconCache(2, placeholder, loads::add);
+    }
+
+    @Test
+    @DisplayName("Should return the placeholder for custom items without avatar")
+    void getIcon_shouldReturnPlaceholderWithoutAvatar() {
+        assertSame(placeholder, cache.getIcon(null));
+        assertSame(placeholder, cache.getIcon(item("1", null)));
+    }
+
+    @Test
+    @DisplayName("Should share one icon between custom items with the same avatar")
+    void getIcon_shouldShareIconsByAvatar() {
+        assertSame(cache.getIcon(item("1", "bug")), cache.getIcon(item("2", "bug")));
+        assertNotSame(cache.getIcon(item("1", "bug")), cache.getIcon(item("3", "flag")));
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used icon")
+    void getIcon_shouldEvictLeastRecentlyUsed() {
+        // Arrange
+        Icon bug = cache.getIcon(item("1", "bug"));
+        cache.getIcon(item("2", "flag"));
+        cache.getIcon(item("1", "bug"));
+
+        // Act
+        cache.getIcon(item("3", "star"));
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertSame(bug, cache.getIcon(item("1", "bug")), "Recently used icon should have been kept");
+    }
+
+    @Test
+    @DisplayName("Should paint the placeholder until the icon is rasterized once")
+    void paintIcon_shouldRasterizeOncePerScale() {
+        // Arrange
+        Icon icon = cache.getIcon(item("1", "bug"));
+
+        // Act
+        BufferedImage first = paint(icon);
+        paint(icon);
+
+        // Assert
+        assertEquals(PLACEHOLDER_RGB, first.getRGB(8, 8), "Placeholder should be painted while loading");
+        assertEquals(1, loads.size(), "Icon should be loaded once");
+
+        // Act
+        loads.remove(0).run();
+        BufferedImage loaded = paint(icon);
+        paint(icon);
+
+        // Assert
+        assertNotEquals(PLACEHOLDER_RGB, loaded.getRGB(1, 8));
+        assertTrue(loads.isEmpty(), "Rasterized icon should be reused");
+    }
+
+    private BufferedImage paint(Icon icon) {
+        BufferedImage image = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        icon.paintIcon(null, g, 0, 0);
+        g.dispose();
+        return image;
+    }
+
+    private static BufferedImage solidImage() {
+        BufferedImage image = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, 16, 16);
+        g.dispose();
+        return image;
+    }
+
+    private ClickUpCustomItem item(String id, String avatarValue) {
+        ClickUpCustomItem.ClickUpAvatar avatar = null;
+        if (avatarValue != null) {
+            avatar = new ClickUpCustomItem.ClickUpAvatar();
+            avatar.setSource("fas");
+            avatar.setValue(avatarValue);
+        }
+        return new ClickUpCustomItem(id, "Item " + id, null, null, avatar);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ClickUpMemberDirectory}.
+ */
+@DisplayName("ClickUpMemberDirectory Tests")
+class ClickUpMemberDirectoryTest {
+
+    private ClickUpMemberDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        directory = ClickUpMemberDirectory.of(List.of(
+                member("3", "Zoe Miller", "j.miller@example.com"),
+                member("1", "anna Schmidt", "a.schmidt@example.com"),
+                member("2", "Jane Doe", "jane@example.com"),
+                member("2", "Jane Doe", "jane@example.com"),
+                new ClickUpTeamMember(null)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should sort members by name ignoring case and drop duplicates")
+    void of_shouldSortAndDeduplicate() {
+        assertEquals(List.of("1", "2", "3"), ids(directory.getUsers()));
+        assertEquals(3, directory.size());
+    }
+
+    @Test
+    @DisplayName("Should find members by prefix of any name part or email")
+    void search_shouldMatchPrefixes() {
+        assertEquals(List.of("2"), ids(directory.search("ja")));
+        assertEquals(List.of("1"), ids(directory.search("SCHM")));
+        assertEquals(List.of("1"), ids(directory.search("a.s")));
+        assertEquals(List.of("2"), ids(directory.search("jane d")));
+        assertEquals(List.of("2", "3"), ids(directory.search("j")));
+        assertTrue(directory.search("x").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return all members for a blank search")
+    void search_shouldReturnAllForBlankPrefix() {
+        assertSame(directory.getUsers(), directory.search(" "));
+        assertSame(directory.getUsers(), directory.search(null));
+    }
+
+    @Test
+    @DisplayName("Should look up members by ID")
+    void findById_shouldReturnMember() {
+        assertEquals("Jane Doe", directory.findById("2").getUsername());
+        assertNull(directory.findById("unknown"));
+        assertNull(directory.findById(null));
+    }
+
+    private static ClickUpTeamMember member(String id, String name, String email) {
+        return new ClickUpTeamMember(new ClickUpUser(id, name, email));
+    }
+
+    private static List<String> ids(List<ClickUpUser> users) {
+        return users.stream().map(ClickUpUser::getId).toList();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.model;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures the heap retained by decoded task pages, with and without {@link ClickUpFlyweightPool}.
+ * <p>
+ * Not part of the regular test run, execute with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("ClickUpTask Memory Benchmark")
+class ClickUpTaskMemoryBenchmark {
+
+    private static final int PAGES = 100;
+    private static final int PAGE_SIZE = 100;
+    private static final String[] STATUSES = {"to do", "in progress", "in review", "done"};
+
+    private final Gson gson = new Gson();
+
+    @Test
+    @DisplayName("Should report retained heap per task")
+    void reportRetainedHeapPerTask() {
+        // Arrange
+        List<String> pages = new ArrayList<>();
+        for (int page = 0; page < PAGES; page++) {
+            pages.add(pageJson(page));
+        }
+
+        // Act
+        long plain = retainedBytesPerTask(pages, null);
+        long pooled = retainedBytesPerTask(pages, new ClickUpFlyweightPool());
+
+        // Assert
+        System.out.printf("Retained heap per task: %d bytes unpooled, %d bytes pooled (%d tasks)%n",
+                plain, pooled, PAGES * PAGE_SIZE);
+        assertTrue(pooled <= plain, "Pooling should not increase the retained heap");
+    }
+
+    @Test
+    @DisplayName("Should share state and space instances across pages")
+    void pool_shouldShareInstancesAcrossPages() {
+        // Arrange
+        ClickUpFlyweightPool pool = new ClickUpFlyweightPool();
+
+        // Act
+        List<ClickUpTask> first = decode(pageJson(0), pool);
+        List<ClickUpTask> second = decode(pageJson(1), pool);
+
+        // Assert
+        assertSame(first.get(0).getStatus(), second.get(0).getStatus());
+        assertSame(first.get(0).getSpace(), second.get(0).getSpace());
+        assertSame(first.get(0).getCustom_item_id(), second.get(0).getCustom_item_id());
+        assertEquals(1_700_000_000_000L, first.get(0).getDate_created());
+    }
+
+    private long retainedBytesPerTask(List<String> pages, ClickUpFlyweightPool pool) {
+        long before = usedHeap();
+        List<List<ClickUpTask>> retained = new ArrayList<>();
+        for (String page : pages) {
+            retained.add(decode(page, pool));
+        }
+        long after = usedHeap();
+        assertEquals(PAGES, retained.size());
+        return Math.max(0, after - before) / ((long) PAGES * PAGE_SIZE);
+    }
+
+    private List<ClickUpTask> decode(String json, ClickUpFlyweightPool pool) {
+        List<ClickUpTask> tasks = gson.fromJson(json, GetTasks.class).getTasks();
+        if (pool != null) {
+            tasks.forEach(pool::intern);
+        }
+        return tasks;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String pageJson(int page) {
+        StringBuilder json = new StringBuilder("{\"tasks\":[");
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            int n = page * PAGE_SIZE + i;
+            String status = STATUSES[n % STATUSES.length];
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":\"task").append(n)
+                    .append("\",\"custom_id\":\"PROJ-").append(n)
+                    .append("\",\"custom_item_id\":\"").append(1000 + n % 3)
+                    .append("\",\"name\":\"Task ").append(n)
+                    .append("\",\"date_created\":\"1700000000000\",\"date_updated\":\"").append(1_700_000_000_000L + n)
+                    .append("\",\"date_closed\":null")
+                    .append(",\"status\":{\"id\":\"s").append(n % STATUSES.length)
+                    .append("\",\"status\":\"").append(status)
+                    .append("\",\"type\":\"").append("done".equals(status) ? "closed" : "open")
+                    .append("\"},\"space\":{\"id\":\"").append(90 + n % 2)
+                    .append("\"},\"url\":\"https://app.clickup.com/t/task").append(n).append("\"}");
+        }
+        return json.append("]}").toString();
+    }
+}
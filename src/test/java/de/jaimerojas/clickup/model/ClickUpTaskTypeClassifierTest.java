@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.model;
+
+import com.intellij.tasks.TaskType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ClickUpTaskTypeClassifier}.
+ */
+@DisplayName("ClickUpTaskTypeClassifier Tests")
+class ClickUpTaskTypeClassifierTest {
+
+    @Test
+    @DisplayName("Should classify custom items with the default mapping")
+    void classify_shouldUseDefaultMapping() {
+        ClickUpTaskTypeClassifier classifier = ClickUpTaskTypeClassifier.DEFAULT;
+
+        assertEquals(TaskType.BUG, classifier.classify(item("1", "Bug")));
+        assertEquals(TaskType.FEATURE, classifier.classify(item("2", "User Story")));
+        assertEquals(TaskType.EXCEPTION, classifier.classify(item("3", "Incident")));
+        assertEquals(TaskType.OTHER, classifier.classify(item("4", "Milestone")));
+        assertEquals(TaskType.FEATURE, classifier.classify(ClickUpCustomItem.defaultTaskItem()));
+        assertEquals(TaskType.FEATURE, classifier.classify(null));
+    }
+
+    @Test
+    @DisplayName("Should classify custom items with a user-defined mapping")
+    void classify_shouldUseConfiguredMapping() {
+        // Arrange
+        ClickUpTaskTypeClassifier classifier = new ClickUpTaskTypeClassifier("bug=Defect; feature = Epic, Milestone");
+
+        // Act & Assert
+        assertEquals(TaskType.BUG, classifier.classify(item("1", "defect")));
+        assertEquals(TaskType.FEATURE, classifier.classify(item("2", "MILESTONE")));
+        assertEquals(TaskType.OTHER, classifier.classify(item("3", "Bug")));
+    }
+
+    @Test
+    @DisplayName("Should compute the type of a custom item only once")
+    void classify_shouldCacheByCustomItemId() {
+        // Arrange
+        ClickUpTaskTypeClassifier classifier = new ClickUpTaskTypeClassifier(ClickUpTaskTypeClassifier.DEFAULT_MAPPING);
+        ClickUpCustomItem customItem = item("1", "Bug");
+        classifier.classify(customItem);
+
+        // Act
+        customItem.setName("Milestone");
+
+        // Assert
+        assertEquals(TaskType.BUG, classifier.classify(customItem));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown task types")
+    void validate_shouldRejectUnknownTypes() {
+        assertNull(ClickUpTaskTypeClassifier.validate(ClickUpTaskTypeClassifier.DEFAULT_MAPPING));
+        assertEquals("Unknown task type: CHORE", ClickUpTaskTypeClassifier.validate("CHORE=cleanup"));
+        assertThrows(IllegalArgumentException.class, () -> new ClickUpTaskTypeClassifier("bug"));
+    }
+
+    private ClickUpCustomItem item(String id, String name) {
+        return new ClickUpCustomItem(id, name, null, null, null);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.query;
+
+import de.jaimerojas.clickup.api.ClickUpTaskFilter;
+import de.jaimerojas.clickup.model.ClickUpCustomItem;
+import de.jaimerojas.clickup.model.ClickUpTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ClickUpTaskQueryParser}.
+ */
+@DisplayName("ClickUpTaskQueryParser Tests")
+class ClickUpTaskQueryParserTest {
+
+    private static final long NOW = 1_700_000_000_000L - 1_700_000_000_000L % TimeUnit.MINUTES.toMillis(1);
+
+    @Nested
+    @DisplayName("API Pushdown")
+    class ApiPushdown {
+
+        @Test
+        @DisplayName("Should return match-all query for blank input")
+        void parse_shouldReturnMatchAllForBlankQuery() {
+            assertSame(ClickUpTaskQuery.MATCH_ALL, ClickUpTaskQueryParser.parse(null, NOW));
+            assertSame(ClickUpTaskQuery.MATCH_ALL, ClickUpTaskQueryParser.parse("   ", NOW));
+        }
+
+        @Test
+        @DisplayName("Should push quoted status, list and update age down to the API")
+        void parse_shouldPushDownApiTerms() {
+            // Act
+            ClickUpTaskQuery query = ClickUpTaskQueryParser.parse(
+                    "status:\"in review\" list:901 updated:<7d is:closed", NOW);
+
+            // Assert
+            ClickUpTaskFilter filter = query.getFilter();
+            assertEquals(List.of("in review"), filter.getStatuses());
+            assertEquals(List.of("901"), filter.getListIds());
+            assertEquals(NOW - TimeUnit.DAYS.toMillis(7), filter.getDateUpdatedGt());
+            assertNull(filter.getDateUpdatedLt());
+            assertTrue(filter.isIncludeClosed());
+            assertFalse(query.hasLocalPredicates(), "All terms should have been pushed down");
+        }
+
+        @Test
+        @DisplayName("Should translate older-than ages to an upper bound")
+        void parse_shouldTranslateOlderThanToUpperBound() {
+            ClickUpTaskFilter filter = ClickUpTaskQueryParser.parse("updated:>2w", NOW).getFilter();
+
+            assertNull(filter.getDateUpdatedGt());
+            assertEquals(NOW - TimeUnit.DAYS.toMillis(14), filter.getDateUpdatedLt());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"updated:<99999999999d", "updated:>99999999999999999999w", "updated:<9999999h"})
+        @DisplayName("Should reject ages that overflow or reach before the epoch")
+        void parse_hugeAge_shouldNotPushDownBound(String term) {
+            ClickUpTaskQuery query = ClickUpTaskQueryParser.parse(term, NOW);
+
+            assertEquals(ClickUpTaskFilter.EMPTY, query.getFilter());
+            assertTrue(query.hasLocalPredicates(), "The term should be treated as free text");
+        }
+
+        @Test
+        @DisplayName("Should produce equal filters for repeated relative queries within a minute")
+        void parse_shouldProduceStableFilters() {
+            ClickUpTaskFilter first = ClickUpTaskQueryParser.parse("updated:<1h", NOW + 1_000).getFilter();
+            ClickUpTaskFilter second = ClickUpTaskQueryParser.parse("updated:<1h", NOW + 30_000).getFilter();
+
+            assertEquals(first, second);
+            assertEquals(first.hashCode(), second.hashCode());
+        }
+
+        @Test
+        @DisplayName("Should URL-encode statuses when building the request")
+        void filter_shouldEncodeStatuses() {
+            ClickUpTaskFilter filter = ClickUpTaskQueryParser.parse("status:\"in review\"", NOW).getFilter();
+
+            StringBuilder url = new StringBuilder("?a=b");
+            filter.appendTo(url);
+
+            assertEquals("?a=b&statuses[]=in%20review", url.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Local Predicates")
+    class LocalPredicates {
+
+        @Test
+        @DisplayName("Should match free text against ID and summary")
+        void parse_shouldMatchFreeText() {
+            // Arrange
+            ClickUpTaskQuery query = ClickUpTaskQueryParser.parse("PROJ", NOW);
+
+            // Act & Assert
+            assertTrue(query.hasLocalPredicates());
+            assertTrue(query.matches(task("proj-12", "Something", null)));
+            assertTrue(query.matches(task("abc", "Fix the proj build", null)));
+            assertFalse(query.matches(task("abc", "Unrelated", null)));
+        }
+
+        @Test
+        @DisplayName("Should match task type by custom item name")
+        void parse_shouldMatchTypeByCustomItemName() {
+            ClickUpTaskQuery query = ClickUpTaskQueryParser.parse("type:Milestone", NOW);
+
+            assertTrue(query.matches(task("1", "A", "Milestone")));
+            assertFalse(query.matches(task("2", "B", "Bug")));
+        }
+
+        @Test
+        @DisplayName("Should treat unknown keys as free text")
+        void parse_shouldTreatUnknownKeysAsText() {
+            ClickUpTaskQuery query = ClickUpTaskQueryParser.parse("foo:bar", NOW);
+
+            assertEquals(ClickUpTaskFilter.EMPTY, query.getFilter());
+            assertTrue(query.matches(task("1", "contains foo:bar here", null)));
+            assertFalse(query.matches(task("1", "nothing", null)));
+        }
+
+        private ClickUpTask task(String id, String name, String customItemName) {
+            ClickUpTask task = new ClickUpTask();
+            task.setId(id);
+            task.setName(name);
+            if (customItemName != null) {
+                task.setCustomItem(new ClickUpCustomItem("1", customItemName, null, null, null));
+            }
+            return task;
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep quoted sections together when tokenizing")
+    void tokenize_shouldKeepQuotedSectionsTogether() {
+        assertEquals(List.of("status:\"in review\"", "type:bug", "PROJ"),
+                ClickUpTaskQueryParser.tokenize("status:\"in review\"  type:bug PROJ"));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ClickUpRefreshScheduler}.
+ */
+@DisplayName("ClickUpRefreshScheduler Tests")
+class ClickUpRefreshSchedulerTest {
+
+    @Test
+    @DisplayName("Should keep jittered delays within the configured bounds")
+    void nextDelay_shouldStayWithinJitterBounds() {
+        Random random = new Random(42);
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+
+        for (int i = 0; i < 1_000; i++) {
+            long delay = ClickUpRefreshScheduler.nextDelay(100_000, 0.25, random);
+            min = Math.min(min, delay);
+            max = Math.max(max, delay);
+        }
+
+        assertTrue(min >= 75_000, "Delay should not be shorter than interval - jitter");
+        assertTrue(max <= 125_000, "Delay should not be longer than interval + jitter");
+        assertTrue(max - min > 25_000, "Delays should actually be spread");
+    }
+}
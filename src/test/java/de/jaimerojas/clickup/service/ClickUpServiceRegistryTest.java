@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.service;
+
+import de.jaimerojas.clickup.api.ClickUpApiClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for {@link ClickUpServiceRegistry}.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClickUpServiceRegistry Tests")
+class ClickUpServiceRegistryTest {
+
+    @Mock
+    private ClickUpApiClient apiClient;
+
+    private List<ClickUpTaskService> created;
+    private List<ClickUpTaskService> disposed;
+    private ClickUpServiceRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        created = new ArrayList<>();
+        disposed = new ArrayList<>();
+        registry = new ClickUpServiceRegistry(created::add, disposed::add);
+    }
+
+    @Test
+    @DisplayName("Should share the service of the same token and workspace")
+    void acquire_shouldShareServiceForSameKey() {
+        // Act
+        ClickUpTaskService first = registry.acquire("token", "ws1", () -> new ClickUpTaskService(apiClient));
+        ClickUpTaskService second = registry.acquire("token", "ws1", () -> fail("Service should be shared"));
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(List.of(first), created);
+        assertEquals(2, registry.getReferenceCount("token", "ws1"));
+    }
+
+    @Test
+    @DisplayName("Should create separate services for other tokens and workspaces")
+    void acquire_shouldCreateServicePerKey() {
+        // Act
+        ClickUpTaskService service = registry.acquire("token", "ws1", () -> new ClickUpTaskService(apiClient));
+        ClickUpTaskService otherWorkspace = registry.acquire("token", "ws2", () -> new ClickUpTaskService(apiClient));
+        ClickUpTaskService otherToken = registry.acquire("other", "ws1", () -> new ClickUpTaskService(apiClient));
+
+        // Assert
+        assertNotSame(service, otherWorkspace);
+        assertNotSame(service, otherToken);
+        assertEquals(3, created.size());
+    }
+
+    @Test
+    @DisplayName("Should dispose the service when the last repository releases it")
+    void release_shouldDisposeOnLastReference() {
+        // Arrange
+        ClickUpTaskService service = registry.acquire("token", "ws1", () -> new ClickUpTaskService(apiClient));
+        registry.acquire("token", "ws1", () -> new ClickUpTaskService(apiClient));
+
+        // Act
+        registry.release(service);
+
+        // Assert
+        assertTrue(disposed.isEmpty());
+        verifyNoInteractions(apiClient);
+        assertEquals(1, registry.getReferenceCount("token", "ws1"));
+
+        // Act
+        registry.release(service);
+
+        // Assert
+        assertEquals(List.of(service), disposed);
+        verify(apiClient).abortAll();
+        assertEquals(0, registry.getReferenceCount("token", "ws1"));
+    }
+
+    @Test
+    @DisplayName("Should ignore releases of unknown services")
+    void release_shouldIgnoreUnknownService() {
+        // Arrange
+        ClickUpTaskService service = registry.acquire("token", "ws1", () -> new ClickUpTaskService(apiClient));
+        registry.dispose();
+
+        // Act
+        registry.release(service);
+
+        // Assert
+        assertEquals(List.of(service), disposed);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.service;
+
+import de.jaimerojas.clickup.model.ClickUpTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ClickUpTaskMerger}.
+ */
+@DisplayName("ClickUpTaskMerger Tests")
+class ClickUpTaskMergerTest {
+
+    @Test
+    @DisplayName("Should merge sources most recently updated first")
+    void merge_shouldOrderByDateUpdated() {
+        // Arrange
+        List<ClickUpTask> first = List.of(task("a", 10), task("b", 40), task("c", 20));
+        List<ClickUpTask> second = List.of(task("d", 30), task("e", 50));
+
+        // Act
+        List<ClickUpTask> merged = ClickUpTaskMerger.merge(List.of(first, List.of(), second));
+
+        // Assert
+        assertEquals(List.of("e", "b", "d", "c", "a"), merged.stream().map(ClickUpTask::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should keep tasks returned by several sources once")
+    void merge_shouldDeduplicateById() {
+        // Arrange
+        ClickUpTask shared = task("shared", 20);
+
+        // Act
+        List<ClickUpTask> merged = ClickUpTaskMerger.merge(List.of(
+                List.of(shared, task("a", 10)),
+                List.of(task("shared", 20), task("b", 30))));
+
+        // Assert
+        assertEquals(List.of("b", "shared", "a"), merged.stream().map(ClickUpTask::getId).toList());
+    }
+
+    private ClickUpTask task(String id, long dateUpdated) {
+        ClickUpTask task = new ClickUpTask();
+        task.setId(id);
+        task.setDate_updated(dateUpdated);
+        return task;
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.service;
+
+import de.jaimerojas.clickup.api.ClickUpEndpoint;
+import de.jaimerojas.clickup.api.ClickUpTaskFilter;
+import de.jaimerojas.clickup.api.FakeClickUpApiClient;
+import de.jaimerojas.clickup.api.FakeClickUpApiClient.Latency;
+import de.jaimerojas.clickup.api.VirtualClock;
+import de.jaimerojas.clickup.model.ClickUpTask;
+import de.jaimerojas.clickup.model.ClickUpTaskSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Latency tests for {@link ClickUpTaskService}, run against a {@link FakeClickUpApiClient} on a
+ * {@link VirtualClock}. The tests advance the clock once the requests expected
+ * in a round trip are in flight, so elapsed times are virtual and count round trips rather than depend on
+ * the machine or on how threads are scheduled.
+ */
+@DisplayName("ClickUpTaskService Latency Tests")
+class ClickUpTaskServiceLatencyTest {
+
+    private static final long ROUND_TRIP = 100;
+    private static final long SEED = 7;
+    private static final int SOURCE_COUNT = 5;
+    // two spaces and the custom items of each workspace
+    private static final int DEPENDENCIES_PER_SOURCE = 3;
+    // real time to wait for requests that are expected, only reached when a test fails
+    private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private FakeClickUpApiClient api;
+    private ClickUpTaskService service;
+
+    @BeforeEach
+    void setUp() {
+        api = createApi(Latency.fixed(ROUND_TRIP));
+        service = new ClickUpTaskService(api, api.getClock(), executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static FakeClickUpApiClient createApi(Latency latency) {
+        FakeClickUpApiClient api = new FakeClickUpApiClient(new VirtualClock(), SEED).withLatency(latency);
+        for (int i = 0; i < SOURCE_COUNT; i++) {
+            api.withWorkspace("ws" + i, 100, 0, 2);
+        }
+        return api;
+    }
+
+    private static List<ClickUpTaskSource> sources() {
+        List<ClickUpTaskSource> sources = new ArrayList<>();
+        for (int i = 0; i < SOURCE_COUNT; i++) {
+            sources.add(new ClickUpTaskSource("ws" + i, null));
+        }
+        return sources;
+    }
+
+    private long elapsed(ThrowingRunnable operation, int... requestsPerRoundTrip) throws Exception {
+        return elapsed(api, operation, requestsPerRoundTrip);
+    }
+
+    /**
+     * Runs the operation on another thread. For each round trip, waits until the given number of requests
+     * is in flight and lets them all complete; the operation must be done after the last round trip.
+     *
+     * @return the virtual time the operation took
+     */
+    private long elapsed(FakeClickUpApiClient api, ThrowingRunnable operation, int... requestsPerRoundTrip) throws Exception {
+        long start = api.getClock().getAsLong();
+        CompletableFuture<Void> done = CompletableFuture.runAsync(() -> {
+            try {
+                operation.run();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+        for (int requests : requestsPerRoundTrip) {
+            assertTrue(api.getClock().awaitSleepers(requests, TIMEOUT_MILLIS), requests + " requests should be in flight");
+            assertFalse(done.isDone(), "The operation should wait for the round trip");
+            api.getClock().advanceToLastWakeUp();
+        }
+        try {
+            done.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            fail("The operation should be done after " + requestsPerRoundTrip.length + " round trips, "
+                    + api.getClock().getSleeperCount() + " requests are in flight");
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof CompletionException c && c.getCause() instanceof Exception cause ? cause : e;
+        }
+        return api.getClock().getAsLong() - start;
+    }
+
+    @Test
+    @DisplayName("Should fetch five sources in one round trip, and their dependencies in another")
+    void getTasks_fromSeveralSources_shouldFetchConcurrently() throws Exception {
+        // Act
+        List<ClickUpTask> tasks = new ArrayList<>();
+        long elapsed = elapsed(() -> tasks.addAll(service.getTasks(sources(), 0, false, ClickUpTaskFilter.EMPTY, false)),
+                SOURCE_COUNT, SOURCE_COUNT * DEPENDENCIES_PER_SOURCE);
+
+        // Assert
+        assertEquals(SOURCE_COUNT * 100, tasks.size());
+        assertEquals(2 * ROUND_TRIP, elapsed, "task pages first, then spaces and custom items");
+        assertTrue(api.getMaxInFlight() >= SOURCE_COUNT, "sources should be fetched concurrently");
+    }
+
+    @Test
+    @DisplayName("Should not wait for the sources that fail")
+    void getTasks_withFailingSource_shouldNotWaitLonger() throws Exception {
+        // Arrange
+        api.failNext(ClickUpEndpoint.FETCH_TASKS, 1);
+
+        // Act
+        List<ClickUpTask> tasks = new ArrayList<>();
+        long elapsed = elapsed(() -> tasks.addAll(service.getTasks(sources(), 0, false, ClickUpTaskFilter.EMPTY, false)),
+                SOURCE_COUNT, (SOURCE_COUNT - 1) * DEPENDENCIES_PER_SOURCE);
+
+        // Assert
+        assertEquals((SOURCE_COUNT - 1) * 100, tasks.size());
+        assertEquals(2 * ROUND_TRIP, elapsed);
+    }
+
+    @Test
+    @DisplayName("Should serve stale task pages without waiting for the revalidation")
+    void getTasks_stale_shouldNotWait() throws Exception {
+        // Arrange
+        elapsed(() -> service.getTasks(sources(), 0, false, ClickUpTaskFilter.EMPTY, false),
+                SOURCE_COUNT, SOURCE_COUNT * DEPENDENCIES_PER_SOURCE);
+        api.getClock().advance(TimeUnit.MINUTES.toMillis(2));
+
+        // Act
+        long elapsed = elapsed(() -> service.getTasks(sources(), 0, false, ClickUpTaskFilter.EMPTY, false));
+
+        // Assert
+        assertEquals(0, elapsed);
+        assertTrue(api.getClock().awaitSleepers(SOURCE_COUNT, TIMEOUT_MILLIS), "the pages should be revalidated in the background");
+    }
+
+    @Test
+    @DisplayName("Should resolve many tasks in a few round trips")
+    void resolveTasks_shouldFetchConcurrently() throws Exception {
+        // Arrange
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            taskIds.add(FakeClickUpApiClient.taskId("ws0", i));
+        }
+
+        // Act
+        Map<String, ClickUpTask> tasks = new HashMap<>();
+        long elapsed = elapsed(() -> tasks.putAll(service.resolveTasks(taskIds, false, "ws0")), 8, 8, DEPENDENCIES_PER_SOURCE);
+
+        // Assert
+        assertEquals(16, tasks.size());
+        assertEquals(3 * ROUND_TRIP, elapsed, "two tasks per lane, then spaces and custom items");
+        assertEquals(8, api.getMaxInFlight());
+    }
+
+    @Test
+    @DisplayName("Should serve the last known tasks without waiting once ClickUp is unreachable")
+    void getTasks_offline_shouldNotWait() throws Exception {
+        // Arrange: idle entries are evicted, then the outage is noticed by the calls that fail
+        api.withLatency(Latency.NONE);
+        service.getTasks(sources(), 0, false, ClickUpTaskFilter.EMPTY, false);
+        api.getClock().advance(TimeUnit.HOURS.toMillis(1));
+        service.refresh();
+        api.withOutage(true);
+        List<ClickUpTask> lastKnown = service.getTasks(sources(), 0, false, ClickUpTaskFilter.EMPTY, false);
+        api.withLatency(Latency.fixed(ROUND_TRIP));
+
+        // Act
+        List<ClickUpTask> tasks = new ArrayList<>();
+        long elapsed = elapsed(() -> tasks.addAll(service.getTasks(sources(), 0, false, ClickUpTaskFilter.EMPTY, false)));
+
+        // Assert
+        assertTrue(service.isOffline());
+        assertEquals(SOURCE_COUNT * 100, lastKnown.size());
+        assertEquals(SOURCE_COUNT * 100, tasks.size());
+        assertEquals(0, elapsed);
+    }
+
+    @Test
+    @DisplayName("Should take the same virtual time for the same seed")
+    void getTasks_withRandomLatency_shouldBeDeterministic() throws Exception {
+        // Arrange
+        FakeClickUpApiClient first = createApi(Latency.withTail(ROUND_TRIP, 4 * ROUND_TRIP, 0.2));
+        FakeClickUpApiClient second = createApi(Latency.withTail(ROUND_TRIP, 4 * ROUND_TRIP, 0.2));
+
+        // Act
+        long firstElapsed = elapsedOf(first);
+        long secondElapsed = elapsedOf(second);
+
+        // Assert
+        assertEquals(firstElapsed, secondElapsed);
+        assertTrue(firstElapsed <= 8 * ROUND_TRIP, "two round trips, each at most as slow as the tail");
+    }
+
+    private long elapsedOf(FakeClickUpApiClient api) throws Exception {
+        ClickUpTaskService service = new ClickUpTaskService(api, api.getClock(), executor);
+        return elapsed(api, () -> service.getTasks(sources(), 0, false, ClickUpTaskFilter.EMPTY, false),
+                SOURCE_COUNT, SOURCE_COUNT * DEPENDENCIES_PER_SOURCE);
+    }
+
+    @Test
+    @DisplayName("Should abort the requests in flight when disposed")
+    void dispose_shouldAbortRequestsInFlight() throws InterruptedException {
+        // Arrange: the clock is not advanced, so the request stays in flight until it is aborted
+        CompletableFuture<?> fetch = CompletableFuture.runAsync(() -> {
+            try {
+                service.getSpace(FakeClickUpApiClient.spaceId("ws0", 0));
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+        assertTrue(api.getClock().awaitSleepers(1, TIMEOUT_MILLIS));
+
+        // Act
+        service.dispose();
+
+        // Assert
+        CompletionException failure = assertThrows(CompletionException.class, fetch::join);
+        assertInstanceOf(IOException.class, failure.getCause());
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws IOException;
+    }
+}
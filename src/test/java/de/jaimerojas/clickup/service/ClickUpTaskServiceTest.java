@@ -16,8 +16,20 @@
 package de.jaimerojas.clickup.service;
 
 import de.jaimerojas.clickup.api.ClickUpApiClient;
+import de.jaimerojas.clickup.api.ClickUpNotFoundException;
+import de.jaimerojas.clickup.api.ClickUpRejectedException;
+import de.jaimerojas.clickup.api.ClickUpTaskFilter;
+import de.jaimerojas.clickup.api.ClickUpTimeoutException;
+import de.jaimerojas.clickup.api.ClickUpUnavailableException;
+import de.jaimerojas.clickup.model.ClickUpCustomItem;
+import de.jaimerojas.clickup.model.ClickUpMemberDirectory;
 import de.jaimerojas.clickup.model.ClickUpSpace;
+import de.jaimerojas.clickup.model.ClickUpSpaceIdOnly;
 import de.jaimerojas.clickup.model.ClickUpTask;
+import de.jaimerojas.clickup.model.ClickUpTaskSource;
+import de.jaimerojas.clickup.model.ClickUpTaskState;
+import de.jaimerojas.clickup.model.ClickUpTeamMember;
+import de.jaimerojas.clickup.model.ClickUpUser;
 import de.jaimerojas.clickup.model.ClickUpWorkspace;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,14 +39,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -163,6 +181,310 @@ class ClickUpTaskServiceTest {
             assertNotNull(result);
             assertTrue(result.isEmpty());
         }
+
+        @Test
+        @DisplayName("Should pass the server-side filter to the API")
+        void getTasks_shouldPassFilterToApi() throws IOException {
+            // Arrange
+            ClickUpTaskFilter filter = new ClickUpTaskFilter(
+                    List.of("in review"), List.of("901"), 1_000L, null, false);
+            List<ClickUpTask> tasks = Collections.singletonList(new ClickUpTask());
+
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 1, false, filter))
+                    .thenReturn(tasks);
+
+            // Act
+            List<ClickUpTask> result = service.getTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 150, false, filter);
+
+            // Assert
+            assertEquals(1, result.size());
+            verify(apiClient).fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 1, false, filter);
+        }
+    }
+
+    @Nested
+    @DisplayName("Closed Tasks")
+    class ClosedTasks {
+
+        private final AtomicLong now = new AtomicLong(1_000_000L);
+        private final ClickUpTaskFilter closedFilter = ClickUpTaskFilter.EMPTY.withDoneOnly();
+
+        @BeforeEach
+        void setUp() {
+            service = new ClickUpTaskService(apiClient, now::get);
+        }
+
+        @Test
+        @DisplayName("Should not request closed tasks unless asked for")
+        void getTasks_shouldNotRequestClosedTasksByDefault() throws IOException {
+            // Arrange
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, ClickUpTaskFilter.EMPTY))
+                    .thenReturn(List.of(task("open1", false)));
+
+            // Act
+            List<ClickUpTask> first = service.getTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, ClickUpTaskFilter.EMPTY, false);
+            List<ClickUpTask> second = service.getTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, ClickUpTaskFilter.EMPTY, false);
+
+            // Assert
+            assertEquals(1, first.size());
+            assertSame(first, second, "Second call should be served from the open task partition");
+            verify(apiClient, times(1)).fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, ClickUpTaskFilter.EMPTY);
+            verify(apiClient, never()).fetchTasks(anyString(), anyString(), anyInt(), anyBoolean(), eq(closedFilter));
+        }
+
+        @Test
+        @DisplayName("Should append closed tasks and keep them in a separate partition")
+        void getTasks_shouldAppendClosedTasksFromSeparatePartition() throws IOException {
+            // Arrange
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, ClickUpTaskFilter.EMPTY))
+                    .thenReturn(List.of(task("open1", false)));
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, closedFilter))
+                    .thenReturn(List.of(task("open1", false), task("closed1", true)));
+
+            // Act
+            List<ClickUpTask> result = service.getTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, ClickUpTaskFilter.EMPTY, true);
+            now.addAndGet(TimeUnit.MINUTES.toMillis(2));
+            service.getTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, ClickUpTaskFilter.EMPTY, true);
+
+            // Assert
+            assertEquals(List.of("open1", "closed1"), result.stream().map(ClickUpTask::getId).toList());
+            verify(apiClient, times(2)).fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, ClickUpTaskFilter.EMPTY);
+            verify(apiClient, times(1)).fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, closedFilter);
+        }
+
+        @Test
+        @DisplayName("Should page closed tasks with their own query")
+        void getTasks_shouldPageClosedTasksSeparately() throws IOException {
+            // Arrange: the first page of done tasks holds one that is not closed
+            List<ClickUpTask> firstDonePage = new ArrayList<>();
+            firstDonePage.add(task("done", false));
+            for (int i = 0; i < 99; i++) {
+                firstDonePage.add(task("closed" + i, true));
+            }
+            List<ClickUpTask> secondDonePage = new ArrayList<>();
+            for (int i = 99; i < 104; i++) {
+                secondDonePage.add(task("closed" + i, true));
+            }
+            when(apiClient.fetchTasks(eq(TEST_WORKSPACE_ID), eq(TEST_ASSIGNEE_ID), anyInt(), eq(false), eq(ClickUpTaskFilter.EMPTY)))
+                    .thenReturn(List.of());
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, closedFilter)).thenReturn(firstDonePage);
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 1, false, closedFilter)).thenReturn(secondDonePage);
+
+            // Act
+            List<ClickUpTask> first = service.getTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, ClickUpTaskFilter.EMPTY, true);
+            List<ClickUpTask> second = service.getTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 100, false, ClickUpTaskFilter.EMPTY, true);
+
+            // Assert
+            assertEquals(100, first.size());
+            assertEquals("closed0", first.get(0).getId());
+            assertEquals("closed99", first.get(99).getId());
+            assertEquals(List.of("closed100", "closed101", "closed102", "closed103"), second.stream().map(ClickUpTask::getId).toList());
+            verify(apiClient, times(1)).fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, closedFilter);
+            verify(apiClient, times(1)).fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 1, false, closedFilter);
+        }
+
+        @Test
+        @DisplayName("Should serve a closed task by ID without downloading open tasks")
+        void getTask_shouldServeClosedTaskFromCache() throws IOException {
+            // Arrange
+            when(apiClient.fetchTask(TEST_TASK_ID, false, TEST_WORKSPACE_ID)).thenReturn(task(TEST_TASK_ID, true));
+
+            // Act
+            ClickUpTask first = service.getTask(TEST_TASK_ID, false, TEST_WORKSPACE_ID);
+            ClickUpTask second = service.getTask(TEST_TASK_ID, false, TEST_WORKSPACE_ID);
+
+            // Assert
+            assertSame(first, second);
+            verify(apiClient, times(1)).fetchTask(TEST_TASK_ID, false, TEST_WORKSPACE_ID);
+            verify(apiClient, never()).fetchTasks(anyString(), any(), anyInt(), anyBoolean(), any());
+        }
+
+        private ClickUpTask task(String id, boolean closed) {
+            ClickUpTask task = new ClickUpTask();
+            task.setId(id);
+            if (closed) {
+                task.setDate_closed(1_700_000_000_000L);
+            }
+            return task;
+        }
+    }
+
+    @Nested
+    @DisplayName("Task Index")
+    class TaskIndex {
+
+        private final AtomicLong now = new AtomicLong(1_000_000L);
+
+        @BeforeEach
+        void setUp() throws IOException {
+            service = new ClickUpTaskService(apiClient, now::get);
+
+            ClickUpTask task = new ClickUpTask();
+            task.setId(TEST_TASK_ID);
+            task.setCustom_id("PROJ-1");
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, true, ClickUpTaskFilter.EMPTY))
+                    .thenReturn(List.of(task));
+            service.getTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, true, ClickUpTaskFilter.EMPTY);
+        }
+
+        @Test
+        @DisplayName("Should answer lookups by internal and custom ID from the index")
+        void getTask_shouldAnswerFromIndexWhenFresh() throws IOException {
+            // Act
+            ClickUpTask byInternalId = service.getTask(TEST_TASK_ID, true, TEST_WORKSPACE_ID);
+            ClickUpTask byCustomId = service.getTask("PROJ-1", true, TEST_WORKSPACE_ID);
+
+            // Assert
+            assertEquals(TEST_TASK_ID, byInternalId.getId());
+            assertSame(byInternalId, byCustomId);
+            verify(apiClient, never()).fetchTask(anyString(), anyBoolean(), any());
+        }
+
+        @Test
+        @DisplayName("Should re-fetch stale tasks by internal ID without the custom ID lookup")
+        void getTask_shouldRefetchStaleTaskByInternalId() throws IOException {
+            // Arrange
+            ClickUpTask refreshed = new ClickUpTask();
+            refreshed.setId(TEST_TASK_ID);
+            refreshed.setCustom_id("PROJ-1");
+            when(apiClient.fetchTask(TEST_TASK_ID, false, TEST_WORKSPACE_ID)).thenReturn(refreshed);
+            now.addAndGet(TimeUnit.MINUTES.toMillis(5));
+
+            // Act
+            ClickUpTask result = service.getTask("PROJ-1", true, TEST_WORKSPACE_ID);
+
+            // Assert
+            assertSame(refreshed, result);
+            verify(apiClient, never()).fetchTask("PROJ-1", true, TEST_WORKSPACE_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("Stale While Revalidate")
+    class StaleWhileRevalidate {
+
+        private final AtomicLong now = new AtomicLong(1_000_000L);
+        private final List<Runnable> backgroundTasks = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            service = new ClickUpTaskService(apiClient, now::get, backgroundTasks::add);
+        }
+
+        @Test
+        @DisplayName("Should serve a stale space immediately and refresh it in the background")
+        void getSpace_shouldServeStaleCopyAndRevalidate() throws IOException {
+            // Arrange
+            ClickUpSpace oldSpace = new ClickUpSpace(TEST_SPACE_ID, "Old");
+            ClickUpSpace newSpace = new ClickUpSpace(TEST_SPACE_ID, "New");
+            when(apiClient.fetchSpace(TEST_SPACE_ID)).thenReturn(oldSpace, newSpace);
+            service.getSpace(TEST_SPACE_ID);
+            now.addAndGet(TimeUnit.HOURS.toMillis(1));
+
+            // Act
+            ClickUpSpace stale = service.getSpace(TEST_SPACE_ID);
+            service.getSpace(TEST_SPACE_ID);
+
+            // Assert
+            assertSame(oldSpace, stale, "Stale copy should be served without waiting");
+            assertEquals(1, backgroundTasks.size(), "Only one revalidation should be scheduled per entry");
+            backgroundTasks.get(0).run();
+            assertSame(newSpace, service.getSpace(TEST_SPACE_ID));
+            verify(apiClient, times(2)).fetchSpace(TEST_SPACE_ID);
+        }
+
+        @Test
+        @DisplayName("Should resolve custom items from one cached list per workspace")
+        void getCustomItem_shouldUseCachedWorkspaceList() throws IOException {
+            // Arrange
+            when(apiClient.fetchCustomItems(TEST_WORKSPACE_ID)).thenReturn(List.of(
+                    new ClickUpCustomItem("1", "Bug", "Bugs", null, null),
+                    new ClickUpCustomItem("2", "Story", "Stories", null, null)));
+
+            // Act
+            ClickUpCustomItem bug = service.getCustomItem(TEST_WORKSPACE_ID, "1");
+            ClickUpCustomItem story = service.getCustomItem(TEST_WORKSPACE_ID, "2");
+
+            // Assert
+            assertEquals("Bug", bug.getName());
+            assertEquals("Story", story.getName());
+            assertEquals("Task", service.getCustomItem(TEST_WORKSPACE_ID, ClickUpCustomItem.DEFAULT_TASK_ID).getName());
+            assertNull(service.getCustomItem(TEST_WORKSPACE_ID, null));
+            assertThrows(IOException.class, () -> service.getCustomItem(TEST_WORKSPACE_ID, "3"));
+            verify(apiClient, times(1)).fetchCustomItems(TEST_WORKSPACE_ID);
+        }
+
+        @Test
+        @DisplayName("Should re-fetch cached entries on refresh")
+        void refresh_shouldRefetchCachedEntries() throws IOException {
+            // Arrange
+            when(apiClient.fetchSpace(TEST_SPACE_ID)).thenReturn(new ClickUpSpace(TEST_SPACE_ID, "Space"));
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, ClickUpTaskFilter.EMPTY))
+                    .thenReturn(List.of(new ClickUpTask()));
+            service.getSpace(TEST_SPACE_ID);
+            service.getTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, ClickUpTaskFilter.EMPTY);
+
+            // Act
+            service.refresh();
+
+            // Assert
+            verify(apiClient, times(2)).fetchSpace(TEST_SPACE_ID);
+            verify(apiClient, times(2)).fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, ClickUpTaskFilter.EMPTY);
+        }
+
+        @Test
+        @DisplayName("Should keep the cached tasks when ClickUp rejects the refresh")
+        void refresh_rejected_shouldKeepCachedTasks() throws IOException {
+            // Arrange
+            List<ClickUpTask> tasks = List.of(new ClickUpTask());
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, ClickUpTaskFilter.EMPTY))
+                    .thenReturn(tasks)
+                    .thenThrow(new ClickUpRejectedException(429, "{\"err\":\"Rate limit reached\"}"));
+            service.getTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, ClickUpTaskFilter.EMPTY);
+            now.addAndGet(TimeUnit.MINUTES.toMillis(10));
+
+            // Act
+            service.refresh();
+
+            // Assert
+            assertEquals(tasks, service.getTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, ClickUpTaskFilter.EMPTY));
+            assertFalse(service.isOffline(), "A rejected request should not switch to offline mode");
+        }
+
+        @Test
+        @DisplayName("Should re-fetch only the latest page of a query with moving update bounds")
+        void refresh_relativeUpdatedBounds_shouldRefetchOnlyLatestPage() throws IOException {
+            // Arrange
+            ClickUpTaskFilter earlier = new ClickUpTaskFilter(List.of("open"), List.of(), 1_000L, null, false);
+            ClickUpTaskFilter later = new ClickUpTaskFilter(List.of("open"), List.of(), 61_000L, null, false);
+            when(apiClient.fetchTasks(eq(TEST_WORKSPACE_ID), eq(TEST_ASSIGNEE_ID), eq(0), eq(false), any()))
+                    .thenReturn(List.of(new ClickUpTask()));
+            service.getTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, earlier);
+            now.addAndGet(TimeUnit.MINUTES.toMillis(1));
+            service.getTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, later);
+
+            // Act
+            service.refresh();
+
+            // Assert
+            verify(apiClient, times(1)).fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, earlier);
+            verify(apiClient, times(2)).fetchTasks(TEST_WORKSPACE_ID, TEST_ASSIGNEE_ID, 0, false, later);
+        }
+
+        @Test
+        @DisplayName("Should stop refreshing entries that are no longer used")
+        void refresh_shouldEvictIdleEntries() throws IOException {
+            // Arrange
+            when(apiClient.fetchSpace(TEST_SPACE_ID)).thenReturn(new ClickUpSpace(TEST_SPACE_ID, "Space"));
+            service.getSpace(TEST_SPACE_ID);
+            now.addAndGet(TimeUnit.HOURS.toMillis(1));
+
+            // Act
+            service.refresh();
+
+            // Assert
+            verify(apiClient, times(1)).fetchSpace(TEST_SPACE_ID);
+        }
     }
 
     @Nested
@@ -206,6 +528,27 @@ class ClickUpTaskServiceTest {
             assertNotNull(result);
             assertTrue(result.isEmpty());
         }
+
+        @Test
+        @DisplayName("Should build the member directory once and cache it with the workspaces")
+        void getMemberDirectory_shouldBeCached() throws IOException {
+            // Arrange
+            ClickUpWorkspace workspace = new ClickUpWorkspace(TEST_WORKSPACE_ID, "Workspace");
+            workspace.setMembers(List.of(
+                    new ClickUpTeamMember(new ClickUpUser("u2", "Zoe", "zoe@example.com")),
+                    new ClickUpTeamMember(new ClickUpUser("u1", "Anna", "anna@example.com"))));
+            when(apiClient.fetchWorkspaces()).thenReturn(List.of(workspace));
+
+            // Act
+            ClickUpMemberDirectory directory = service.getMemberDirectory(TEST_WORKSPACE_ID);
+            ClickUpMemberDirectory cached = service.getMemberDirectory(TEST_WORKSPACE_ID);
+
+            // Assert
+            assertSame(directory, cached);
+            assertEquals("Anna", directory.getUsers().get(0).getUsername());
+            assertSame(ClickUpMemberDirectory.EMPTY, service.getMemberDirectory("unknown"));
+            verify(apiClient, times(1)).fetchWorkspaces();
+        }
     }
 
     @Nested
@@ -231,6 +574,132 @@ class ClickUpTaskServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Dependency Resolution")
+    class DependencyResolution {
+
+        @Test
+        @DisplayName("Should fetch each distinct space and the custom items once per page")
+        void resolveDependencies_shouldFetchDistinctEntitiesOnce() throws IOException {
+            // Arrange
+            ClickUpCustomItem bug = new ClickUpCustomItem("1001", "Bug", null, null, null);
+            List<ClickUpTask> tasks = List.of(
+                    task("1", "space1", "1001"),
+                    task("2", "space1", "1001"),
+                    task("3", "space2", ClickUpCustomItem.DEFAULT_TASK_ID),
+                    task("4", "space2", null));
+            when(apiClient.fetchSpace(anyString())).thenAnswer(invocation -> new ClickUpSpace(invocation.getArgument(0), "Space"));
+            when(apiClient.fetchCustomItems(TEST_WORKSPACE_ID)).thenReturn(List.of(bug));
+
+            // Act
+            service.resolveDependencies(TEST_WORKSPACE_ID, tasks);
+            service.resolveDependencies(TEST_WORKSPACE_ID, tasks);
+
+            // Assert
+            verify(apiClient).fetchSpace("space1");
+            verify(apiClient).fetchSpace("space2");
+            verify(apiClient).fetchCustomItems(TEST_WORKSPACE_ID);
+            assertSame(bug, tasks.get(0).getCustomItem());
+            assertSame(bug, tasks.get(1).getCustomItem());
+            assertEquals(ClickUpCustomItem.DEFAULT_TASK_ID, tasks.get(2).getCustomItem().getId());
+            assertNull(tasks.get(3).getCustomItem());
+        }
+
+        @Test
+        @DisplayName("Should leave entities unresolved when fetching fails")
+        void resolveDependencies_shouldTolerateFailures() throws IOException {
+            // Arrange
+            List<ClickUpTask> tasks = List.of(task("1", "space1", "1001"));
+            when(apiClient.fetchSpace("space1")).thenThrow(new IOException("Network error"));
+            when(apiClient.fetchCustomItems(TEST_WORKSPACE_ID)).thenThrow(new IOException("Network error"));
+
+            // Act & Assert
+            assertDoesNotThrow(() -> service.resolveDependencies(TEST_WORKSPACE_ID, tasks));
+            assertNull(tasks.get(0).getCustomItem());
+            verify(apiClient, times(1)).fetchCustomItems(TEST_WORKSPACE_ID);
+        }
+
+        @Test
+        @DisplayName("Should merge the tasks of several sources and skip failing ones")
+        void getTasks_shouldMergeSources() throws IOException {
+            // Arrange
+            ClickUpTask older = task("1", null, null);
+            older.setDate_updated(10);
+            ClickUpTask newer = task("2", null, null);
+            newer.setDate_updated(20);
+            when(apiClient.fetchTasks(eq("ws1"), eq("me"), eq(0), eq(false), any(ClickUpTaskFilter.class))).thenReturn(List.of(older));
+            when(apiClient.fetchTasks(eq("ws1"), eq("lead"), eq(0), eq(false), any(ClickUpTaskFilter.class))).thenReturn(List.of(newer, older));
+            when(apiClient.fetchTasks(eq("ws2"), isNull(), eq(0), eq(false), any(ClickUpTaskFilter.class))).thenThrow(new IOException("Network error"));
+
+            // Act
+            List<ClickUpTask> result = service.getTasks(List.of(
+                    new ClickUpTaskSource("ws1", "me"),
+                    new ClickUpTaskSource("ws1", "lead"),
+                    new ClickUpTaskSource("ws2", null)), 0, false, ClickUpTaskFilter.EMPTY, false);
+
+            // Assert
+            assertEquals(List.of(newer, older), result);
+        }
+
+        @Test
+        @DisplayName("Should page the merged tasks of several sources without skipping or repeating tasks")
+        void getTasks_withLimit_shouldPageMergedSources() throws IOException {
+            // Arrange
+            List<ClickUpTask> mine = List.of(updated("m1", 60), updated("m2", 40), updated("m3", 20));
+            List<ClickUpTask> other = List.of(updated("o1", 50), updated("o2", 30), updated("o3", 10));
+            stubSource("ws1", mine);
+            stubSource("ws2", other);
+            List<ClickUpTaskSource> sources = List.of(new ClickUpTaskSource("ws1", "me"), new ClickUpTaskSource("ws2", "me"));
+
+            // Act
+            List<ClickUpTask> first = service.getTasks(sources, 0, 3, false, ClickUpTaskFilter.EMPTY, false);
+            List<ClickUpTask> second = service.getTasks(sources, 3, 3, false, ClickUpTaskFilter.EMPTY, false);
+            List<ClickUpTask> beyond = service.getTasks(sources, 6, 3, false, ClickUpTaskFilter.EMPTY, false);
+
+            // Assert
+            assertEquals(List.of("m1", "o1", "m2"), first.stream().map(ClickUpTask::getId).toList());
+            assertEquals(List.of("o2", "m3", "o3"), second.stream().map(ClickUpTask::getId).toList());
+            assertTrue(beyond.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should keep the workspace of its source on each merged task")
+        void getTasks_shouldKeepWorkspaceOfSource() throws IOException {
+            // Arrange
+            stubSource("ws1", List.of(updated("m1", 20)));
+            stubSource("ws2", List.of(updated("o1", 10)));
+
+            // Act
+            List<ClickUpTask> result = service.getTasks(List.of(
+                    new ClickUpTaskSource("ws1", "me"),
+                    new ClickUpTaskSource("ws2", "me")), 0, 20, false, ClickUpTaskFilter.EMPTY, false);
+
+            // Assert
+            assertEquals(List.of("ws1", "ws2"), result.stream().map(ClickUpTask::getTeam_id).toList());
+        }
+
+        private ClickUpTask updated(String id, long dateUpdated) {
+            ClickUpTask task = task(id, null, null);
+            task.setDate_updated(dateUpdated);
+            return task;
+        }
+
+        private void stubSource(String workspaceId, List<ClickUpTask> tasks) throws IOException {
+            when(apiClient.fetchTasks(eq(workspaceId), eq("me"), eq(0), eq(false), any(ClickUpTaskFilter.class), anyInt()))
+                    .thenAnswer(invocation -> tasks.subList(0, Math.min(tasks.size(), invocation.<Integer>getArgument(5))));
+            when(apiClient.fetchTasks(eq(workspaceId), eq("me"), eq(0), eq(false), any(ClickUpTaskFilter.class)))
+                    .thenReturn(tasks);
+        }
+
+        private ClickUpTask task(String id, String spaceId, String customItemId) {
+            ClickUpTask task = new ClickUpTask();
+            task.setId(id);
+            task.setSpace(new ClickUpSpaceIdOnly(spaceId));
+            task.setCustom_item_id(customItemId);
+            return task;
+        }
+    }
+
     @Nested
     @DisplayName("Time Tracking")
     class TimeTracking {
@@ -328,6 +797,580 @@ class ClickUpTaskServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Optimistic Status Updates")
+    class OptimisticStatusUpdates {
+        private final List<Runnable> backgroundTasks = new ArrayList<>();
+        private ClickUpTask task;
+
+        @BeforeEach
+        void setUp() throws IOException {
+            service = new ClickUpTaskService(apiClient, System::currentTimeMillis, backgroundTasks::add);
+            task = new ClickUpTask();
+            task.setId(TEST_TASK_ID);
+            task.setStatus(status("to do"));
+            when(apiClient.fetchTasks(eq(TEST_WORKSPACE_ID), isNull(), eq(0), eq(false), any(ClickUpTaskFilter.class)))
+                    .thenReturn(List.of(task));
+            service.getTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY);
+        }
+
+        @Test
+        @DisplayName("Should show the new status before ClickUp confirmed it")
+        void updateTaskStatus_shouldApplyImmediately() throws IOException {
+            // Act
+            CompletableFuture<Void> update = service.updateTaskStatus(TEST_TASK_ID, "in progress", TEST_WORKSPACE_ID, false);
+
+            // Assert
+            assertEquals("in progress", task.getStatus().getStatus());
+            assertFalse(update.isDone());
+            verify(apiClient, never()).updateTaskStatus(anyString(), anyString(), anyString(), anyBoolean());
+
+            backgroundTasks.remove(0).run();
+            assertTrue(update.isDone());
+            verify(apiClient).updateTaskStatus(TEST_TASK_ID, "in progress", TEST_WORKSPACE_ID, false);
+        }
+
+        @Test
+        @DisplayName("Should roll back to the confirmed status when the update fails")
+        void updateTaskStatus_shouldRollBackOnFailure() throws IOException {
+            // Arrange
+            ClickUpTaskState confirmed = task.getStatus();
+            doThrow(new IOException("Network error"))
+                    .when(apiClient).updateTaskStatus(TEST_TASK_ID, "in progress", TEST_WORKSPACE_ID, false);
+
+            // Act
+            CompletableFuture<Void> update = service.updateTaskStatus(TEST_TASK_ID, "in progress", TEST_WORKSPACE_ID, false);
+            backgroundTasks.remove(0).run();
+
+            // Assert
+            assertSame(confirmed, task.getStatus());
+            assertTrue(update.isCompletedExceptionally());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {400, 429})
+        @DisplayName("Should roll back when ClickUp rejects the update")
+        void updateTaskStatus_rejected_shouldRollBack(int statusCode) throws IOException {
+            // Arrange
+            ClickUpTaskState confirmed = task.getStatus();
+            doThrow(new ClickUpRejectedException(statusCode, "{\"err\":\"Status not found\"}"))
+                    .when(apiClient).updateTaskStatus(TEST_TASK_ID, "in progress", TEST_WORKSPACE_ID, false);
+
+            // Act
+            CompletableFuture<Void> update = service.updateTaskStatus(TEST_TASK_ID, "in progress", TEST_WORKSPACE_ID, false);
+            backgroundTasks.remove(0).run();
+
+            // Assert
+            assertSame(confirmed, task.getStatus());
+            assertSame(task, service.findCachedTask(TEST_TASK_ID), "The cached task should keep its confirmed status");
+            CompletionException failure = assertThrows(CompletionException.class, update::join);
+            assertEquals(statusCode, ((ClickUpRejectedException) failure.getCause()).getStatusCode());
+            assertFalse(service.isOffline(), "A rejected update should not switch to offline mode");
+        }
+
+        @Test
+        @DisplayName("Should only reload the pages that list the changed task")
+        void updateTaskStatus_confirmed_shouldKeepPagesOfOtherQueries() throws IOException {
+            // Arrange
+            ClickUpTask other = new ClickUpTask();
+            other.setId("other");
+            ClickUpTaskFilter review = new ClickUpTaskFilter(List.of("review"), List.of(), null, null, false);
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, null, 0, false, review)).thenReturn(List.of(other));
+            service.getTasks(TEST_WORKSPACE_ID, null, 0, false, review);
+
+            // Act
+            service.updateTaskStatus(TEST_TASK_ID, "in progress", TEST_WORKSPACE_ID, false);
+            backgroundTasks.remove(0).run();
+            service.getTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY);
+            service.getTasks(TEST_WORKSPACE_ID, null, 0, false, review);
+
+            // Assert
+            verify(apiClient, times(2)).fetchTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY);
+            verify(apiClient, times(1)).fetchTasks(TEST_WORKSPACE_ID, null, 0, false, review);
+        }
+
+        @Test
+        @DisplayName("Should only send the last of several quick changes")
+        void updateTaskStatus_shouldLetLastWriterWin() throws IOException {
+            // Act
+            CompletableFuture<Void> first = service.updateTaskStatus(TEST_TASK_ID, "in progress", TEST_WORKSPACE_ID, false);
+            CompletableFuture<Void> second = service.updateTaskStatus(TEST_TASK_ID, "review", TEST_WORKSPACE_ID, false);
+            while (!backgroundTasks.isEmpty()) {
+                backgroundTasks.remove(0).run();
+            }
+
+            // Assert
+            assertEquals("review", task.getStatus().getStatus());
+            assertTrue(first.isDone() && !first.isCompletedExceptionally());
+            assertTrue(second.isDone() && !second.isCompletedExceptionally());
+            verify(apiClient, never()).updateTaskStatus(TEST_TASK_ID, "in progress", TEST_WORKSPACE_ID, false);
+            verify(apiClient).updateTaskStatus(TEST_TASK_ID, "review", TEST_WORKSPACE_ID, false);
+        }
+
+        @Test
+        @DisplayName("Should send the writes of one task in order and of different tasks concurrently")
+        void writes_shouldBeOrderedPerTask() throws IOException {
+            // Act
+            service.updateTaskStatus(TEST_TASK_ID, "in progress", TEST_WORKSPACE_ID, false);
+            service.trackTimeSpent(TEST_TASK_ID, TimeUnit.HOURS.toMillis(1), TEST_WORKSPACE_ID, false);
+            service.trackTimeSpent("other", TimeUnit.HOURS.toMillis(2), TEST_WORKSPACE_ID, false);
+
+            // Assert: one write per task is started, the time entry waits for the status change
+            assertEquals(2, backgroundTasks.size());
+            assertEquals(2, service.getWriteQueueDepth(TEST_TASK_ID));
+            assertEquals(1, service.getWriteQueueDepth("other"));
+
+            backgroundTasks.remove(0).run();
+            assertEquals(1, service.getWriteQueueDepth(TEST_TASK_ID));
+            while (!backgroundTasks.isEmpty()) {
+                backgroundTasks.remove(0).run();
+            }
+            assertTrue(service.getWriteQueueDepths().isEmpty());
+            InOrder order = inOrder(apiClient);
+            order.verify(apiClient).updateTaskStatus(TEST_TASK_ID, "in progress", TEST_WORKSPACE_ID, false);
+            order.verify(apiClient).trackTimeSpent(TEST_TASK_ID, TimeUnit.HOURS.toMillis(1), TEST_WORKSPACE_ID, false);
+            verify(apiClient).trackTimeSpent("other", TimeUnit.HOURS.toMillis(2), TEST_WORKSPACE_ID, false);
+        }
+
+        private ClickUpTaskState status(String name) {
+            ClickUpTaskState state = new ClickUpTaskState();
+            state.setStatus(name);
+            return state;
+        }
+    }
+
+    @Nested
+    @DisplayName("Read-Ahead")
+    class ReadAhead {
+        private final List<Runnable> backgroundTasks = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            service = new ClickUpTaskService(apiClient, System::currentTimeMillis, backgroundTasks::add);
+        }
+
+        private List<ClickUpTask> fullPage(int page) {
+            List<ClickUpTask> tasks = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                ClickUpTask task = new ClickUpTask();
+                task.setId(page + "-" + i);
+                tasks.add(task);
+            }
+            return tasks;
+        }
+
+        @Test
+        @DisplayName("Should read the next page ahead while paging through a query")
+        void getTasks_sequentialPages_shouldReadNextPageAhead() throws IOException {
+            // Arrange
+            for (int page = 0; page < 3; page++) {
+                when(apiClient.fetchTasks(TEST_WORKSPACE_ID, null, page, false, ClickUpTaskFilter.EMPTY)).thenReturn(fullPage(page));
+            }
+            service.getTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY);
+            assertTrue(backgroundTasks.isEmpty(), "The first page alone is no sign of paging");
+            service.getTasks(TEST_WORKSPACE_ID, null, 100, false, ClickUpTaskFilter.EMPTY);
+
+            // Act
+            assertEquals(1, backgroundTasks.size());
+            backgroundTasks.remove(0).run();
+            List<ClickUpTask> thirdPage = service.getTasks(TEST_WORKSPACE_ID, null, 200, false, ClickUpTaskFilter.EMPTY);
+
+            // Assert
+            assertEquals("2-0", thirdPage.get(0).getId());
+            verify(apiClient, times(1)).fetchTasks(TEST_WORKSPACE_ID, null, 2, false, ClickUpTaskFilter.EMPTY);
+        }
+
+        @Test
+        @DisplayName("Should cancel the read-ahead when another query is requested")
+        void getTasks_queryChanged_shouldCancelReadAhead() throws IOException {
+            // Arrange
+            ClickUpTaskFilter inProgress = new ClickUpTaskFilter(List.of("in progress"), List.of(), null, null, false);
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY)).thenReturn(fullPage(0));
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, null, 1, false, ClickUpTaskFilter.EMPTY)).thenReturn(fullPage(1));
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, null, 0, false, inProgress)).thenReturn(List.of());
+            service.getTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY);
+            service.getTasks(TEST_WORKSPACE_ID, null, 100, false, ClickUpTaskFilter.EMPTY);
+
+            // Act
+            service.getTasks(TEST_WORKSPACE_ID, null, 0, false, inProgress);
+            backgroundTasks.forEach(Runnable::run);
+
+            // Assert
+            verify(apiClient, never()).fetchTasks(TEST_WORKSPACE_ID, null, 2, false, ClickUpTaskFilter.EMPTY);
+        }
+
+        @Test
+        @DisplayName("Should read the next page ahead while scrolling through a page in slices")
+        void getOpenTasks_sequentialSlices_shouldReadNextPageAhead() throws IOException {
+            // Arrange
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY, 20)).thenReturn(fullPage(0).subList(0, 20));
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY)).thenReturn(fullPage(0));
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, null, 1, false, ClickUpTaskFilter.EMPTY)).thenReturn(fullPage(1));
+            service.getOpenTasks(TEST_WORKSPACE_ID, null, 0, 20, false, ClickUpTaskFilter.EMPTY);
+            assertTrue(backgroundTasks.isEmpty(), "The first slice alone is no sign of paging");
+
+            // Act
+            for (int offset = 20; offset < 100; offset += 20) {
+                service.getOpenTasks(TEST_WORKSPACE_ID, null, offset, 20, false, ClickUpTaskFilter.EMPTY);
+            }
+            assertEquals(1, backgroundTasks.size());
+            backgroundTasks.remove(0).run();
+            List<ClickUpTask> nextPage = service.getOpenTasks(TEST_WORKSPACE_ID, null, 100, 20, false, ClickUpTaskFilter.EMPTY);
+
+            // Assert
+            assertEquals("1-0", nextPage.get(0).getId());
+            assertEquals(20, nextPage.size());
+            verify(apiClient, times(1)).fetchTasks(TEST_WORKSPACE_ID, null, 1, false, ClickUpTaskFilter.EMPTY);
+            verify(apiClient, never()).fetchTasks(TEST_WORKSPACE_ID, null, 1, false, ClickUpTaskFilter.EMPTY, 20);
+        }
+    }
+
+    @Nested
+    @DisplayName("Limited Pages")
+    class LimitedPages {
+
+        private List<ClickUpTask> tasks(int count) {
+            List<ClickUpTask> tasks = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                ClickUpTask task = new ClickUpTask();
+                task.setId("task-" + i);
+                tasks.add(task);
+            }
+            return tasks;
+        }
+
+        @Test
+        @DisplayName("Should decode only the tasks within the limit and serve them again from the cache")
+        void getOpenTasks_limitBelowPage_shouldFetchHeadOnly() throws IOException {
+            // Arrange
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY, 20)).thenReturn(tasks(20));
+
+            // Act
+            List<ClickUpTask> first = service.getOpenTasks(TEST_WORKSPACE_ID, null, 0, 20, false, ClickUpTaskFilter.EMPTY);
+            List<ClickUpTask> second = service.getOpenTasks(TEST_WORKSPACE_ID, null, 5, 10, false, ClickUpTaskFilter.EMPTY);
+
+            // Assert
+            assertEquals(20, first.size());
+            assertEquals("task-5", second.get(0).getId());
+            assertEquals(10, second.size());
+            verify(apiClient, times(1)).fetchTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY, 20);
+            verify(apiClient, never()).fetchTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY);
+        }
+
+        @Test
+        @DisplayName("Should fetch the whole page when scrolling past the decoded tasks")
+        void getOpenTasks_beyondHead_shouldFetchWholePage() throws IOException {
+            // Arrange
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY, 20)).thenReturn(tasks(20));
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY)).thenReturn(tasks(100));
+            service.getOpenTasks(TEST_WORKSPACE_ID, null, 0, 20, false, ClickUpTaskFilter.EMPTY);
+
+            // Act
+            List<ClickUpTask> next = service.getOpenTasks(TEST_WORKSPACE_ID, null, 20, 20, false, ClickUpTaskFilter.EMPTY);
+            List<ClickUpTask> last = service.getOpenTasks(TEST_WORKSPACE_ID, null, 90, 20, false, ClickUpTaskFilter.EMPTY);
+
+            // Assert
+            assertEquals("task-20", next.get(0).getId());
+            assertEquals(20, next.size());
+            assertEquals(10, last.size(), "The rest of the page is returned");
+            verify(apiClient, times(1)).fetchTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY);
+        }
+
+        @Test
+        @DisplayName("Should cache a page that ends within the limit as a whole")
+        void getOpenTasks_shortPage_shouldCacheWholePage() throws IOException {
+            // Arrange
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY, 20)).thenReturn(tasks(12));
+            service.getOpenTasks(TEST_WORKSPACE_ID, null, 0, 20, false, ClickUpTaskFilter.EMPTY);
+
+            // Act
+            List<ClickUpTask> page = service.getTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY);
+
+            // Assert
+            assertEquals(12, page.size());
+            verify(apiClient, never()).fetchTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Resolution")
+    class BulkResolution {
+
+        @Test
+        @DisplayName("Should fetch every uncached task once and serve cached ones")
+        void resolveTasks_shouldDedupeAndServeCachedTasks() throws IOException {
+            // Arrange
+            ClickUpTask listed = new ClickUpTask();
+            listed.setId("listed");
+            ClickUpTask other = new ClickUpTask();
+            other.setId("other");
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY)).thenReturn(List.of(listed));
+            when(apiClient.fetchTask("other", false, TEST_WORKSPACE_ID)).thenReturn(other);
+            service.getTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY);
+
+            // Act
+            Map<String, ClickUpTask> tasks = service.resolveTasks(List.of("other", "listed", "other"), false, TEST_WORKSPACE_ID);
+
+            // Assert
+            assertEquals(List.of("other", "listed"), List.copyOf(tasks.keySet()));
+            assertSame(listed, tasks.get("listed"));
+            assertSame(other, tasks.get("other"));
+            verify(apiClient, times(1)).fetchTask(anyString(), anyBoolean(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should not fetch a task again that was not found")
+        void resolveTasks_shouldRememberMissingTasks() throws IOException {
+            // Arrange
+            when(apiClient.fetchTask("deleted", false, TEST_WORKSPACE_ID)).thenReturn(null);
+
+            // Act
+            Map<String, ClickUpTask> tasks = service.resolveTasks(List.of("deleted"), false, TEST_WORKSPACE_ID);
+            service.resolveTasks(List.of("deleted"), false, TEST_WORKSPACE_ID);
+            ClickUpTask task = service.getTask("deleted", false, TEST_WORKSPACE_ID);
+
+            // Assert
+            assertTrue(tasks.isEmpty());
+            assertNull(task);
+            verify(apiClient, times(1)).fetchTask("deleted", false, TEST_WORKSPACE_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("Negative Caching")
+    class NegativeCaching {
+        private final AtomicLong now = new AtomicLong(1_000_000L);
+
+        @BeforeEach
+        void setUp() {
+            service = new ClickUpTaskService(apiClient, now::get, Runnable::run);
+        }
+
+        @Test
+        @DisplayName("Should not fetch a space again that was not found, until the entry expires")
+        void getSpace_notFound_shouldBeRemembered() throws IOException {
+            // Arrange
+            when(apiClient.fetchSpace("deleted")).thenThrow(new ClickUpNotFoundException("Space not found: deleted"));
+
+            // Act
+            assertThrows(ClickUpNotFoundException.class, () -> service.getSpace("deleted"));
+            assertThrows(ClickUpNotFoundException.class, () -> service.getSpace("deleted"));
+            now.addAndGet(TimeUnit.MINUTES.toMillis(5));
+            assertThrows(ClickUpNotFoundException.class, () -> service.getSpace("deleted"));
+
+            // Assert
+            verify(apiClient, times(2)).fetchSpace("deleted");
+        }
+
+        @Test
+        @DisplayName("Should not fetch a missing space again for the next pages")
+        void resolveDependencies_missingSpace_shouldNotRefetch() throws IOException {
+            // Arrange
+            ClickUpTask task = new ClickUpTask();
+            task.setId("1");
+            task.setSpace(new ClickUpSpaceIdOnly("deleted"));
+            when(apiClient.fetchSpace("deleted")).thenThrow(new ClickUpNotFoundException("Space not found: deleted"));
+
+            // Act
+            service.resolveDependencies(TEST_WORKSPACE_ID, List.of(task));
+            service.resolveDependencies(TEST_WORKSPACE_ID, List.of(task));
+
+            // Assert
+            verify(apiClient, times(1)).fetchSpace("deleted");
+        }
+
+        @Test
+        @DisplayName("Should report an unknown custom item as not found")
+        void getCustomItem_unknown_shouldThrowNotFound() throws IOException {
+            // Arrange
+            when(apiClient.fetchCustomItems(TEST_WORKSPACE_ID)).thenReturn(List.of(new ClickUpCustomItem("1", "Bug", "Bugs", null, null)));
+
+            // Act & Assert
+            assertThrows(ClickUpNotFoundException.class, () -> service.getCustomItem(TEST_WORKSPACE_ID, "deleted"));
+            assertThrows(ClickUpNotFoundException.class, () -> service.getCustomItem(TEST_WORKSPACE_ID, "deleted"));
+            assertEquals("Bug", service.getCustomItem(TEST_WORKSPACE_ID, "1").getName());
+            verify(apiClient, times(1)).fetchCustomItems(TEST_WORKSPACE_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("Offline Mode")
+    class OfflineMode {
+        private final List<Runnable> backgroundTasks = new ArrayList<>();
+        private final List<String> connectivity = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            service = new ClickUpTaskService(apiClient, System::currentTimeMillis, backgroundTasks::add);
+            service.addConnectivityListener(new ClickUpTaskService.ConnectivityListener() {
+                @Override
+                public void wentOffline(IOException cause) {
+                    connectivity.add("offline");
+                }
+
+                @Override
+                public void backOnline(int sentChanges) {
+                    connectivity.add("online, sent " + sentChanges);
+                }
+            });
+        }
+
+        @Test
+        @DisplayName("Should serve the last known tasks when ClickUp becomes unreachable")
+        void getTasks_whenUnreachable_shouldServeLastKnownPage() throws IOException {
+            // Arrange: a status change clears the cached pages, the last known copy is kept
+            ClickUpTask task = new ClickUpTask();
+            task.setId(TEST_TASK_ID);
+            when(apiClient.fetchTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY))
+                    .thenReturn(List.of(task))
+                    .thenThrow(new ClickUpUnavailableException("Cannot reach ClickUp"));
+            service.getTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY);
+            service.updateTaskStatus(TEST_TASK_ID, "done", TEST_WORKSPACE_ID, false);
+            backgroundTasks.remove(0).run();
+
+            // Act
+            List<ClickUpTask> tasks = service.getTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY);
+            service.getTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY);
+
+            // Assert
+            assertEquals(List.of(task), tasks);
+            assertTrue(service.isOffline());
+            assertEquals(List.of("offline"), connectivity);
+            assertTrue(backgroundTasks.isEmpty(), "Stale entries should not be revalidated while offline");
+            verify(apiClient, times(2)).fetchTasks(TEST_WORKSPACE_ID, null, 0, false, ClickUpTaskFilter.EMPTY);
+        }
+
+        @Test
+        @DisplayName("Should fail when nothing is known about the requested data")
+        void getSpace_whenUnreachableAndUnknown_shouldThrow() throws IOException {
+            // Arrange
+            when(apiClient.fetchSpace(TEST_SPACE_ID)).thenThrow(new ClickUpUnavailableException("Cannot reach ClickUp"));
+
+            // Act & Assert
+            assertThrows(ClickUpUnavailableException.class, () -> service.getSpace(TEST_SPACE_ID));
+            assertThrows(ClickUpUnavailableException.class, () -> service.getSpace(TEST_SPACE_ID));
+            verify(apiClient, times(1)).fetchSpace(TEST_SPACE_ID);
+        }
+
+        @Test
+        @DisplayName("Should queue status changes and time entries, and send them in order once reachable")
+        void reconnect_shouldSendQueuedWrites() throws IOException {
+            // Arrange
+            goOffline();
+            CompletableFuture<Void> timeEntry = service.trackTimeSpent(TEST_TASK_ID, TimeUnit.MINUTES.toMillis(90), TEST_WORKSPACE_ID, false);
+            CompletableFuture<Void> update = service.updateTaskStatus(TEST_TASK_ID, "done", TEST_WORKSPACE_ID, false);
+            runBackgroundTasks();
+            assertTrue(timeEntry.isDone(), "Queued while offline");
+
+            // Act
+            assertEquals(2, service.getPendingWriteCount());
+            boolean online = service.reconnect();
+
+            // Assert
+            assertTrue(online);
+            assertFalse(service.isOffline());
+            assertEquals(0, service.getPendingWriteCount());
+            assertTrue(update.isDone() && !update.isCompletedExceptionally());
+            assertEquals(List.of("offline", "online, sent 2"), connectivity);
+            InOrder order = inOrder(apiClient);
+            order.verify(apiClient).trackTimeSpent(TEST_TASK_ID, TimeUnit.MINUTES.toMillis(90), TEST_WORKSPACE_ID, false);
+            order.verify(apiClient).updateTaskStatus(TEST_TASK_ID, "done", TEST_WORKSPACE_ID, false);
+        }
+
+        @Test
+        @DisplayName("Should send a write made while reconnecting after the queued ones, before going online")
+        void reconnect_writeDuringReplay_shouldBeSentBeforeGoingOnline() throws IOException {
+            // Arrange: the time entry of another task is made while the queued one is being sent
+            goOffline();
+            service.trackTimeSpent(TEST_TASK_ID, TimeUnit.HOURS.toMillis(1), TEST_WORKSPACE_ID, false);
+            runBackgroundTasks();
+            List<Boolean> offlineWhileSending = new ArrayList<>();
+            doAnswer(invocation -> {
+                service.trackTimeSpent("other-task", TimeUnit.HOURS.toMillis(2), TEST_WORKSPACE_ID, false);
+                runBackgroundTasks();
+                return null;
+            }).when(apiClient).trackTimeSpent(TEST_TASK_ID, TimeUnit.HOURS.toMillis(1), TEST_WORKSPACE_ID, false);
+            doAnswer(invocation -> offlineWhileSending.add(service.isOffline()))
+                    .when(apiClient).trackTimeSpent("other-task", TimeUnit.HOURS.toMillis(2), TEST_WORKSPACE_ID, false);
+
+            // Act
+            boolean online = service.reconnect();
+
+            // Assert
+            assertTrue(online);
+            assertEquals(List.of(true), offlineWhileSending, "Sent from the queue, not directly");
+            assertEquals(0, service.getPendingWriteCount());
+            assertEquals(List.of("offline", "online, sent 2"), connectivity);
+            InOrder order = inOrder(apiClient);
+            order.verify(apiClient).trackTimeSpent(TEST_TASK_ID, TimeUnit.HOURS.toMillis(1), TEST_WORKSPACE_ID, false);
+            order.verify(apiClient).trackTimeSpent("other-task", TimeUnit.HOURS.toMillis(2), TEST_WORKSPACE_ID, false);
+        }
+
+        @Test
+        @DisplayName("Should refuse writes beyond the bound of the queue instead of dropping queued ones")
+        void trackTimeSpent_whenQueueIsFull_shouldFail() throws IOException {
+            // Arrange
+            goOffline();
+            List<CompletableFuture<Void>> entries = new ArrayList<>();
+            for (int i = 0; i <= ClickUpOfflineMode.MAX_PENDING_WRITES; i++) {
+                entries.add(service.trackTimeSpent("task-" + i, TimeUnit.HOURS.toMillis(1), TEST_WORKSPACE_ID, false));
+            }
+
+            // Act
+            runBackgroundTasks();
+
+            // Assert
+            assertEquals(ClickUpOfflineMode.MAX_PENDING_WRITES, service.getPendingWriteCount());
+            CompletableFuture<Void> refused = entries.get(ClickUpOfflineMode.MAX_PENDING_WRITES);
+            CompletionException failure = assertThrows(CompletionException.class, refused::join);
+            assertInstanceOf(ClickUpUnavailableException.class, failure.getCause());
+        }
+
+        @Test
+        @DisplayName("Should stay offline and keep the queued writes while ClickUp is still unreachable")
+        void refresh_whenStillUnreachable_shouldStayOffline() throws IOException {
+            // Arrange
+            goOffline();
+            service.trackTimeSpent(TEST_TASK_ID, TimeUnit.HOURS.toMillis(1), TEST_WORKSPACE_ID, false);
+            runBackgroundTasks();
+            doThrow(new ClickUpUnavailableException("Cannot reach ClickUp")).when(apiClient).testConnection();
+
+            // Act
+            service.refresh();
+
+            // Assert
+            assertTrue(service.isOffline());
+            assertEquals(1, service.getPendingWriteCount());
+            verify(apiClient, never()).trackTimeSpent(anyString(), anyLong(), anyString(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("Should stay online when a lookup runs out of time")
+        void getTask_timedOut_shouldStayOnline() throws IOException {
+            // Arrange
+            when(apiClient.fetchTask(TEST_TASK_ID, false, TEST_WORKSPACE_ID))
+                    .thenThrow(new ClickUpTimeoutException("ClickUp did not answer in time"));
+
+            // Act
+            assertThrows(ClickUpTimeoutException.class, () -> service.getTask(TEST_TASK_ID, false, TEST_WORKSPACE_ID));
+
+            // Assert
+            assertFalse(service.isOffline());
+            assertTrue(connectivity.isEmpty());
+        }
+
+        private void runBackgroundTasks() {
+            while (!backgroundTasks.isEmpty()) {
+                backgroundTasks.remove(0).run();
+            }
+        }
+
+        private void goOffline() throws IOException {
+            when(apiClient.fetchWorkspaces()).thenThrow(new ClickUpUnavailableException("Cannot reach ClickUp"));
+            assertThrows(ClickUpUnavailableException.class, () -> service.getWorkspaces());
+        }
+    }
+
     @Nested
     @DisplayName("Connection Testing")
     class ConnectionTesting {
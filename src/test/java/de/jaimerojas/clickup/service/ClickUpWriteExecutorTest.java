@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 Jaime Enrique Rojas Almonte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.jaimerojas.clickup.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ClickUpWriteExecutor Tests")
+class ClickUpWriteExecutorTest {
+
+    private final List<Runnable> started = new ArrayList<>();
+    private final List<String> written = new ArrayList<>();
+
+    private CompletableFuture<String> submit(ClickUpWriteExecutor executor, String key, String write) {
+        return executor.submit(key, () -> {
+            written.add(write);
+            return write;
+        });
+    }
+
+    private void runStarted() {
+        while (!started.isEmpty()) {
+            started.remove(0).run();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run the writes of one key one after another, in order")
+    void submit_sameKey_shouldRunInOrder() {
+        // Arrange
+        ClickUpWriteExecutor executor = new ClickUpWriteExecutor(started::add, 4);
+
+        // Act
+        submit(executor, "task", "first");
+        submit(executor, "task", "second");
+        CompletableFuture<String> third = submit(executor, "task", "third");
+
+        // Assert
+        assertEquals(1, started.size(), "Only the first write should be started");
+        assertEquals(3, executor.getQueueDepth("task"));
+        runStarted();
+        assertEquals(List.of("first", "second", "third"), written);
+        assertEquals("third", third.join());
+        assertEquals(0, executor.getQueueDepth("task"));
+    }
+
+    @Test
+    @DisplayName("Should run the writes of different keys concurrently, within the limit")
+    void submit_differentKeys_shouldRunConcurrentlyWithinLimit() {
+        // Arrange
+        ClickUpWriteExecutor executor = new ClickUpWriteExecutor(started::add, 2);
+
+        // Act
+        submit(executor, "a", "a1");
+        submit(executor, "b", "b1");
+        submit(executor, "c", "c1");
+
+        // Assert
+        assertEquals(2, started.size());
+        assertEquals(Map.of("a", 1, "b", 1, "c", 1), executor.getQueueDepths());
+        started.remove(0).run();
+        assertEquals(2, started.size(), "The waiting key should take the free slot");
+        runStarted();
+        assertEquals(List.of("a1", "b1", "c1"), written);
+        assertTrue(executor.getQueueDepths().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should let waiting keys take turns")
+    void submit_busyKey_shouldNotHoldBackOthers() {
+        // Arrange
+        ClickUpWriteExecutor executor = new ClickUpWriteExecutor(started::add, 1);
+
+        // Act
+        submit(executor, "a", "a1");
+        submit(executor, "a", "a2");
+        submit(executor, "b", "b1");
+        runStarted();
+
+        // Assert
+        assertEquals(List.of("a1", "b1", "a2"), written);
+    }
+
+    @Test
+    @DisplayName("Should fail only the write that failed")
+    void submit_failingWrite_shouldNotBlockTheKey() {
+        // Arrange
+        ClickUpWriteExecutor executor = new ClickUpWriteExecutor(Runnable::run, 1);
+
+        // Act
+        CompletableFuture<String> failed = executor.submit("task", () -> {
+            throw new IOException("Network error");
+        });
+        CompletableFuture<String> next = submit(executor, "task", "next");
+
+        // Assert
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals("next", next.join());
+        assertEquals(0, executor.getQueueDepth("task"));
+    }
+
+    @Test
+    @DisplayName("Should keep a rejected write queued and start it with the next dispatch")
+    void submit_rejectedByExecutor_shouldKeepWriteQueued() {
+        // Arrange
+        boolean[] reject = {true};
+        ClickUpWriteExecutor executor = new ClickUpWriteExecutor(command -> {
+            if (reject[0]) {
+                throw new RejectedExecutionException("Shutting down");
+            }
+            started.add(command);
+        }, 1);
+
+        // Act
+        assertThrows(RejectedExecutionException.class, () -> submit(executor, "a", "a1"));
+        reject[0] = false;
+        CompletableFuture<String> b1 = submit(executor, "b", "b1");
+        runStarted();
+
+        // Assert
+        assertEquals(List.of("a1", "b1"), written, "The rejected write should keep its slot and turn");
+        assertEquals("b1", b1.join());
+        assertEquals(0, executor.getQueueDepth("a"));
+    }
+}